@@ -0,0 +1,66 @@
+package me.stevelle.logging.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static me.stevelle.logging.KeyValuePair.kvp;
+
+/**
+ * Allocation of the overloads which build an argument array, with fresh arrays for each
+ * call. {@link ReusedArgumentArraysBenchmark} runs the same calls with per-thread scratch
+ * arrays.</p>
+ *
+ * <pre>
+ *   java -jar target/benchmarks.jar ArgumentArraysBenchmark -p sink=NOOP -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArgumentArraysBenchmark {
+
+    private final Map<String, Object> arguments = new LinkedHashMap<>();
+    private final Item first = new Item("A-100", "Anvil", 1);
+    private final Item second = new Item("B-200", "Bellows", 2);
+    private final String region = "us-west-2";
+
+    public ArgumentArraysBenchmark() {
+        arguments.put("region", region);
+        arguments.put("status", 200);
+        arguments.put("cached", false);
+    }
+
+    @Benchmark
+    public void twoSuppliers(BenchmarkLogging logging) {
+        logging.log.info("Request", "region", () -> region, "status", () -> 200);
+    }
+
+    @Benchmark
+    public void twoLoggables(BenchmarkLogging logging) {
+        logging.log.info("Shipped", first, second);
+    }
+
+    @Benchmark
+    public void mapEntries(BenchmarkLogging logging) {
+        logging.log.info("Request", arguments);
+    }
+
+    @Benchmark
+    public void threePairs(BenchmarkLogging logging) {
+        logging.log.info("Request", kvp("region", region), kvp("status", 200), kvp("cached", false));
+    }
+}
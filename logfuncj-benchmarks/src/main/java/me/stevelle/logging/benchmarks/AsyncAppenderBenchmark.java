@@ -0,0 +1,102 @@
+package me.stevelle.logging.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import me.stevelle.logging.Logger;
+import me.stevelle.logging.LoggerFactory;
+import me.stevelle.logging.RingBufferAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static me.stevelle.logging.KeyValuePair.kvp;
+
+/**
+ * Throughput of many threads logging structured events through Logback's <code>AsyncAppender</code>
+ * and through <code>RingBufferAppender</code> with each wait strategy, both delivering to the same
+ * synchronized sink.</p>
+ *
+ * <p>Raise the thread count towards the number of cores of the target host:</p>
+ * <pre>
+ *   java -jar target/benchmarks.jar AsyncAppenderBenchmark -t 64
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class AsyncAppenderBenchmark {
+
+    private static final String LOGGER_NAME = "me.stevelle.logging.benchmarks.async";
+    private static final int BUFFER_SIZE = 1024;
+
+    @Param({"ASYNC_APPENDER", "RING_PARK", "RING_YIELD", "RING_SPIN"})
+    public String queue;
+
+    private Logger log;
+    private ch.qos.logback.classic.Logger innerLogger;
+
+    @Setup
+    public void configure() {
+        LoggerContext context = (LoggerContext) org.slf4j.LoggerFactory.getILoggerFactory();
+        innerLogger = context.getLogger(LOGGER_NAME);
+        innerLogger.detachAndStopAllAppenders();
+        innerLogger.setAdditive(false);
+        innerLogger.setLevel(Level.INFO);
+
+        CountingAppender sink = new CountingAppender();
+        sink.setContext(context);
+        sink.setName("SINK");
+        sink.start();
+
+        UnsynchronizedAppenderBase<ILoggingEvent> appender;
+        if ("ASYNC_APPENDER".equals(queue)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setQueueSize(BUFFER_SIZE);
+            async.setDiscardingThreshold(0);
+            async.addAppender(sink);
+            appender = async;
+        } else {
+            RingBufferAppender ring = new RingBufferAppender();
+            ring.setBufferSize(BUFFER_SIZE);
+            ring.setWaitStrategy(RingBufferAppender.WaitStrategy.valueOf(queue.substring("RING_".length())));
+            ring.addAppender(sink);
+            appender = ring;
+        }
+        appender.setContext(context);
+        appender.setName(queue);
+        appender.start();
+        innerLogger.addAppender(appender);
+
+        log = LoggerFactory.getLogger(LOGGER_NAME);
+    }
+
+    @TearDown
+    public void reset() {
+        innerLogger.detachAndStopAllAppenders();
+        innerLogger.setLevel(null);
+    }
+
+    @Benchmark
+    public void structuredEvent() {
+        log.info("Request", kvp("region", "us-west-2"), kvp("status", 200), kvp("latency", 0.012));
+    }
+}
@@ -0,0 +1,78 @@
+package me.stevelle.logging.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import me.stevelle.logging.Logger;
+import me.stevelle.logging.LoggerFactory;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Shared benchmark state which wires a dedicated logger to one of the measured sinks.</p>
+ *
+ * <ul>
+ *   <li><code>DISABLED</code> the logger is set to WARN, so every INFO call is rejected by the level check</li>
+ *   <li><code>NOOP</code> the logger is enabled for INFO and appends to an appender which discards events</li>
+ *   <li><code>JSON</code> the logger is enabled for INFO and each event is encoded by a <code>LogstashEncoder</code></li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class BenchmarkLogging {
+
+    static final String LOGGER_NAME = "me.stevelle.logging.benchmarks";
+
+    @Param({"DISABLED", "NOOP", "JSON"})
+    public String sink;
+
+    public Logger log;
+
+    private ch.qos.logback.classic.Logger innerLogger;
+    private Appender<ILoggingEvent> appender;
+
+    @Setup
+    public void configure() {
+        LoggerContext context = (LoggerContext) org.slf4j.LoggerFactory.getILoggerFactory();
+        innerLogger = context.getLogger(LOGGER_NAME);
+        innerLogger.detachAndStopAllAppenders();
+        innerLogger.setAdditive(false);
+
+        switch (sink) {
+            case "DISABLED":
+                innerLogger.setLevel(Level.WARN);
+                appender = new NoopAppender();
+                break;
+            case "NOOP":
+                innerLogger.setLevel(Level.INFO);
+                appender = new NoopAppender();
+                break;
+            case "JSON":
+                innerLogger.setLevel(Level.INFO);
+                LogstashEncoder encoder = new LogstashEncoder();
+                encoder.setContext(context);
+                encoder.start();
+                appender = new EncodingAppender(encoder);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown sink: " + sink);
+        }
+
+        appender.setContext(context);
+        appender.setName(sink);
+        appender.start();
+        innerLogger.addAppender(appender);
+
+        log = LoggerFactory.getLogger(LOGGER_NAME);
+    }
+
+    @TearDown
+    public void reset() {
+        innerLogger.detachAndStopAllAppenders();
+        innerLogger.setLevel(null);
+    }
+}
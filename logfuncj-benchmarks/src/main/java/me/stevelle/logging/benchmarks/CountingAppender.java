@@ -0,0 +1,22 @@
+package me.stevelle.logging.benchmarks;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+
+/**
+ * Synchronized appender which counts the events it receives, standing in for the
+ * <code>TestAppender</code> of the unit tests without retaining every event.
+ */
+public class CountingAppender extends AppenderBase<ILoggingEvent> {
+
+    private long count;
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        count++;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+}
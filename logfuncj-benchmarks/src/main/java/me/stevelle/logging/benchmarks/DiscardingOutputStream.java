@@ -0,0 +1,19 @@
+package me.stevelle.logging.benchmarks;
+
+import java.io.OutputStream;
+
+/**
+ * OutputStream which discards everything written to it.
+ */
+class DiscardingOutputStream extends OutputStream {
+
+    @Override
+    public void write(int b) {
+        // intentionally empty
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        // intentionally empty
+    }
+}
@@ -0,0 +1,32 @@
+package me.stevelle.logging.benchmarks;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+
+/**
+ * Appender which fully encodes every event and then discards the bytes, so the
+ * measured cost includes the encoder but no I/O.
+ */
+public class EncodingAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    private final Encoder<ILoggingEvent> encoder;
+
+    /**
+     * Count of bytes encoded, kept so the encoded output is never dead code
+     */
+    private long encodedBytes;
+
+    public EncodingAppender(Encoder<ILoggingEvent> encoder) {
+        this.encoder = encoder;
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        encodedBytes += encoder.encode(event).length;
+    }
+
+    public long getEncodedBytes() {
+        return encodedBytes;
+    }
+}
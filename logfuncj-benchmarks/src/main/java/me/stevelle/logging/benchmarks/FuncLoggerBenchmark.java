@@ -0,0 +1,109 @@
+package me.stevelle.logging.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static me.stevelle.logging.KeyValuePair.kfp;
+import static me.stevelle.logging.KeyValuePair.kvp;
+
+/**
+ * Measures every overload shape of {@link me.stevelle.logging.Logger} at INFO, against each
+ * sink described in {@link BenchmarkLogging}.</p>
+ *
+ * <p>Run with the GC profiler to report allocation per call alongside latency:</p>
+ * <pre>
+ *   java -jar target/benchmarks.jar FuncLoggerBenchmark -prof gc
+ * </pre>
+ *
+ * <p>The <code>gc.alloc.rate.norm</code> column gives bytes/op; for the <code>DISABLED</code>
+ * sink it shows what a call costs before the level check rejects it.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FuncLoggerBenchmark {
+
+    private final Item first = new Item("A-100", "Anvil", 1);
+    private final Item second = new Item("B-200", "Bellows", 2);
+    private final Item third = new Item("C-300", "Crucible", 3);
+    private final List<String> list = new ArrayList<>();
+    private final Map<String, Object> map = new HashMap<>();
+    private final String requestId = "3f2a0c1e";
+
+    public FuncLoggerBenchmark() {
+        list.add("one");
+        list.add("two");
+        map.put("region", "us-west-2");
+        map.put("attempt", 3);
+        map.put("item", first);
+    }
+
+    @Benchmark
+    public void slf4jObject(BenchmarkLogging logging) {
+        logging.log.info("Baseline {}", requestId);
+    }
+
+    @Benchmark
+    public void loggable(BenchmarkLogging logging) {
+        logging.log.info("Shipped {}", first);
+    }
+
+    @Benchmark
+    public void twoLoggables(BenchmarkLogging logging) {
+        logging.log.info("Shipped {} {}", first, second);
+    }
+
+    @Benchmark
+    public void varargsLoggables(BenchmarkLogging logging) {
+        logging.log.info("Shipped {} {} {}", first, second, third);
+    }
+
+    @Benchmark
+    public void supplier(BenchmarkLogging logging) {
+        logging.log.info("Updated List {}", "size", list::size);
+    }
+
+    @Benchmark
+    public void twoSuppliers(BenchmarkLogging logging) {
+        logging.log.info("Updated List {} {}", "size", list::size, "empty", list::isEmpty);
+    }
+
+    @Benchmark
+    public void function(BenchmarkLogging logging) {
+        logging.log.info("Lookup {}", "contains", list::contains, requestId);
+    }
+
+    @Benchmark
+    public void biFunction(BenchmarkLogging logging) {
+        logging.log.info("Joined {}", "joined", String::concat, requestId, "-suffix");
+    }
+
+    @Benchmark
+    public void map(BenchmarkLogging logging) {
+        logging.log.info("Context {}", map);
+    }
+
+    @Benchmark
+    public void keyValuePairs(BenchmarkLogging logging) {
+        logging.log.info("Completed Request {}",
+                kvp("requestId", requestId),
+                kfp("size", list::size),
+                kfp("first", list::get, 0));
+    }
+}
@@ -0,0 +1,27 @@
+package me.stevelle.logging.benchmarks;
+
+import me.stevelle.logging.Loggable;
+
+/**
+ * A small Loggable fixture with an overridden builder, similar to the domain
+ * objects the library is intended to log.
+ */
+public class Item implements Loggable {
+
+    public final String sku;
+    public final String name;
+    public final int quantity;
+
+    public Item(String sku, String name, int quantity) {
+        this.sku = sku;
+        this.name = name;
+        this.quantity = quantity;
+    }
+
+    @Override
+    public Builder logFormat() {
+        return new Loggable.Builder()
+                .with("sku", this.sku)
+                .with("quantity", this.quantity);
+    }
+}
@@ -0,0 +1,67 @@
+package me.stevelle.logging.benchmarks;
+
+import me.stevelle.logging.LogContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+
+import java.util.concurrent.TimeUnit;
+
+import static me.stevelle.logging.KeyValuePair.kvp;
+
+/**
+ * Cost of request fields for a request logging three events, held in the SLF4J
+ * <code>MDC</code> with put and remove, or in a {@link LogContext} scope.</p>
+ *
+ * <pre>
+ *   java -jar target/benchmarks.jar LogContextBenchmark -p sink=JSON -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LogContextBenchmark {
+
+    private static final String REQUEST = "7f9c4d2e-b1a8-4c35-9e0d-2a6b1c8f3e47";
+    private static final String USER = "alice";
+
+    private int request;
+
+    @Benchmark
+    public void mdcPerRequest(BenchmarkLogging logging) {
+        MDC.put("request", REQUEST);
+        MDC.put("user", USER);
+        MDC.put("attempt", Integer.toString(++request));
+        try {
+            logRequest(logging);
+        } finally {
+            MDC.remove("request");
+            MDC.remove("user");
+            MDC.remove("attempt");
+        }
+    }
+
+    @Benchmark
+    public void logContextPerRequest(BenchmarkLogging logging) {
+        try (LogContext.Scope scope = LogContext.with(kvp("request", REQUEST), kvp("user", USER),
+                kvp("attempt", ++request))) {
+            logRequest(logging);
+        }
+    }
+
+    private static void logRequest(BenchmarkLogging logging) {
+        logging.log.info("Received");
+        logging.log.info("Validated");
+        logging.log.info("Completed");
+    }
+}
@@ -0,0 +1,64 @@
+package me.stevelle.logging.benchmarks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.logstash.logback.argument.StructuredArgument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static net.logstash.logback.argument.StructuredArguments.fields;
+
+/**
+ * Compares writing the default <code>Loggable</code> representation through the cached
+ * per-class plan used by {@link me.stevelle.logging.Loggable#log()} against Jackson's
+ * <code>fields(this)</code> object mapping.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoggableFieldsBenchmark {
+
+    private final Shipment shipment = new Shipment("1Z999AA10123456784", "UPS", 2, 1450L, true);
+    private JsonGenerator generator;
+
+    @Setup
+    public void openGenerator() throws IOException {
+        generator = new ObjectMapper().getFactory().createGenerator(new DiscardingOutputStream());
+    }
+
+    @TearDown
+    public void closeGenerator() throws IOException {
+        generator.close();
+    }
+
+    @Benchmark
+    public void jacksonFields() throws IOException {
+        write(fields(shipment));
+    }
+
+    @Benchmark
+    public void loggableLog() throws IOException {
+        write(shipment.log());
+    }
+
+    private void write(StructuredArgument argument) throws IOException {
+        generator.writeStartObject();
+        argument.writeTo(generator);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,123 @@
+package me.stevelle.logging.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.MarkerFilter;
+import me.stevelle.logging.Logger;
+import me.stevelle.logging.LoggerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import static me.stevelle.logging.KeyValuePair.kfp;
+import static me.stevelle.logging.KeyValuePair.kvp;
+
+/**
+ * Cost of marker overloads whose events are rejected before any value is evaluated.</p>
+ *
+ * <ul>
+ *   <li><code>LEVEL</code> the logger is set to WARN, so every INFO call is rejected by the cached level</li>
+ *   <li><code>MARKER_FILTER</code> the logger is enabled for INFO, and a <code>MarkerFilter</code> denies
+ *   the marker, so every call is rejected by Logback's turbo filter chain</li>
+ * </ul>
+ *
+ * <pre>
+ *   java -jar target/benchmarks.jar MarkerFilteredBenchmark -prof gc
+ * </pre>
+ *
+ * <p>Neither case should allocate beyond the capturing lambdas of the call site.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MarkerFilteredBenchmark {
+
+    private static final String LOGGER_NAME = "me.stevelle.logging.benchmarks.markers";
+    private static final Marker NOISY = MarkerFactory.getMarker("NOISY");
+
+    @Param({"LEVEL", "MARKER_FILTER"})
+    public String rejection;
+
+    private final Item item = new Item("A-100", "Anvil", 1);
+    private final String requestId = "3f2a0c1e";
+
+    private LoggerContext context;
+    private ch.qos.logback.classic.Logger innerLogger;
+    private Logger log;
+
+    @Setup
+    public void configure() {
+        context = (LoggerContext) org.slf4j.LoggerFactory.getILoggerFactory();
+        innerLogger = context.getLogger(LOGGER_NAME);
+        innerLogger.detachAndStopAllAppenders();
+        innerLogger.setAdditive(false);
+        NoopAppender appender = new NoopAppender();
+        appender.setContext(context);
+        appender.start();
+        innerLogger.addAppender(appender);
+
+        switch (rejection) {
+            case "LEVEL":
+                innerLogger.setLevel(Level.WARN);
+                break;
+            case "MARKER_FILTER":
+                innerLogger.setLevel(Level.INFO);
+                MarkerFilter filter = new MarkerFilter();
+                filter.setContext(context);
+                filter.setMarker(NOISY.getName());
+                filter.setOnMatch("DENY");
+                filter.start();
+                context.addTurboFilter(filter);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown rejection: " + rejection);
+        }
+        LoggerFactory.refreshLevels();
+
+        log = LoggerFactory.getLogger(LOGGER_NAME);
+    }
+
+    @TearDown
+    public void reset() {
+        context.resetTurboFilterList();
+        innerLogger.detachAndStopAllAppenders();
+        innerLogger.setLevel(null);
+        LoggerFactory.refreshLevels();
+    }
+
+    @Benchmark
+    public void slf4jObject() {
+        log.info(NOISY, "Baseline {}", requestId);
+    }
+
+    @Benchmark
+    public void keySupplier() {
+        log.info(NOISY, "Request", "requestId", () -> requestId);
+    }
+
+    @Benchmark
+    public void loggable() {
+        log.info(NOISY, "Shipped", item);
+    }
+
+    @Benchmark
+    public void keyValuePairs() {
+        log.info(NOISY, "Request", kvp("requestId", requestId), kfp("item", () -> item));
+    }
+}
@@ -0,0 +1,15 @@
+package me.stevelle.logging.benchmarks;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+
+/**
+ * Appender which accepts and discards every event, isolating the cost of the logger itself.
+ */
+public class NoopAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // intentionally empty
+    }
+}
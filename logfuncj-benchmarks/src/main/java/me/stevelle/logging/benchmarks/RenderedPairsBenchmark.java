@@ -0,0 +1,61 @@
+package me.stevelle.logging.benchmarks;
+
+import me.stevelle.logging.KeyValuePair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static me.stevelle.logging.KeyValuePair.kvp;
+import static me.stevelle.logging.KeyValuePair.rendered;
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Cost of attaching the same static context fields to every event, as separate
+ * <code>kv</code> arguments, as <code>kvp</code> pairs, or as one group pre-rendered by
+ * {@link KeyValuePair#rendered(KeyValuePair[])}.</p>
+ *
+ * <pre>
+ *   java -jar target/benchmarks.jar RenderedPairsBenchmark -p sink=JSON -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderedPairsBenchmark {
+
+    private static final String SERVICE = "orders";
+    private static final String REGION = "us-west-2";
+    private static final String VERSION = "1.4.0-b1234";
+    private static final String HOST = "orders-7f9c4d-x2k8p";
+
+    private static final KeyValuePair<Void> CONTEXT = rendered(kvp("service", SERVICE),
+            kvp("region", REGION), kvp("version", VERSION), kvp("host", HOST));
+
+    @Benchmark
+    public void kvArguments(BenchmarkLogging logging) {
+        logging.log.info("Completed", kv("service", SERVICE), kv("region", REGION),
+                kv("version", VERSION), kv("host", HOST), kv("status", 200));
+    }
+
+    @Benchmark
+    public void kvpPairs(BenchmarkLogging logging) {
+        logging.log.info("Completed", kvp("service", SERVICE), kvp("region", REGION),
+                kvp("version", VERSION), kvp("host", HOST), kvp("status", 200));
+    }
+
+    @Benchmark
+    public void renderedPairs(BenchmarkLogging logging) {
+        logging.log.info("Completed", CONTEXT, kvp("status", 200));
+    }
+}
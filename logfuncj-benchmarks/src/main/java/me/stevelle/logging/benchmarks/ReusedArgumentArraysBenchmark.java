@@ -0,0 +1,11 @@
+package me.stevelle.logging.benchmarks;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * The calls of {@link ArgumentArraysBenchmark} with per-thread scratch argument arrays
+ * enabled; compare their <code>gc.alloc.rate.norm</code>.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Dlogfuncj.reuseArgumentArrays=true")
+public class ReusedArgumentArraysBenchmark extends ArgumentArraysBenchmark {
+}
@@ -0,0 +1,32 @@
+package me.stevelle.logging.benchmarks;
+
+import me.stevelle.logging.Loggable;
+
+/**
+ * A Loggable fixture relying on the default representation, with a mix of
+ * public fields and bean accessors.
+ */
+public class Shipment implements Loggable {
+
+    public final String trackingId;
+    public final String carrier;
+    public final int parcels;
+    private final long weightGrams;
+    private final boolean expedited;
+
+    public Shipment(String trackingId, String carrier, int parcels, long weightGrams, boolean expedited) {
+        this.trackingId = trackingId;
+        this.carrier = carrier;
+        this.parcels = parcels;
+        this.weightGrams = weightGrams;
+        this.expedited = expedited;
+    }
+
+    public long getWeightGrams() {
+        return weightGrams;
+    }
+
+    public boolean isExpedited() {
+        return expedited;
+    }
+}
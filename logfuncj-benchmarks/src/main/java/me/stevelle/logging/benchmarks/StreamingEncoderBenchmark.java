@@ -0,0 +1,104 @@
+package me.stevelle.logging.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.encoder.Encoder;
+import me.stevelle.logging.Logger;
+import me.stevelle.logging.LoggerFactory;
+import me.stevelle.logging.StreamingJsonEncoder;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static me.stevelle.logging.KeyValuePair.kvp;
+
+/**
+ * Throughput of logging and encoding events with several key/value pairs, either as one
+ * <code>StructuredArgument</code> per pair encoded by a <code>LogstashEncoder</code>, or
+ * recorded by a recording logger and encoded by a <code>StreamingJsonEncoder</code>.</p>
+ *
+ * <pre>
+ *   java -jar target/benchmarks.jar StreamingEncoderBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamingEncoderBenchmark {
+
+    private static final String LOGGER_NAME = "me.stevelle.logging.benchmarks.streaming";
+
+    @Param({"LOGSTASH", "STREAMING"})
+    public String pipeline;
+
+    private final Map<String, Object> arguments = new LinkedHashMap<>();
+
+    private Logger log;
+    private ch.qos.logback.classic.Logger innerLogger;
+
+    @Setup
+    public void configure() {
+        LoggerContext context = (LoggerContext) org.slf4j.LoggerFactory.getILoggerFactory();
+        innerLogger = context.getLogger(LOGGER_NAME);
+        innerLogger.detachAndStopAllAppenders();
+        innerLogger.setAdditive(false);
+        innerLogger.setLevel(Level.INFO);
+
+        Encoder<ILoggingEvent> encoder;
+        if ("LOGSTASH".equals(pipeline)) {
+            encoder = new LogstashEncoder();
+            log = LoggerFactory.getLogger(LOGGER_NAME);
+        } else {
+            encoder = new StreamingJsonEncoder();
+            log = LoggerFactory.getRecordingLogger(LOGGER_NAME);
+        }
+        encoder.setContext(context);
+        encoder.start();
+
+        EncodingAppender appender = new EncodingAppender(encoder);
+        appender.setContext(context);
+        appender.setName(pipeline);
+        appender.start();
+        innerLogger.addAppender(appender);
+
+        arguments.put("region", "us-west-2");
+        arguments.put("tenant", "acme");
+        arguments.put("status", 200);
+        arguments.put("bytes", 5120L);
+    }
+
+    @TearDown
+    public void reset() {
+        innerLogger.detachAndStopAllAppenders();
+        innerLogger.setLevel(null);
+    }
+
+    @Benchmark
+    public void sixPairs() {
+        log.info("Request", kvp("region", "us-west-2"), kvp("tenant", "acme"), kvp("status", 200),
+                kvp("bytes", 5120L), kvp("latency", 0.012), kvp("cached", false));
+    }
+
+    @Benchmark
+    public void mapEntries() {
+        log.info("Request", arguments);
+    }
+}
@@ -0,0 +1,56 @@
+package me.stevelle.logging.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static me.stevelle.logging.KeyValuePair.kvp;
+
+/**
+ * Regression benchmark for structuring the varargs <code>KeyValuePair</code> and
+ * <code>Loggable</code> overloads, which should allocate only the resulting argument
+ * array beyond the arguments themselves.</p>
+ *
+ * <p>Compare <code>gc.alloc.rate.norm</code> across versions with the no-op sink:</p>
+ * <pre>
+ *   java -jar target/benchmarks.jar VarargsStructuringBenchmark -p sink=NOOP -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VarargsStructuringBenchmark {
+
+    private final Item first = new Item("A-100", "Anvil", 1);
+    private final Item second = new Item("B-200", "Bellows", 2);
+    private final Item third = new Item("C-300", "Crucible", 3);
+    private final String region = "us-west-2";
+    private final String tenant = "acme";
+
+    @Benchmark
+    public void threePairs(BenchmarkLogging logging) {
+        logging.log.info("Request", kvp("region", region), kvp("tenant", tenant), kvp("status", 200));
+    }
+
+    @Benchmark
+    public void sixPairs(BenchmarkLogging logging) {
+        logging.log.info("Request", kvp("region", region), kvp("tenant", tenant), kvp("status", 200),
+                kvp("bytes", 5120L), kvp("latency", 0.012), kvp("cached", false));
+    }
+
+    @Benchmark
+    public void threeLoggables(BenchmarkLogging logging) {
+        logging.log.info("Shipped", first, second, third);
+    }
+}
@@ -0,0 +1,377 @@
+package me.stevelle.logging.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a loggable representation for each <code>Loggable</code> class using the
+ * <code>LogField</code>, <code>LogAs</code> and <code>LogExclude</code> annotations.</p>
+ *
+ * <p>For a class <code>Book</code> the processor writes <code>LogFormat_Book</code> into the
+ * same package. It is a <code>StructuredArgument</code> which copies the selected fields
+ * when constructed and writes each one with a pre-encoded key, primitives without boxing.
+ * The class returns it from <code>log()</code>:</p>
+ * <pre>
+ *   &#64;Override
+ *   public StructuredArgument log() {
+ *       return new LogFormat_Book(this);
+ *   }
+ * </pre>
+ *
+ * <p>Private fields are read through a non-private <em>get</em> or <em>is</em> accessor.</p>
+ */
+@SupportedAnnotationTypes({
+        LogFormatProcessor.LOG_FIELD,
+        LogFormatProcessor.LOG_AS,
+        LogFormatProcessor.LOG_EXCLUDE})
+public class LogFormatProcessor extends AbstractProcessor {
+
+    static final String LOG_FIELD = "me.stevelle.logging.LogField";
+    static final String LOG_AS = "me.stevelle.logging.LogAs";
+    static final String LOG_EXCLUDE = "me.stevelle.logging.LogExclude";
+    static final String LOGGABLE = "me.stevelle.logging.Loggable";
+    static final String PREFIX = "LogFormat_";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> annotated = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                Element type = ElementKind.FIELD == element.getKind() ? element.getEnclosingElement() : element;
+                if (type.getKind().isClass()) {
+                    annotated.add((TypeElement) type);
+                }
+            }
+        }
+
+        for (TypeElement type : annotated) {
+            try {
+                generate(type);
+            } catch (IOException e) {
+                messager().printMessage(Diagnostic.Kind.ERROR,
+                        "Unable to write log format for " + type + ": " + e.getMessage(), type);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        TypeElement loggable = processingEnv.getElementUtils().getTypeElement(LOGGABLE);
+        if (null == loggable || !processingEnv.getTypeUtils().isAssignable(
+                processingEnv.getTypeUtils().erasure(type.asType()), loggable.asType())) {
+            messager().printMessage(Diagnostic.Kind.ERROR,
+                    "Classes using @LogField, @LogAs or @LogExclude must implement " + LOGGABLE, type);
+            return;
+        }
+        if (type.getModifiers().contains(Modifier.PRIVATE)) {
+            messager().printMessage(Diagnostic.Kind.ERROR,
+                    "Log formats cannot be generated for private classes", type);
+            return;
+        }
+
+        List<Property> properties = propertiesOf(type);
+        if (null == properties) {
+            return;
+        }
+
+        String packageName = packageOf(type).getQualifiedName().toString();
+        String generatedName = PREFIX + flatName(type);
+        String qualifiedName = packageName.isEmpty() ? generatedName : packageName + "." + generatedName;
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+        try (PrintWriter out = new PrintWriter(file.openWriter())) {
+            write(out, packageName, generatedName, type, properties);
+        }
+    }
+
+    /**
+     * Select the logged fields of a class, or null if any of them cannot be read.
+     */
+    private List<Property> propertiesOf(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)) {
+                fields.add(field);
+            }
+        }
+
+        // a class-level @LogField logs every field, otherwise only the annotated ones
+        boolean selective = null == annotation(type, LOG_FIELD);
+
+        List<Property> properties = new ArrayList<>();
+        boolean readable = true;
+        for (VariableElement field : fields) {
+            boolean selected = selective
+                    ? null != annotation(field, LOG_FIELD) || null != annotation(field, LOG_AS)
+                    : null == annotation(field, LOG_EXCLUDE);
+            if (!selected) {
+                continue;
+            }
+            String access = accessOf(type, field);
+            if (null == access) {
+                messager().printMessage(Diagnostic.Kind.ERROR,
+                        "Field " + field.getSimpleName() + " is private and has no accessor to log it by", field);
+                readable = false;
+                continue;
+            }
+            properties.add(new Property(keyOf(field), field.getSimpleName().toString(), access, field.asType()));
+        }
+        return readable ? properties : null;
+    }
+
+    private String accessOf(TypeElement type, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return name;
+        }
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            String methodName = method.getSimpleName().toString();
+            boolean accessor = methodName.equals("get" + capitalized)
+                    || (TypeKind.BOOLEAN == field.asType().getKind() && methodName.equals("is" + capitalized));
+            if (accessor && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                return methodName + "()";
+            }
+        }
+        return null;
+    }
+
+    private String keyOf(VariableElement field) {
+        AnnotationMirror alias = annotation(field, LOG_AS);
+        if (null != alias) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+                    : alias.getElementValues().entrySet()) {
+                if (value.getKey().getSimpleName().contentEquals("value")) {
+                    return value.getValue().getValue().toString();
+                }
+            }
+        }
+        return field.getSimpleName().toString();
+    }
+
+    private void write(PrintWriter out, String packageName, String generatedName, TypeElement type,
+                       List<Property> properties) {
+        if (!packageName.isEmpty()) {
+            out.println("package " + packageName + ";");
+            out.println();
+        }
+        out.println("import com.fasterxml.jackson.core.JsonGenerator;");
+        out.println("import com.fasterxml.jackson.core.io.SerializedString;");
+        out.println("import net.logstash.logback.argument.StructuredArgument;");
+        out.println();
+        out.println("import java.io.IOException;");
+        out.println();
+        out.println("/**");
+        out.println(" * Loggable representation of {@link " + type.getQualifiedName() + "}.</p>");
+        out.println(" *");
+        out.println(" * <p>Generated by " + getClass().getName() + ", do not edit.</p>");
+        out.println(" */");
+        out.println("final class " + generatedName + " implements StructuredArgument {");
+        out.println();
+        for (int x = 0; x < properties.size(); x++) {
+            out.println("    private static final SerializedString KEY_" + x
+                    + " = new SerializedString(" + literal(properties.get(x).key) + ");");
+        }
+        out.println();
+        for (Property property : properties) {
+            out.println("    private final " + property.storedType() + " " + property.field + ";");
+        }
+        out.println();
+        out.println("    " + generatedName + "(" + sourceType(type) + " source) {");
+        for (Property property : properties) {
+            out.println("        this." + property.field + " = source." + property.access + ";");
+        }
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    public void writeTo(JsonGenerator generator) throws IOException {");
+        for (int x = 0; x < properties.size(); x++) {
+            Property property = properties.get(x);
+            out.println("        generator.writeFieldName(KEY_" + x + ");");
+            out.println("        generator." + property.writer() + "(" + property.written() + ");");
+        }
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    public String toString() {");
+        StringBuilder rendered = new StringBuilder("\"{");
+        for (int x = 0; x < properties.size(); x++) {
+            Property property = properties.get(x);
+            rendered.append(x == 0 ? "" : ", ")
+                    .append(escape(property.key)).append('=')
+                    .append("\" + this.").append(property.field).append(" + \"");
+        }
+        rendered.append("}\"");
+        out.println("        return " + rendered + ";");
+        out.println("    }");
+        out.println("}");
+    }
+
+    private Messager messager() {
+        return processingEnv.getMessager();
+    }
+
+    private static AnnotationMirror annotation(Element element, String annotationType) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement declared = (TypeElement) mirror.getAnnotationType().asElement();
+            if (declared.getQualifiedName().contentEquals(annotationType)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static PackageElement packageOf(Element element) {
+        Element current = element;
+        while (ElementKind.PACKAGE != current.getKind()) {
+            current = current.getEnclosingElement();
+        }
+        return (PackageElement) current;
+    }
+
+    /**
+     * Simple names of a class and its enclosing classes, joined with underscores.
+     */
+    private static String flatName(TypeElement type) {
+        String name = type.getSimpleName().toString();
+        Element enclosing = type.getEnclosingElement();
+        return enclosing.getKind().isClass() || enclosing.getKind().isInterface()
+                ? flatName((TypeElement) enclosing) + "_" + name
+                : name;
+    }
+
+    private static String sourceType(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getQualifiedName());
+        int parameters = type.getTypeParameters().size();
+        if (parameters > 0) {
+            name.append('<');
+            for (int x = 0; x < parameters; x++) {
+                name.append(x == 0 ? "?" : ", ?");
+            }
+            name.append('>');
+        }
+        return name.toString();
+    }
+
+    private static String literal(String value) {
+        return '"' + escape(value) + '"';
+    }
+
+    private static String escape(String value) {
+        StringBuilder literal = new StringBuilder();
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (Character.isISOControl(c)) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.toString();
+    }
+
+    /**
+     * A logged field, with the expression reading it from the source object.
+     */
+    private static final class Property {
+        private final String key;
+        private final String field;
+        private final String access;
+        private final TypeMirror type;
+
+        Property(String key, String field, String access, TypeMirror type) {
+            this.key = key;
+            this.field = field;
+            this.access = access;
+            this.type = type;
+        }
+
+        String storedType() {
+            if (type.getKind().isPrimitive()) {
+                return type.toString();
+            }
+            return isString() ? "String" : "Object";
+        }
+
+        String writer() {
+            switch (type.getKind()) {
+                case BOOLEAN:
+                    return "writeBoolean";
+                case BYTE:
+                case SHORT:
+                case INT:
+                case LONG:
+                case FLOAT:
+                case DOUBLE:
+                    return "writeNumber";
+                case CHAR:
+                    return "writeString";
+                default:
+                    return isString() ? "writeString" : "writeObject";
+            }
+        }
+
+        String written() {
+            if (TypeKind.CHAR == type.getKind()) {
+                return "String.valueOf(this." + field + ")";
+            }
+            if (TypeKind.BYTE == type.getKind() || TypeKind.SHORT == type.getKind()) {
+                return "(int) this." + field;
+            }
+            return "this." + field;
+        }
+
+        private boolean isString() {
+            return TypeKind.DECLARED == type.getKind() && "java.lang.String".equals(type.toString());
+        }
+    }
+}
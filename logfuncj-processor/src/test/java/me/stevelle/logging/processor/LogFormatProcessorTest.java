@@ -0,0 +1,137 @@
+package me.stevelle.logging.processor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.stevelle.logging.Loggable;
+import net.logstash.logback.argument.StructuredArgument;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LogFormatProcessorTest {
+
+    private static final String CREDENTIAL = "package sample;\n"
+            + "import me.stevelle.logging.*;\n"
+            + "import net.logstash.logback.argument.StructuredArgument;\n"
+            + "@LogField\n"
+            + "public class Credential implements Loggable {\n"
+            + "    @LogAs(\"user\") String name;\n"
+            + "    @LogExclude Byte[] secret;\n"
+            + "    private int joinedYear;\n"
+            + "    private boolean active;\n"
+            + "    public Credential(String name, int joinedYear, boolean active) {\n"
+            + "        this.name = name; this.joinedYear = joinedYear; this.active = active;\n"
+            + "    }\n"
+            + "    public int getJoinedYear() { return joinedYear; }\n"
+            + "    public boolean isActive() { return active; }\n"
+            + "    @Override public StructuredArgument log() { return new LogFormat_Credential(this); }\n"
+            + "}\n";
+
+    private static final String UNREADABLE = "package sample;\n"
+            + "import me.stevelle.logging.*;\n"
+            + "public class Unreadable implements Loggable {\n"
+            + "    @LogField private String hidden;\n"
+            + "}\n";
+
+    private static final String ESCAPED = "package sample;\n"
+            + "import me.stevelle.logging.*;\n"
+            + "import net.logstash.logback.argument.StructuredArgument;\n"
+            + "public class Escaped implements Loggable {\n"
+            + "    @LogField @LogAs(\"line\\r\\nnext\\tcol\\u0001\") String name = \"alice\";\n"
+            + "    @Override public StructuredArgument log() { return new LogFormat_Escaped(this); }\n"
+            + "}\n";
+
+    private Path workDir;
+
+    @Before
+    public void createWorkDir() throws IOException {
+        workDir = Files.createTempDirectory("logfuncj-processor");
+    }
+
+    @Test
+    public void testGeneratedFormatWritesSelectedFields() throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("Credential", CREDENTIAL);
+        assertThat(diagnostics.getDiagnostics().toString(), diagnostics.getDiagnostics().isEmpty(), is(true));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{workDir.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Loggable credential = (Loggable) loader.loadClass("sample.Credential")
+                    .getConstructor(String.class, int.class, boolean.class)
+                    .newInstance("alice", 2001, true);
+            StructuredArgument argument = credential.log();
+
+            assertThat(json(argument), equalTo("{\"user\":\"alice\",\"joinedYear\":2001,\"active\":true}"));
+            assertThat(argument.toString(), equalTo("{user=alice, joinedYear=2001, active=true}"));
+        }
+    }
+
+    @Test
+    public void testPrivateFieldWithoutAccessorIsAnError() throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("Unreadable", UNREADABLE);
+
+        assertThat(diagnostics.getDiagnostics().size(), equalTo(1));
+        Diagnostic<? extends JavaFileObject> error = diagnostics.getDiagnostics().get(0);
+        assertThat(error.getKind(), equalTo(Diagnostic.Kind.ERROR));
+        assertThat(error.getMessage(null), containsString("hidden is private"));
+    }
+
+    @Test
+    public void testControlCharactersInKeysAreEscaped() throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("Escaped", ESCAPED);
+        assertThat(diagnostics.getDiagnostics().toString(), diagnostics.getDiagnostics().isEmpty(), is(true));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{workDir.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Loggable escaped = (Loggable) loader.loadClass("sample.Escaped").newInstance();
+
+            assertThat(json(escaped.log()), equalTo("{\"line\\r\\nnext\\tcol\\u0001\":\"alice\"}"));
+        }
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(String className, String source) throws IOException {
+        Path sourceFile = workDir.resolve(className + ".java");
+        Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics,
+                    Arrays.asList("-d", workDir.toString(), "-s", workDir.toString(),
+                            "-classpath", System.getProperty("java.class.path")),
+                    null, files.getJavaFileObjectsFromFiles(Collections.singletonList(sourceFile.toFile())));
+            task.setProcessors(Collections.singletonList(new LogFormatProcessor()));
+            task.call();
+        }
+        return diagnostics;
+    }
+
+    private static String json(StructuredArgument argument) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = new ObjectMapper().getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            argument.writeTo(generator);
+            generator.writeEndObject();
+        }
+        return out.toString();
+    }
+}
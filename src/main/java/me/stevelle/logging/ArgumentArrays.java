@@ -0,0 +1,84 @@
+package me.stevelle.logging;
+
+import net.logstash.logback.argument.StructuredArgument;
+
+import java.util.Arrays;
+
+/**
+ * Source of the argument arrays <code>FuncLogger</code> passes to SLF4J, which may reuse
+ * one scratch array of each short length per thread.</p>
+ *
+ * <p>Reuse is off by default. Logback keeps the array it is given in the logging event
+ * without copying it, so it is only safe when every appender has finished with an event
+ * before the logging call returns: no <code>AsyncAppender</code>, <code>RingBufferAppender</code>,
+ * or other appender which retains events. Enable it with the system property
+ * <code>logfuncj.reuseArgumentArrays=true</code>.</p>
+ *
+ * <p>A scratch array is cleared when it is released. An array still in use, because an
+ * argument logs while it is being structured, is never handed out twice.</p>
+ */
+final class ArgumentArrays {
+
+    static final String REUSE_PROPERTY = "logfuncj.reuseArgumentArrays";
+
+    private static final int MAX_REUSED_LENGTH = 8;
+
+    private static final ThreadLocal<ArgumentArrays> SCRATCH = ThreadLocal.withInitial(ArgumentArrays::new);
+
+    private static volatile boolean reuse = Boolean.getBoolean(REUSE_PROPERTY);
+
+    // whether any scratch array may have been handed out, even if reuse is now off
+    private static volatile boolean reused = reuse;
+
+    private final StructuredArgument[][] arrays = new StructuredArgument[MAX_REUSED_LENGTH + 1][];
+    private final boolean[] inUse = new boolean[MAX_REUSED_LENGTH + 1];
+
+    private ArgumentArrays() {
+        for (int length = 1; length <= MAX_REUSED_LENGTH; length++) {
+            arrays[length] = new StructuredArgument[length];
+        }
+    }
+
+    static void setReuse(boolean enabled) {
+        if (enabled) {
+            reused = true;
+        }
+        reuse = enabled;
+    }
+
+    /**
+     * Take an array for the arguments of one event.
+     *
+     * @param length the number of arguments
+     * @return a scratch array of the given length if one is free, otherwise a new array
+     */
+    static StructuredArgument[] acquire(int length) {
+        if (!reuse || length < 1 || length > MAX_REUSED_LENGTH) {
+            return new StructuredArgument[length];
+        }
+        ArgumentArrays scratch = SCRATCH.get();
+        if (scratch.inUse[length]) {
+            return new StructuredArgument[length];
+        }
+        scratch.inUse[length] = true;
+        return scratch.arrays[length];
+    }
+
+    /**
+     * Return an array once the event using it has been appended. A scratch array is freed
+     * even if reuse was turned off after it was acquired.
+     *
+     * @param args an array from {@link #acquire(int)}
+     */
+    static void release(StructuredArgument[] args) {
+        int length = args.length;
+        if (!reused || length < 1 || length > MAX_REUSED_LENGTH) {
+            return;
+        }
+        ArgumentArrays scratch = SCRATCH.get();
+        if (scratch.arrays[length] == args) {
+            Arrays.fill(args, null);
+            scratch.inUse[length] = false;
+        }
+    }
+}
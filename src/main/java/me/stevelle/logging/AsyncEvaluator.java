@@ -0,0 +1,118 @@
+package me.stevelle.logging;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded background executor which evaluates structured logging arguments off the
+ * calling thread, for use with {@link LoggerFactory#getAsyncLogger(String, AsyncEvaluator)}.</p>
+ *
+ * <p>Events are evaluated and emitted in submission order by a single daemon thread.
+ * When the queue is full the {@link OverflowPolicy} decides what happens to a new event.</p>
+ *
+ * <p>Note: the suppliers, functions and objects given to an asynchronous logger are read
+ * later, on another thread, so they should be immutable or thread-safe.</p>
+ */
+public class AsyncEvaluator {
+
+    /**
+     * What to do with an event when the evaluation queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Discard the event, counting it as dropped.
+         */
+        DROP,
+        /**
+         * Wait for space in the queue, counting the event as delayed.
+         */
+        BLOCK,
+        /**
+         * Evaluate and emit the event on the calling thread, counting it as delayed.
+         */
+        CALLER_RUNS
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+
+    /**
+     * Standard constructor
+     *
+     * @param capacity the number of events which may wait for evaluation
+     * @param policy what to do with an event when the queue is full
+     */
+    public AsyncEvaluator(int capacity, OverflowPolicy policy) {
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                (task) -> {
+                    Thread worker = new Thread(task, "logfuncj-async-evaluator");
+                    worker.setDaemon(true);
+                    return worker;
+                },
+                overflowHandler(policy));
+    }
+
+    /**
+     * @return the number of events discarded because the queue was full
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return the number of events which waited for space, or ran on the calling thread,
+     * because the queue was full
+     */
+    public long getDelayedCount() {
+        return delayed.sum();
+    }
+
+    /**
+     * Stop accepting events and wait for those already queued to be emitted. Events
+     * submitted afterwards are dropped.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return true if all queued events were emitted before the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        executor.shutdown();
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    void submit(Runnable event) {
+        executor.execute(event);
+    }
+
+    private RejectedExecutionHandler overflowHandler(OverflowPolicy policy) {
+        return (event, rejecting) -> {
+            if (rejecting.isShutdown()) {
+                dropped.increment();
+                return;
+            }
+            switch (policy) {
+                case BLOCK:
+                    delayed.increment();
+                    try {
+                        rejecting.getQueue().put(event);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        dropped.increment();
+                    }
+                    break;
+                case CALLER_RUNS:
+                    delayed.increment();
+                    event.run();
+                    break;
+                default:
+                    dropped.increment();
+            }
+        };
+    }
+}
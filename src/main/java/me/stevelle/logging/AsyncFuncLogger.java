@@ -0,0 +1,1009 @@
+package me.stevelle.logging;
+
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Logger which evaluates its structured and functional arguments on the background
+ * thread of an {@link AsyncEvaluator}, after checking the level on the calling thread.</p>
+ *
+ * <p>The calling thread's MDC and {@link LogContext} are carried over to the evaluation.
+ * Events are created on the evaluator's thread, so the thread name and caller data they
+ * report are that thread's. The inherited SLF4J methods are not deferred.</p>
+ *
+ * <p>Queued events are emitted through the methods inherited from {@link FuncLogger},
+ * never through the overrides here, so that an event is queued only once. Functions are
+ * applied through the inherited <code>Supplier</code> methods for the same reason.</p>
+ *
+ * <p>An event built with {@link #atInfo()} or another <code>at</code> method is copied when
+ * it is logged, and its fields are evaluated on the evaluator's thread.</p>
+ */
+class AsyncFuncLogger extends FuncLogger {
+
+    private final AsyncEvaluator evaluator;
+    private final Executor deferred = this::submit;
+
+    AsyncFuncLogger(org.slf4j.Logger logger, AsyncEvaluator evaluator) {
+        super(logger);
+        this.evaluator = evaluator;
+    }
+
+    @Override
+    public void trace(String msg, Loggable loggable) {
+        if (isTraceEnabled()) {
+            submit(() -> super.trace(msg, loggable));
+        }
+    }
+
+    @Override
+    public void trace(String msg, Loggable first, Loggable second) {
+        if (isTraceEnabled()) {
+            submit(() -> super.trace(msg, first, second));
+        }
+    }
+
+    @Override
+    public void trace(String msg, Loggable... loggables) {
+        if (isTraceEnabled()) {
+            submit(() -> super.trace(msg, loggables));
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, Supplier<?> func) {
+        if (isTraceEnabled()) {
+            submit(() -> super.trace(msg, label, func));
+        }
+    }
+
+    @Override
+    public void trace(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (isTraceEnabled()) {
+            submit(() -> super.trace(msg, aLabel, aFunc, bLabel, bFunc));
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, IntSupplier func) {
+        if (isTraceEnabled()) {
+            submit(() -> super.trace(msg, label, func));
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, LongSupplier func) {
+        if (isTraceEnabled()) {
+            submit(() -> super.trace(msg, label, func));
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, DoubleSupplier func) {
+        if (isTraceEnabled()) {
+            submit(() -> super.trace(msg, label, func));
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, BooleanSupplier func) {
+        if (isTraceEnabled()) {
+            submit(() -> super.trace(msg, label, func));
+        }
+    }
+
+    @Override
+    public <T, R> void trace(String msg, String label, Function<T, R> func, T parameter) {
+        if (isTraceEnabled()) {
+            submit(() -> super.trace(msg, label, () -> func.apply(parameter)));
+        }
+    }
+
+    @Override
+    public <F, S, R> void trace(String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (isTraceEnabled()) {
+            submit(() -> super.trace(msg, label, () -> func.apply(first, second)));
+        }
+    }
+
+    @Override
+    public void trace(String msg, Map<String, ?> arguments) {
+        if (isTraceEnabled()) {
+            submit(() -> super.trace(msg, arguments));
+        }
+    }
+
+    @Override
+    public void trace(String msg, KeyValuePair<?>... pairs) {
+        if (isTraceEnabled()) {
+            submit(() -> super.trace(msg, pairs));
+        }
+    }
+
+    @Override
+    public void debug(String msg, Loggable loggable) {
+        if (isDebugEnabled()) {
+            submit(() -> super.debug(msg, loggable));
+        }
+    }
+
+    @Override
+    public void debug(String msg, Loggable first, Loggable second) {
+        if (isDebugEnabled()) {
+            submit(() -> super.debug(msg, first, second));
+        }
+    }
+
+    @Override
+    public void debug(String msg, Loggable... loggables) {
+        if (isDebugEnabled()) {
+            submit(() -> super.debug(msg, loggables));
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, Supplier<?> func) {
+        if (isDebugEnabled()) {
+            submit(() -> super.debug(msg, label, func));
+        }
+    }
+
+    @Override
+    public void debug(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (isDebugEnabled()) {
+            submit(() -> super.debug(msg, aLabel, aFunc, bLabel, bFunc));
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, IntSupplier func) {
+        if (isDebugEnabled()) {
+            submit(() -> super.debug(msg, label, func));
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, LongSupplier func) {
+        if (isDebugEnabled()) {
+            submit(() -> super.debug(msg, label, func));
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, DoubleSupplier func) {
+        if (isDebugEnabled()) {
+            submit(() -> super.debug(msg, label, func));
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, BooleanSupplier func) {
+        if (isDebugEnabled()) {
+            submit(() -> super.debug(msg, label, func));
+        }
+    }
+
+    @Override
+    public <T, R> void debug(String msg, String label, Function<T, R> func, T parameter) {
+        if (isDebugEnabled()) {
+            submit(() -> super.debug(msg, label, () -> func.apply(parameter)));
+        }
+    }
+
+    @Override
+    public <F, S, R> void debug(String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (isDebugEnabled()) {
+            submit(() -> super.debug(msg, label, () -> func.apply(first, second)));
+        }
+    }
+
+    @Override
+    public void debug(String msg, Map<String, ?> objects) {
+        if (isDebugEnabled()) {
+            submit(() -> super.debug(msg, objects));
+        }
+    }
+
+    @Override
+    public void debug(String msg, KeyValuePair<?>... pairs) {
+        if (isDebugEnabled()) {
+            submit(() -> super.debug(msg, pairs));
+        }
+    }
+
+    @Override
+    public void info(String msg, Loggable loggable) {
+        if (isInfoEnabled()) {
+            submit(() -> super.info(msg, loggable));
+        }
+    }
+
+    @Override
+    public void info(String msg, Loggable first, Loggable second) {
+        if (isInfoEnabled()) {
+            submit(() -> super.info(msg, first, second));
+        }
+    }
+
+    @Override
+    public void info(String msg, Loggable... loggables) {
+        if (isInfoEnabled()) {
+            submit(() -> super.info(msg, loggables));
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, Supplier<?> func) {
+        if (isInfoEnabled()) {
+            submit(() -> super.info(msg, label, func));
+        }
+    }
+
+    @Override
+    public void info(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (isInfoEnabled()) {
+            submit(() -> super.info(msg, aLabel, aFunc, bLabel, bFunc));
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, IntSupplier func) {
+        if (isInfoEnabled()) {
+            submit(() -> super.info(msg, label, func));
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, LongSupplier func) {
+        if (isInfoEnabled()) {
+            submit(() -> super.info(msg, label, func));
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, DoubleSupplier func) {
+        if (isInfoEnabled()) {
+            submit(() -> super.info(msg, label, func));
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, BooleanSupplier func) {
+        if (isInfoEnabled()) {
+            submit(() -> super.info(msg, label, func));
+        }
+    }
+
+    @Override
+    public <T, R> void info(String msg, String label, Function<T, R> func, T parameter) {
+        if (isInfoEnabled()) {
+            submit(() -> super.info(msg, label, () -> func.apply(parameter)));
+        }
+    }
+
+    @Override
+    public <F, S, R> void info(String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (isInfoEnabled()) {
+            submit(() -> super.info(msg, label, () -> func.apply(first, second)));
+        }
+    }
+
+    @Override
+    public void info(String msg, Map<String, ?> objects) {
+        if (isInfoEnabled()) {
+            submit(() -> super.info(msg, objects));
+        }
+    }
+
+    @Override
+    public void info(String msg, KeyValuePair<?>... pairs) {
+        if (isInfoEnabled()) {
+            submit(() -> super.info(msg, pairs));
+        }
+    }
+
+    @Override
+    public void warn(String msg, Loggable loggable) {
+        if (isWarnEnabled()) {
+            submit(() -> super.warn(msg, loggable));
+        }
+    }
+
+    @Override
+    public void warn(String msg, Loggable first, Loggable second) {
+        if (isWarnEnabled()) {
+            submit(() -> super.warn(msg, first, second));
+        }
+    }
+
+    @Override
+    public void warn(String msg, Loggable... loggables) {
+        if (isWarnEnabled()) {
+            submit(() -> super.warn(msg, loggables));
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, Supplier<?> func) {
+        if (isWarnEnabled()) {
+            submit(() -> super.warn(msg, label, func));
+        }
+    }
+
+    @Override
+    public void warn(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (isWarnEnabled()) {
+            submit(() -> super.warn(msg, aLabel, aFunc, bLabel, bFunc));
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, IntSupplier func) {
+        if (isWarnEnabled()) {
+            submit(() -> super.warn(msg, label, func));
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, LongSupplier func) {
+        if (isWarnEnabled()) {
+            submit(() -> super.warn(msg, label, func));
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, DoubleSupplier func) {
+        if (isWarnEnabled()) {
+            submit(() -> super.warn(msg, label, func));
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, BooleanSupplier func) {
+        if (isWarnEnabled()) {
+            submit(() -> super.warn(msg, label, func));
+        }
+    }
+
+    @Override
+    public <T, R> void warn(String msg, String label, Function<T, R> func, T parameter) {
+        if (isWarnEnabled()) {
+            submit(() -> super.warn(msg, label, () -> func.apply(parameter)));
+        }
+    }
+
+    @Override
+    public <F, S, R> void warn(String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (isWarnEnabled()) {
+            submit(() -> super.warn(msg, label, () -> func.apply(first, second)));
+        }
+    }
+
+    @Override
+    public void warn(String msg, Map<String, ?> objects) {
+        if (isWarnEnabled()) {
+            submit(() -> super.warn(msg, objects));
+        }
+    }
+
+    @Override
+    public void warn(String msg, KeyValuePair<?>... pairs) {
+        if (isWarnEnabled()) {
+            submit(() -> super.warn(msg, pairs));
+        }
+    }
+
+    @Override
+    public void error(String msg, Loggable loggable) {
+        if (isErrorEnabled()) {
+            submit(() -> super.error(msg, loggable));
+        }
+    }
+
+    @Override
+    public void error(String msg, Loggable first, Loggable second) {
+        if (isErrorEnabled()) {
+            submit(() -> super.error(msg, first, second));
+        }
+    }
+
+    @Override
+    public void error(String msg, Loggable... loggables) {
+        if (isErrorEnabled()) {
+            submit(() -> super.error(msg, loggables));
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, Supplier<?> func) {
+        if (isErrorEnabled()) {
+            submit(() -> super.error(msg, label, func));
+        }
+    }
+
+    @Override
+    public void error(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (isErrorEnabled()) {
+            submit(() -> super.error(msg, aLabel, aFunc, bLabel, bFunc));
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, IntSupplier func) {
+        if (isErrorEnabled()) {
+            submit(() -> super.error(msg, label, func));
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, LongSupplier func) {
+        if (isErrorEnabled()) {
+            submit(() -> super.error(msg, label, func));
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, DoubleSupplier func) {
+        if (isErrorEnabled()) {
+            submit(() -> super.error(msg, label, func));
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, BooleanSupplier func) {
+        if (isErrorEnabled()) {
+            submit(() -> super.error(msg, label, func));
+        }
+    }
+
+    @Override
+    public <T, R> void error(String msg, String label, Function<T, R> func, T parameter) {
+        if (isErrorEnabled()) {
+            submit(() -> super.error(msg, label, () -> func.apply(parameter)));
+        }
+    }
+
+    @Override
+    public <F, S, R> void error(String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (isErrorEnabled()) {
+            submit(() -> super.error(msg, label, () -> func.apply(first, second)));
+        }
+    }
+
+    @Override
+    public void error(String msg, Map<String, ?> objects) {
+        if (isErrorEnabled()) {
+            submit(() -> super.error(msg, objects));
+        }
+    }
+
+    @Override
+    public void error(String msg, KeyValuePair<?>... pairs) {
+        if (isErrorEnabled()) {
+            submit(() -> super.error(msg, pairs));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Loggable loggable) {
+        if (isTraceEnabled(marker)) {
+            submit(() -> super.trace(marker, msg, loggable));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Loggable first, Loggable second) {
+        if (isTraceEnabled(marker)) {
+            submit(() -> super.trace(marker, msg, first, second));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Loggable... loggables) {
+        if (isTraceEnabled(marker)) {
+            submit(() -> super.trace(marker, msg, loggables));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, Supplier<?> func) {
+        if (isTraceEnabled(marker)) {
+            submit(() -> super.trace(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (isTraceEnabled(marker)) {
+            submit(() -> super.trace(marker, msg, aLabel, aFunc, bLabel, bFunc));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, IntSupplier func) {
+        if (isTraceEnabled(marker)) {
+            submit(() -> super.trace(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, LongSupplier func) {
+        if (isTraceEnabled(marker)) {
+            submit(() -> super.trace(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (isTraceEnabled(marker)) {
+            submit(() -> super.trace(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (isTraceEnabled(marker)) {
+            submit(() -> super.trace(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public <T, R> void trace(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (isTraceEnabled(marker)) {
+            submit(() -> super.trace(marker, msg, label, () -> func.apply(parameter)));
+        }
+    }
+
+    @Override
+    public <F, S, R> void trace(Marker marker, String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (isTraceEnabled(marker)) {
+            submit(() -> super.trace(marker, msg, label, () -> func.apply(first, second)));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Map<String, ?> arguments) {
+        if (isTraceEnabled(marker)) {
+            submit(() -> super.trace(marker, msg, arguments));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (isTraceEnabled(marker)) {
+            submit(() -> super.trace(marker, msg, pairs));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Loggable loggable) {
+        if (isDebugEnabled(marker)) {
+            submit(() -> super.debug(marker, msg, loggable));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Loggable first, Loggable second) {
+        if (isDebugEnabled(marker)) {
+            submit(() -> super.debug(marker, msg, first, second));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Loggable... loggables) {
+        if (isDebugEnabled(marker)) {
+            submit(() -> super.debug(marker, msg, loggables));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, Supplier<?> func) {
+        if (isDebugEnabled(marker)) {
+            submit(() -> super.debug(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (isDebugEnabled(marker)) {
+            submit(() -> super.debug(marker, msg, aLabel, aFunc, bLabel, bFunc));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, IntSupplier func) {
+        if (isDebugEnabled(marker)) {
+            submit(() -> super.debug(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, LongSupplier func) {
+        if (isDebugEnabled(marker)) {
+            submit(() -> super.debug(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (isDebugEnabled(marker)) {
+            submit(() -> super.debug(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (isDebugEnabled(marker)) {
+            submit(() -> super.debug(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public <T, R> void debug(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (isDebugEnabled(marker)) {
+            submit(() -> super.debug(marker, msg, label, () -> func.apply(parameter)));
+        }
+    }
+
+    @Override
+    public <F, S, R> void debug(Marker marker, String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (isDebugEnabled(marker)) {
+            submit(() -> super.debug(marker, msg, label, () -> func.apply(first, second)));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Map<String, ?> objects) {
+        if (isDebugEnabled(marker)) {
+            submit(() -> super.debug(marker, msg, objects));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (isDebugEnabled(marker)) {
+            submit(() -> super.debug(marker, msg, pairs));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Loggable loggable) {
+        if (isInfoEnabled(marker)) {
+            submit(() -> super.info(marker, msg, loggable));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Loggable first, Loggable second) {
+        if (isInfoEnabled(marker)) {
+            submit(() -> super.info(marker, msg, first, second));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Loggable... loggables) {
+        if (isInfoEnabled(marker)) {
+            submit(() -> super.info(marker, msg, loggables));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, Supplier<?> func) {
+        if (isInfoEnabled(marker)) {
+            submit(() -> super.info(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (isInfoEnabled(marker)) {
+            submit(() -> super.info(marker, msg, aLabel, aFunc, bLabel, bFunc));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, IntSupplier func) {
+        if (isInfoEnabled(marker)) {
+            submit(() -> super.info(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, LongSupplier func) {
+        if (isInfoEnabled(marker)) {
+            submit(() -> super.info(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (isInfoEnabled(marker)) {
+            submit(() -> super.info(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (isInfoEnabled(marker)) {
+            submit(() -> super.info(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public <T, R> void info(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (isInfoEnabled(marker)) {
+            submit(() -> super.info(marker, msg, label, () -> func.apply(parameter)));
+        }
+    }
+
+    @Override
+    public <F, S, R> void info(Marker marker, String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (isInfoEnabled(marker)) {
+            submit(() -> super.info(marker, msg, label, () -> func.apply(first, second)));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Map<String, ?> objects) {
+        if (isInfoEnabled(marker)) {
+            submit(() -> super.info(marker, msg, objects));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (isInfoEnabled(marker)) {
+            submit(() -> super.info(marker, msg, pairs));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Loggable loggable) {
+        if (isWarnEnabled(marker)) {
+            submit(() -> super.warn(marker, msg, loggable));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Loggable first, Loggable second) {
+        if (isWarnEnabled(marker)) {
+            submit(() -> super.warn(marker, msg, first, second));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Loggable... loggables) {
+        if (isWarnEnabled(marker)) {
+            submit(() -> super.warn(marker, msg, loggables));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, Supplier<?> func) {
+        if (isWarnEnabled(marker)) {
+            submit(() -> super.warn(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (isWarnEnabled(marker)) {
+            submit(() -> super.warn(marker, msg, aLabel, aFunc, bLabel, bFunc));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, IntSupplier func) {
+        if (isWarnEnabled(marker)) {
+            submit(() -> super.warn(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, LongSupplier func) {
+        if (isWarnEnabled(marker)) {
+            submit(() -> super.warn(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (isWarnEnabled(marker)) {
+            submit(() -> super.warn(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (isWarnEnabled(marker)) {
+            submit(() -> super.warn(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public <T, R> void warn(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (isWarnEnabled(marker)) {
+            submit(() -> super.warn(marker, msg, label, () -> func.apply(parameter)));
+        }
+    }
+
+    @Override
+    public <F, S, R> void warn(Marker marker, String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (isWarnEnabled(marker)) {
+            submit(() -> super.warn(marker, msg, label, () -> func.apply(first, second)));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Map<String, ?> objects) {
+        if (isWarnEnabled(marker)) {
+            submit(() -> super.warn(marker, msg, objects));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (isWarnEnabled(marker)) {
+            submit(() -> super.warn(marker, msg, pairs));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Loggable loggable) {
+        if (isErrorEnabled(marker)) {
+            submit(() -> super.error(marker, msg, loggable));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Loggable first, Loggable second) {
+        if (isErrorEnabled(marker)) {
+            submit(() -> super.error(marker, msg, first, second));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Loggable... loggables) {
+        if (isErrorEnabled(marker)) {
+            submit(() -> super.error(marker, msg, loggables));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, Supplier<?> func) {
+        if (isErrorEnabled(marker)) {
+            submit(() -> super.error(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (isErrorEnabled(marker)) {
+            submit(() -> super.error(marker, msg, aLabel, aFunc, bLabel, bFunc));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, IntSupplier func) {
+        if (isErrorEnabled(marker)) {
+            submit(() -> super.error(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, LongSupplier func) {
+        if (isErrorEnabled(marker)) {
+            submit(() -> super.error(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (isErrorEnabled(marker)) {
+            submit(() -> super.error(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (isErrorEnabled(marker)) {
+            submit(() -> super.error(marker, msg, label, func));
+        }
+    }
+
+    @Override
+    public <T, R> void error(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (isErrorEnabled(marker)) {
+            submit(() -> super.error(marker, msg, label, () -> func.apply(parameter)));
+        }
+    }
+
+    @Override
+    public <F, S, R> void error(Marker marker, String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (isErrorEnabled(marker)) {
+            submit(() -> super.error(marker, msg, label, () -> func.apply(first, second)));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Map<String, ?> objects) {
+        if (isErrorEnabled(marker)) {
+            submit(() -> super.error(marker, msg, objects));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (isErrorEnabled(marker)) {
+            submit(() -> super.error(marker, msg, pairs));
+        }
+    }
+
+    @Override
+    public EventBuilder atTrace() {
+        return isTraceEnabled()
+                ? PooledEventBuilder.acquire(this, Level.TRACE).deferredTo(deferred) : NoopEventBuilder.INSTANCE;
+    }
+
+    @Override
+    public EventBuilder atDebug() {
+        return isDebugEnabled()
+                ? PooledEventBuilder.acquire(this, Level.DEBUG).deferredTo(deferred) : NoopEventBuilder.INSTANCE;
+    }
+
+    @Override
+    public EventBuilder atInfo() {
+        return isInfoEnabled()
+                ? PooledEventBuilder.acquire(this, Level.INFO).deferredTo(deferred) : NoopEventBuilder.INSTANCE;
+    }
+
+    @Override
+    public EventBuilder atWarn() {
+        return isWarnEnabled()
+                ? PooledEventBuilder.acquire(this, Level.WARN).deferredTo(deferred) : NoopEventBuilder.INSTANCE;
+    }
+
+    @Override
+    public EventBuilder atError() {
+        return isErrorEnabled()
+                ? PooledEventBuilder.acquire(this, Level.ERROR).deferredTo(deferred) : NoopEventBuilder.INSTANCE;
+    }
+
+    private void submit(Runnable event) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        LogContext.Frame scopes = LogContext.capture();
+        if (null == context && null == scopes) {
+            evaluator.submit(event);
+            return;
+        }
+        evaluator.submit(() -> {
+            Map<String, String> previous = null == context ? null : MDC.getCopyOfContextMap();
+            if (null != context) {
+                MDC.setContextMap(context);
+            }
+            LogContext.Frame previousScopes = LogContext.restore(scopes);
+            try {
+                event.run();
+            } finally {
+                LogContext.restore(previousScopes);
+                if (null != context) {
+                    if (null == previous) {
+                        MDC.clear();
+                    } else {
+                        MDC.setContextMap(previous);
+                    }
+                }
+            }
+        });
+    }
+}
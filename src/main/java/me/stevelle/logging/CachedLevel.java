@@ -0,0 +1,195 @@
+package me.stevelle.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggerContextListener;
+import org.slf4j.Marker;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * The effective level of a Logback logger, cached so that checking whether a level is
+ * enabled is one volatile read and a compare.</p>
+ *
+ * <p>Every cached level is invalidated whenever Logback reports a level change, a reset or a
+ * restart of its <code>LoggerContext</code>, which covers <code>Logger.setLevel</code>, the
+ * JMX configurator and reloading the configuration. While the context has turbo filters,
+ * whose decisions can depend on more than the level, each check is delegated to Logback;
+ * without them a marker cannot change the outcome, so marker checks use the cached level too.
+ * Turbo filters added programmatically, outside a reconfiguration, are only noticed after
+ * {@link LoggerFactory#refreshLevels()}.</p>
+ */
+final class CachedLevel {
+
+    private static final int STALE = 0;
+    private static final int DELEGATE = -1;
+
+    private static final Set<CachedLevel> CACHED = Collections.newSetFromMap(new WeakHashMap<>());
+    private static final Map<LoggerContext, Boolean> OBSERVED = new WeakHashMap<>();
+
+    private static volatile int generation;
+
+    private final ch.qos.logback.classic.Logger logger;
+    private volatile int threshold = STALE;
+
+    private CachedLevel(ch.qos.logback.classic.Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Cache the level of a logger, if it is a Logback logger.
+     *
+     * @param logger the logger whose level to cache
+     * @return the cached level, or null if the logger is not a Logback logger
+     */
+    static CachedLevel of(org.slf4j.Logger logger) {
+        if (!(logger instanceof ch.qos.logback.classic.Logger)) {
+            return null;
+        }
+        ch.qos.logback.classic.Logger logback = (ch.qos.logback.classic.Logger) logger;
+        CachedLevel cached = new CachedLevel(logback);
+        synchronized (CACHED) {
+            LoggerContext context = logback.getLoggerContext();
+            if (null != context && null == OBSERVED.put(context, Boolean.TRUE)) {
+                context.addListener(new Invalidator());
+            }
+            CACHED.add(cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Forget every cached level, so each is read from Logback on its next check.
+     */
+    static void invalidateAll() {
+        generation++;
+        synchronized (CACHED) {
+            for (CachedLevel cached : CACHED) {
+                cached.threshold = STALE;
+            }
+        }
+    }
+
+    /**
+     * Determine whether the logger is enabled for a level, without markers.
+     *
+     * @param levelInt the level, as one of the <code>Level.*_INT</code> constants
+     * @return true if the logger is enabled for the level
+     */
+    boolean isEnabled(int levelInt) {
+        int current = threshold;
+        if (current > STALE) {
+            return levelInt >= current;
+        }
+        if (STALE == current) {
+            current = refresh();
+            if (current > STALE) {
+                return levelInt >= current;
+            }
+        }
+        return delegate(levelInt);
+    }
+
+    /**
+     * Determine whether the logger is enabled for a level and marker. Without turbo
+     * filters the marker cannot change the outcome, so the cached level decides.
+     *
+     * @param marker the marker of the statement
+     * @param levelInt the level, as one of the <code>Level.*_INT</code> constants
+     * @return true if the logger is enabled for the level and marker
+     */
+    boolean isEnabled(Marker marker, int levelInt) {
+        int current = threshold;
+        if (current > STALE) {
+            return levelInt >= current;
+        }
+        if (STALE == current) {
+            current = refresh();
+            if (current > STALE) {
+                return levelInt >= current;
+            }
+        }
+        return delegate(marker, levelInt);
+    }
+
+    private int refresh() {
+        int observed = generation;
+        int current;
+        LoggerContext context = logger.getLoggerContext();
+        if (null != context && !context.getTurboFilterList().isEmpty()) {
+            current = DELEGATE;
+        } else {
+            current = Math.max(Level.TRACE_INT, logger.getEffectiveLevel().toInt());
+        }
+        threshold = current;
+        if (observed != generation) {
+            // the level changed while it was being read, read it again next time
+            threshold = STALE;
+        }
+        return current;
+    }
+
+    private boolean delegate(Marker marker, int levelInt) {
+        switch (levelInt) {
+            case Level.TRACE_INT:
+                return logger.isTraceEnabled(marker);
+            case Level.DEBUG_INT:
+                return logger.isDebugEnabled(marker);
+            case Level.INFO_INT:
+                return logger.isInfoEnabled(marker);
+            case Level.WARN_INT:
+                return logger.isWarnEnabled(marker);
+            default:
+                return logger.isErrorEnabled(marker);
+        }
+    }
+
+    private boolean delegate(int levelInt) {
+        switch (levelInt) {
+            case Level.TRACE_INT:
+                return logger.isTraceEnabled();
+            case Level.DEBUG_INT:
+                return logger.isDebugEnabled();
+            case Level.INFO_INT:
+                return logger.isInfoEnabled();
+            case Level.WARN_INT:
+                return logger.isWarnEnabled();
+            default:
+                return logger.isErrorEnabled();
+        }
+    }
+
+    /**
+     * Invalidates every cached level when a <code>LoggerContext</code> changes.
+     */
+    private static final class Invalidator implements LoggerContextListener {
+
+        @Override
+        public boolean isResetResistant() {
+            return true;
+        }
+
+        @Override
+        public void onStart(LoggerContext context) {
+            invalidateAll();
+        }
+
+        @Override
+        public void onReset(LoggerContext context) {
+            invalidateAll();
+        }
+
+        @Override
+        public void onStop(LoggerContext context) {
+            invalidateAll();
+        }
+
+        @Override
+        public void onLevelChange(ch.qos.logback.classic.Logger logger, Level level) {
+            invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package me.stevelle.logging;
+
+import net.logstash.logback.argument.StructuredArgument;
+
+/**
+ * Loggable for immutable objects, whose representation is rendered to JSON the first time
+ * it is logged and copied into every later event.</p>
+ *
+ * <p>Representations are cached per instance in a bounded cache which holds the objects
+ * weakly, so caching neither keeps an object alive nor grows with the number logged. An
+ * instance evicted by another is rendered again the next time it is logged.</p>
+ *
+ * <p>Only implement this for objects whose logged properties never change. Classes which
+ * build their representation themselves, such as a generated <code>LogFormat_</code> class,
+ * should do so in {@link #logUncached()} rather than overriding {@link #log()}.</p>
+ * <pre>
+ *   &#64;Override
+ *   public StructuredArgument logUncached() {
+ *       return new LogFormat_TenantDescriptor(this);
+ *   }
+ * </pre>
+ */
+public interface CachedLoggable extends Loggable {
+
+    /**
+     * Build the representation of the object, without the cache.
+     *
+     * @return a StructuredArgument describing the object
+     */
+    default StructuredArgument logUncached() {
+        Builder builder = this.logFormat();
+        return null == builder ? LoggableFields.of(this) : builder.build();
+    }
+
+    /**
+     * The representation of the object, rendered once and cached.
+     *
+     * @return a StructuredArgument writing the rendered representation
+     */
+    @Override
+    default StructuredArgument log() {
+        return RenderedLoggables.of(this);
+    }
+}
@@ -0,0 +1,285 @@
+package me.stevelle.logging;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caps on the size of the values logged as structured arguments, so that one oversized map,
+ * array, collection or string cannot flood the appender.</p>
+ *
+ * <p>The caps are applied as values are structured, by {@link FuncLogger}, by recording
+ * loggers and to the properties of a {@link Loggable}, before anything is encoded. Only what
+ * is within the caps is copied; a value entirely within them is logged as it is.</p>
+ * <ul>
+ *   <li>a string longer than <code>maxStringLength</code> is cut, ending with <code>...(N more)</code></li>
+ *   <li>an array or collection longer than <code>maxElements</code> is cut, with a last
+ *   element of <code>...(N more)</code></li>
+ *   <li>a map larger than <code>maxEntries</code> is cut, with a last entry of
+ *   <code>_truncated</code> holding the number of entries left out</li>
+ *   <li>a map, array or collection nested deeper than <code>maxDepth</code> is replaced by
+ *   <code>...(too deep)</code></li>
+ * </ul>
+ *
+ * <p>The defaults may be set with the system properties <code>logfuncj.maxEntries</code>,
+ * <code>logfuncj.maxElements</code>, <code>logfuncj.maxDepth</code> and
+ * <code>logfuncj.maxStringLength</code>, or replaced with {@link #set(EncodingLimits)}.
+ * The size of a whole encoded event is capped by the encoder, see
+ * {@link StreamingJsonEncoder#setMaxEventBytes(int)}.</p>
+ */
+public final class EncodingLimits {
+
+    /**
+     * The key of the entry added to a truncated map.
+     */
+    public static final String TRUNCATED_KEY = "_truncated";
+
+    private static final String TOO_DEEP = "...(too deep)";
+
+    private static final EncodingLimits DEFAULTS = new EncodingLimits(
+            Integer.getInteger("logfuncj.maxEntries", 256),
+            Integer.getInteger("logfuncj.maxElements", 256),
+            Integer.getInteger("logfuncj.maxDepth", 8),
+            Integer.getInteger("logfuncj.maxStringLength", 8192));
+
+    private static final EncodingLimits UNLIMITED = new EncodingLimits(
+            Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    private static volatile EncodingLimits current = DEFAULTS;
+
+    private final int maxEntries;
+    private final int maxElements;
+    private final int maxDepth;
+    private final int maxStringLength;
+
+    private EncodingLimits(int maxEntries, int maxElements, int maxDepth, int maxStringLength) {
+        this.maxEntries = requirePositive(maxEntries, "maxEntries");
+        this.maxElements = requirePositive(maxElements, "maxElements");
+        this.maxDepth = requirePositive(maxDepth, "maxDepth");
+        this.maxStringLength = requirePositive(maxStringLength, "maxStringLength");
+    }
+
+    /**
+     * @return the limits configured by system properties, or their defaults
+     */
+    public static EncodingLimits defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @return limits which never truncate anything
+     */
+    public static EncodingLimits unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * @return the limits in effect
+     */
+    public static EncodingLimits current() {
+        return current;
+    }
+
+    /**
+     * Replace the limits in effect for every logger.
+     *
+     * @param limits the limits to apply
+     */
+    public static void set(EncodingLimits limits) {
+        current = limits;
+    }
+
+    /**
+     * @param maxEntries the number of entries of a map to log
+     * @return a copy of these limits with the given cap
+     */
+    public EncodingLimits withMaxEntries(int maxEntries) {
+        return new EncodingLimits(maxEntries, maxElements, maxDepth, maxStringLength);
+    }
+
+    /**
+     * @param maxElements the number of elements of an array or collection to log
+     * @return a copy of these limits with the given cap
+     */
+    public EncodingLimits withMaxElements(int maxElements) {
+        return new EncodingLimits(maxEntries, maxElements, maxDepth, maxStringLength);
+    }
+
+    /**
+     * @param maxDepth the number of maps, arrays and collections which may be nested
+     * @return a copy of these limits with the given cap
+     */
+    public EncodingLimits withMaxDepth(int maxDepth) {
+        return new EncodingLimits(maxEntries, maxElements, maxDepth, maxStringLength);
+    }
+
+    /**
+     * @param maxStringLength the number of characters of a string to log
+     * @return a copy of these limits with the given cap
+     */
+    public EncodingLimits withMaxStringLength(int maxStringLength) {
+        return new EncodingLimits(maxEntries, maxElements, maxDepth, maxStringLength);
+    }
+
+    /**
+     * @return the number of entries of a map to log
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * @return the number of elements of an array or collection to log
+     */
+    public int getMaxElements() {
+        return maxElements;
+    }
+
+    /**
+     * @return the number of maps, arrays and collections which may be nested
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * @return the number of characters of a string to log
+     */
+    public int getMaxStringLength() {
+        return maxStringLength;
+    }
+
+    /**
+     * Cap a value logged as a structured argument.
+     *
+     * @param value the value
+     * @return the value itself if it is within the limits, otherwise a truncated copy
+     */
+    Object limit(Object value) {
+        return limit(value, 0);
+    }
+
+    /**
+     * Cap a value nested within others.
+     *
+     * @param value the value
+     * @param depth the number of maps, arrays, collections and objects it is nested in
+     * @return the value itself if it is within the limits, otherwise a truncated copy
+     */
+    Object limit(Object value, int depth) {
+        if (value instanceof String) {
+            return limit((String) value);
+        }
+        if (value instanceof Object[]) {
+            return depth >= maxDepth ? TOO_DEEP : limit((Object[]) value, depth + 1);
+        }
+        if (value instanceof Map) {
+            return depth >= maxDepth ? TOO_DEEP : limit((Map<?, ?>) value, depth + 1);
+        }
+        if (value instanceof Collection) {
+            return depth >= maxDepth ? TOO_DEEP : limit((Collection<?>) value, depth + 1);
+        }
+        return value;
+    }
+
+    String limit(String value) {
+        int length = value.length();
+        if (length <= maxStringLength) {
+            return value;
+        }
+        return value.substring(0, maxStringLength) + truncated(length - maxStringLength);
+    }
+
+    private Object[] limit(Object[] values, int depth) {
+        int length = Math.min(values.length, maxElements);
+        Object[] limited = values.length > length ? new Object[length + 1] : null;
+        for (int x = 0; x < length; x++) {
+            Object element = limit(values[x], depth);
+            if (null == limited && element != values[x]) {
+                limited = new Object[length];
+                System.arraycopy(values, 0, limited, 0, x);
+            }
+            if (null != limited) {
+                limited[x] = element;
+            }
+        }
+        if (null == limited) {
+            return values;
+        }
+        if (values.length > length) {
+            limited[length] = truncated(values.length - length);
+        }
+        return limited;
+    }
+
+    private Object limit(Collection<?> values, int depth) {
+        int size = values.size();
+        int length = Math.min(size, maxElements);
+        List<Object> limited = size > length ? new ArrayList<>(length + 1) : null;
+        Iterator<?> elements = values.iterator();
+        for (int x = 0; x < length && elements.hasNext(); x++) {
+            Object value = elements.next();
+            Object element = limit(value, depth);
+            if (null == limited && element != value) {
+                limited = new ArrayList<>(length);
+                Iterator<?> copied = values.iterator();
+                for (int y = 0; y < x; y++) {
+                    limited.add(copied.next());
+                }
+            }
+            if (null != limited) {
+                limited.add(element);
+            }
+        }
+        if (null == limited) {
+            return values;
+        }
+        if (size > length) {
+            limited.add(truncated(size - length));
+        }
+        return limited;
+    }
+
+    private Object limit(Map<?, ?> entries, int depth) {
+        int size = entries.size();
+        int length = Math.min(size, maxEntries);
+        Map<Object, Object> limited = size > length ? new LinkedHashMap<>() : null;
+        Iterator<? extends Map.Entry<?, ?>> iterator = entries.entrySet().iterator();
+        for (int x = 0; x < length && iterator.hasNext(); x++) {
+            Map.Entry<?, ?> entry = iterator.next();
+            Object value = limit(entry.getValue(), depth);
+            if (null == limited && value != entry.getValue()) {
+                limited = new LinkedHashMap<>();
+                Iterator<? extends Map.Entry<?, ?>> copied = entries.entrySet().iterator();
+                for (int y = 0; y < x; y++) {
+                    Map.Entry<?, ?> earlier = copied.next();
+                    limited.put(earlier.getKey(), earlier.getValue());
+                }
+            }
+            if (null != limited) {
+                limited.put(entry.getKey(), value);
+            }
+        }
+        if (null == limited) {
+            return entries;
+        }
+        if (size > length) {
+            limited.put(TRUNCATED_KEY, size - length);
+        }
+        return limited;
+    }
+
+    static String truncated(int omitted) {
+        return "...(" + omitted + " more)";
+    }
+
+    private static int requirePositive(int value, String name) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,148 @@
+package me.stevelle.logging;
+
+import org.slf4j.Marker;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Fluent builder of one logging event, started by {@link Logger#atInfo()} and the other
+ * <code>at</code> methods, and emitted by {@link #log(String)}.</p>
+ *
+ * <p>When the level is disabled the builder is a shared instance which ignores everything,
+ * so nothing given to it is evaluated. Otherwise it is reused by the calling thread, and
+ * functional values are evaluated only when the event is logged. Either way a builder
+ * belongs to a single statement: do not keep it, or share it with another thread.</p>
+ * <pre>
+ *   LOG.atInfo()
+ *       .kv("user", user)
+ *       .kf("size", list::size)
+ *       .loggable(book)
+ *       .log("Done {}");
+ * </pre>
+ *
+ * <p>The fields become the arguments of the event, in the order they were added, so
+ * <code>{}</code> placeholders in the message render them.</p>
+ */
+public interface EventBuilder {
+
+    /**
+     * Add a field.
+     *
+     * @param key the logging key for the value
+     * @param value the value to record
+     * @return the builder
+     */
+    EventBuilder kv(String key, Object value);
+
+    /**
+     * Add a field holding an <code>int</code>, without boxing it.
+     *
+     * @param key the logging key for the value
+     * @param value the value to record
+     * @return the builder
+     */
+    EventBuilder kv(String key, int value);
+
+    /**
+     * Add a field holding a <code>long</code>, without boxing it.
+     *
+     * @param key the logging key for the value
+     * @param value the value to record
+     * @return the builder
+     */
+    EventBuilder kv(String key, long value);
+
+    /**
+     * Add a field holding a <code>double</code>, without boxing it.
+     *
+     * @param key the logging key for the value
+     * @param value the value to record
+     * @return the builder
+     */
+    EventBuilder kv(String key, double value);
+
+    /**
+     * Add a field holding a <code>boolean</code>, without boxing it.
+     *
+     * @param key the logging key for the value
+     * @param value the value to record
+     * @return the builder
+     */
+    EventBuilder kv(String key, boolean value);
+
+    /**
+     * Add a field whose value is evaluated when the event is logged.
+     *
+     * @param key the logging key for the value
+     * @param func which will yield the value to record when called
+     * @return the builder
+     */
+    EventBuilder kf(String key, Supplier<?> func);
+
+    /**
+     * Add a field whose <code>int</code> value is evaluated when the event is logged.
+     *
+     * @param key the logging key for the value
+     * @param func which will yield the value to record when called
+     * @return the builder
+     */
+    EventBuilder kf(String key, IntSupplier func);
+
+    /**
+     * Add a field whose <code>long</code> value is evaluated when the event is logged.
+     *
+     * @param key the logging key for the value
+     * @param func which will yield the value to record when called
+     * @return the builder
+     */
+    EventBuilder kf(String key, LongSupplier func);
+
+    /**
+     * Add a field whose <code>double</code> value is evaluated when the event is logged.
+     *
+     * @param key the logging key for the value
+     * @param func which will yield the value to record when called
+     * @return the builder
+     */
+    EventBuilder kf(String key, DoubleSupplier func);
+
+    /**
+     * Add a field whose <code>boolean</code> value is evaluated when the event is logged.
+     *
+     * @param key the logging key for the value
+     * @param func which will yield the value to record when called
+     * @return the builder
+     */
+    EventBuilder kf(String key, BooleanSupplier func);
+
+    /**
+     * Add the representation of an object, built when the event is logged.
+     *
+     * @param loggable the object to represent
+     * @return the builder
+     */
+    EventBuilder loggable(Loggable loggable);
+
+    /**
+     * @param marker the marker of the event
+     * @return the builder
+     */
+    EventBuilder marker(Marker marker);
+
+    /**
+     * @param cause the exception to log with the event
+     * @return the builder
+     */
+    EventBuilder cause(Throwable cause);
+
+    /**
+     * Evaluate the fields and log the event.
+     *
+     * @param msg the message, or format of the message
+     */
+    void log(String msg);
+}
@@ -1,15 +1,17 @@
 package me.stevelle.logging;
 
 import net.logstash.logback.argument.StructuredArgument;
+import org.slf4j.Marker;
 
-import java.util.Arrays;
 import java.util.Map;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
-import static net.logstash.logback.argument.StructuredArguments.array;
 import static net.logstash.logback.argument.StructuredArguments.entries;
 import static net.logstash.logback.argument.StructuredArguments.kv;
 
@@ -29,14 +31,26 @@ public class FuncLogger extends Slf4jAdaptor implements Logger {
     @Override
     public void trace(String msg, Loggable first, Loggable second) {
         if (isTraceEnabled()) {
-            this.trace(msg, first.log(), second.log());
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = first.log();
+                args[1] = second.log();
+                this.trace(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
     @Override
     public void trace(String msg, Loggable... loggables) {
         if (isTraceEnabled()) {
-            this.trace(msg, (Object[]) Common.structureForLogs(loggables));
+            StructuredArgument[] args = Common.structureForLogs(loggables);
+            try {
+                this.trace(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
@@ -50,7 +64,42 @@ public class FuncLogger extends Slf4jAdaptor implements Logger {
     @Override
     public void trace(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
         if (isTraceEnabled()) {
-            this.trace(msg, Common.structure(aLabel, aFunc), Common.structure(bLabel, bFunc));
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = Common.structure(aLabel, aFunc);
+                args[1] = Common.structure(bLabel, bFunc);
+                this.trace(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, IntSupplier func) {
+        if (isTraceEnabled()) {
+            this.trace(msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, LongSupplier func) {
+        if (isTraceEnabled()) {
+            this.trace(msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, DoubleSupplier func) {
+        if (isTraceEnabled()) {
+            this.trace(msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, BooleanSupplier func) {
+        if (isTraceEnabled()) {
+            this.trace(msg, Common.structure(label, func));
         }
     }
 
@@ -72,14 +121,24 @@ public class FuncLogger extends Slf4jAdaptor implements Logger {
     @Override
     public void trace(String msg, Map<String, ?> arguments) {
         if (isTraceEnabled()) {
-            this.trace(msg, (Object[]) Common.structureForLogs(arguments));
+            StructuredArgument[] args = Common.structureForLogs(arguments);
+            try {
+                this.trace(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
     @Override
     public void trace(String msg, KeyValuePair<?>... pairs) {
         if (isTraceEnabled()) {
-            this.trace(msg, (Object[]) Common.structureForLogs(pairs));
+            StructuredArgument[] args = Common.structureForLogs(pairs);
+            try {
+                this.trace(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
@@ -93,14 +152,26 @@ public class FuncLogger extends Slf4jAdaptor implements Logger {
     @Override
     public void debug(String msg, Loggable first, Loggable second) {
         if (isDebugEnabled()) {
-            this.debug(msg, first.log(), second.log());
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = first.log();
+                args[1] = second.log();
+                this.debug(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
     @Override
     public void debug(String msg, Loggable... loggables) {
         if (isDebugEnabled()) {
-            this.debug(msg, (Object[]) Common.structureForLogs(loggables));
+            StructuredArgument[] args = Common.structureForLogs(loggables);
+            try {
+                this.debug(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
@@ -114,7 +185,42 @@ public class FuncLogger extends Slf4jAdaptor implements Logger {
     @Override
     public void debug(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
         if (isDebugEnabled()) {
-            this.debug(msg, Common.structure(aLabel, aFunc), Common.structure(bLabel, bFunc));
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = Common.structure(aLabel, aFunc);
+                args[1] = Common.structure(bLabel, bFunc);
+                this.debug(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, IntSupplier func) {
+        if (isDebugEnabled()) {
+            this.debug(msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, LongSupplier func) {
+        if (isDebugEnabled()) {
+            this.debug(msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, DoubleSupplier func) {
+        if (isDebugEnabled()) {
+            this.debug(msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, BooleanSupplier func) {
+        if (isDebugEnabled()) {
+            this.debug(msg, Common.structure(label, func));
         }
     }
 
@@ -136,14 +242,24 @@ public class FuncLogger extends Slf4jAdaptor implements Logger {
     @Override
     public void debug(String msg, Map<String, ?> objects) {
         if (isDebugEnabled()) {
-            this.debug(msg, (Object[]) Common.structureForLogs(objects));
+            StructuredArgument[] args = Common.structureForLogs(objects);
+            try {
+                this.debug(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
     @Override
     public void debug(String msg, KeyValuePair<?>... pairs) {
         if (isDebugEnabled()) {
-            this.debug(msg, (Object[]) Common.structureForLogs(pairs));
+            StructuredArgument[] args = Common.structureForLogs(pairs);
+            try {
+                this.debug(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
@@ -157,14 +273,26 @@ public class FuncLogger extends Slf4jAdaptor implements Logger {
     @Override
     public void info(String msg, Loggable first, Loggable second) {
         if (isInfoEnabled()) {
-            this.info(msg, first.log(), second.log());
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = first.log();
+                args[1] = second.log();
+                this.info(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
     @Override
     public void info(String msg, Loggable... loggables) {
         if (isInfoEnabled()) {
-            this.info(msg, ((Object[]) Common.structureForLogs(loggables)));
+            StructuredArgument[] args = Common.structureForLogs(loggables);
+            try {
+                this.info(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
@@ -178,7 +306,42 @@ public class FuncLogger extends Slf4jAdaptor implements Logger {
     @Override
     public void info(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
         if (isInfoEnabled()) {
-            this.info(msg, Common.structure(aLabel, aFunc), Common.structure(bLabel, bFunc));
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = Common.structure(aLabel, aFunc);
+                args[1] = Common.structure(bLabel, bFunc);
+                this.info(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, IntSupplier func) {
+        if (isInfoEnabled()) {
+            this.info(msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, LongSupplier func) {
+        if (isInfoEnabled()) {
+            this.info(msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, DoubleSupplier func) {
+        if (isInfoEnabled()) {
+            this.info(msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, BooleanSupplier func) {
+        if (isInfoEnabled()) {
+            this.info(msg, Common.structure(label, func));
         }
     }
 
@@ -200,14 +363,24 @@ public class FuncLogger extends Slf4jAdaptor implements Logger {
     @Override
     public void info(String msg, Map<String, ?> objects) {
         if (isInfoEnabled()) {
-            this.info(msg, (Object[]) Common.structureForLogs(objects));
+            StructuredArgument[] args = Common.structureForLogs(objects);
+            try {
+                this.info(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
     @Override
     public void info(String msg, KeyValuePair<?>... pairs) {
         if (isInfoEnabled()) {
-            this.info(msg, (Object[]) Common.structureForLogs(pairs));
+            StructuredArgument[] args = Common.structureForLogs(pairs);
+            try {
+                this.info(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
     
@@ -221,14 +394,26 @@ public class FuncLogger extends Slf4jAdaptor implements Logger {
     @Override
     public void warn(String msg, Loggable first, Loggable second) {
         if (isWarnEnabled()) {
-            this.warn(msg, first.log(), second.log());
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = first.log();
+                args[1] = second.log();
+                this.warn(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
     @Override
     public void warn(String msg, Loggable... loggables) {
         if (isWarnEnabled()) {
-            this.warn(msg, ((Object[]) Common.structureForLogs(loggables)));
+            StructuredArgument[] args = Common.structureForLogs(loggables);
+            try {
+                this.warn(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
@@ -242,7 +427,42 @@ public class FuncLogger extends Slf4jAdaptor implements Logger {
     @Override
     public void warn(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
         if (isWarnEnabled()) {
-            this.warn(msg, Common.structure(aLabel, aFunc), Common.structure(bLabel, bFunc));
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = Common.structure(aLabel, aFunc);
+                args[1] = Common.structure(bLabel, bFunc);
+                this.warn(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, IntSupplier func) {
+        if (isWarnEnabled()) {
+            this.warn(msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, LongSupplier func) {
+        if (isWarnEnabled()) {
+            this.warn(msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, DoubleSupplier func) {
+        if (isWarnEnabled()) {
+            this.warn(msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, BooleanSupplier func) {
+        if (isWarnEnabled()) {
+            this.warn(msg, Common.structure(label, func));
         }
     }
 
@@ -264,14 +484,24 @@ public class FuncLogger extends Slf4jAdaptor implements Logger {
     @Override
     public void warn(String msg, Map<String, ?> objects) {
         if (isWarnEnabled()) {
-            this.warn(msg, (Object[]) Common.structureForLogs(objects));
+            StructuredArgument[] args = Common.structureForLogs(objects);
+            try {
+                this.warn(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
     @Override
     public void warn(String msg, KeyValuePair<?>... pairs) {
         if (isWarnEnabled()) {
-            this.warn(msg, (Object[]) Common.structureForLogs(pairs));
+            StructuredArgument[] args = Common.structureForLogs(pairs);
+            try {
+                this.warn(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
     
@@ -285,14 +515,26 @@ public class FuncLogger extends Slf4jAdaptor implements Logger {
     @Override
     public void error(String msg, Loggable first, Loggable second) {
         if (isErrorEnabled()) {
-            this.error(msg, first.log(), second.log());
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = first.log();
+                args[1] = second.log();
+                this.error(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
     @Override
     public void error(String msg, Loggable... loggables) {
         if (isErrorEnabled()) {
-            this.error(msg, ((Object[]) Common.structureForLogs(loggables)));
+            StructuredArgument[] args = Common.structureForLogs(loggables);
+            try {
+                this.error(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
@@ -306,7 +548,42 @@ public class FuncLogger extends Slf4jAdaptor implements Logger {
     @Override
     public void error(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
         if (isErrorEnabled()) {
-            this.error(msg, Common.structure(aLabel, aFunc), Common.structure(bLabel, bFunc));
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = Common.structure(aLabel, aFunc);
+                args[1] = Common.structure(bLabel, bFunc);
+                this.error(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, IntSupplier func) {
+        if (isErrorEnabled()) {
+            this.error(msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, LongSupplier func) {
+        if (isErrorEnabled()) {
+            this.error(msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, DoubleSupplier func) {
+        if (isErrorEnabled()) {
+            this.error(msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, BooleanSupplier func) {
+        if (isErrorEnabled()) {
+            this.error(msg, Common.structure(label, func));
         }
     }
 
@@ -328,63 +605,741 @@ public class FuncLogger extends Slf4jAdaptor implements Logger {
     @Override
     public void error(String msg, Map<String, ?> objects) {
         if (isErrorEnabled()) {
-            this.error(msg, (Object[]) Common.structureForLogs(objects));
+            StructuredArgument[] args = Common.structureForLogs(objects);
+            try {
+                this.error(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
     @Override
     public void error(String msg, KeyValuePair<?>... pairs) {
         if (isErrorEnabled()) {
-            this.error(msg, (Object[]) Common.structureForLogs(pairs));
+            StructuredArgument[] args = Common.structureForLogs(pairs);
+            try {
+                this.error(msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Loggable loggable) {
+        if (isTraceEnabled(marker)) {
+            this.trace(marker, msg, loggable.log());
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Loggable first, Loggable second) {
+        if (isTraceEnabled(marker)) {
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = first.log();
+                args[1] = second.log();
+                this.trace(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Loggable... loggables) {
+        if (isTraceEnabled(marker)) {
+            StructuredArgument[] args = Common.structureForLogs(loggables);
+            try {
+                this.trace(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, Supplier<?> func) {
+        if (isTraceEnabled(marker)) {
+            this.trace(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (isTraceEnabled(marker)) {
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = Common.structure(aLabel, aFunc);
+                args[1] = Common.structure(bLabel, bFunc);
+                this.trace(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, IntSupplier func) {
+        if (isTraceEnabled(marker)) {
+            this.trace(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, LongSupplier func) {
+        if (isTraceEnabled(marker)) {
+            this.trace(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (isTraceEnabled(marker)) {
+            this.trace(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (isTraceEnabled(marker)) {
+            this.trace(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public <T, R> void trace(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (isTraceEnabled(marker)) {
+            this.trace(marker, msg, label, () -> func.apply(parameter));
+        }
+    }
+
+    @Override
+    public <F, S, R>  void trace(Marker marker, String msg, String label, BiFunction<F, S, R> func,
+                                                              F first, S second) {
+        if (isTraceEnabled(marker)) {
+            this.trace(marker, msg, label, () -> func.apply(first, second));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Map<String, ?> arguments) {
+        if (isTraceEnabled(marker)) {
+            StructuredArgument[] args = Common.structureForLogs(arguments);
+            try {
+                this.trace(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (isTraceEnabled(marker)) {
+            StructuredArgument[] args = Common.structureForLogs(pairs);
+            try {
+                this.trace(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Loggable loggable) {
+        if (isDebugEnabled(marker)) {
+            this.debug(marker, msg, loggable.log());
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Loggable first, Loggable second) {
+        if (isDebugEnabled(marker)) {
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = first.log();
+                args[1] = second.log();
+                this.debug(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Loggable... loggables) {
+        if (isDebugEnabled(marker)) {
+            StructuredArgument[] args = Common.structureForLogs(loggables);
+            try {
+                this.debug(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, Supplier<?> func) {
+        if (isDebugEnabled(marker)) {
+            this.debug(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (isDebugEnabled(marker)) {
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = Common.structure(aLabel, aFunc);
+                args[1] = Common.structure(bLabel, bFunc);
+                this.debug(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, IntSupplier func) {
+        if (isDebugEnabled(marker)) {
+            this.debug(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, LongSupplier func) {
+        if (isDebugEnabled(marker)) {
+            this.debug(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (isDebugEnabled(marker)) {
+            this.debug(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (isDebugEnabled(marker)) {
+            this.debug(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public <T, R> void debug(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (isDebugEnabled(marker)) {
+            this.debug(marker, msg, label, () -> func.apply(parameter));
+        }
+    }
+
+    @Override
+    public <F, S, R>  void debug(Marker marker, String msg, String label, BiFunction<F, S, R> func,
+                                                              F first, S second) {
+        if (isDebugEnabled(marker)) {
+            this.debug(marker, msg, label, () -> func.apply(first, second));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Map<String, ?> objects) {
+        if (isDebugEnabled(marker)) {
+            StructuredArgument[] args = Common.structureForLogs(objects);
+            try {
+                this.debug(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (isDebugEnabled(marker)) {
+            StructuredArgument[] args = Common.structureForLogs(pairs);
+            try {
+                this.debug(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Loggable loggable) {
+        if (isInfoEnabled(marker)) {
+            this.info(marker, msg, loggable.log());
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Loggable first, Loggable second) {
+        if (isInfoEnabled(marker)) {
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = first.log();
+                args[1] = second.log();
+                this.info(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Loggable... loggables) {
+        if (isInfoEnabled(marker)) {
+            StructuredArgument[] args = Common.structureForLogs(loggables);
+            try {
+                this.info(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, Supplier<?> func) {
+        if (isInfoEnabled(marker)) {
+            this.info(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (isInfoEnabled(marker)) {
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = Common.structure(aLabel, aFunc);
+                args[1] = Common.structure(bLabel, bFunc);
+                this.info(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, IntSupplier func) {
+        if (isInfoEnabled(marker)) {
+            this.info(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, LongSupplier func) {
+        if (isInfoEnabled(marker)) {
+            this.info(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (isInfoEnabled(marker)) {
+            this.info(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (isInfoEnabled(marker)) {
+            this.info(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public <T, R> void info(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (isInfoEnabled(marker)) {
+            this.info(marker, msg, label, () -> func.apply(parameter));
+        }
+    }
+
+    @Override
+    public <F, S, R>  void info(Marker marker, String msg, String label, BiFunction<F, S, R> func,
+                                                               F first, S second) {
+        if (isInfoEnabled(marker)) {
+            this.info(marker, msg, label, () -> func.apply(first, second));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Map<String, ?> objects) {
+        if (isInfoEnabled(marker)) {
+            StructuredArgument[] args = Common.structureForLogs(objects);
+            try {
+                this.info(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (isInfoEnabled(marker)) {
+            StructuredArgument[] args = Common.structureForLogs(pairs);
+            try {
+                this.info(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Loggable loggable) {
+        if (isWarnEnabled(marker)) {
+            this.warn(marker, msg, loggable.log());
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Loggable first, Loggable second) {
+        if (isWarnEnabled(marker)) {
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = first.log();
+                args[1] = second.log();
+                this.warn(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Loggable... loggables) {
+        if (isWarnEnabled(marker)) {
+            StructuredArgument[] args = Common.structureForLogs(loggables);
+            try {
+                this.warn(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, Supplier<?> func) {
+        if (isWarnEnabled(marker)) {
+            this.warn(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (isWarnEnabled(marker)) {
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = Common.structure(aLabel, aFunc);
+                args[1] = Common.structure(bLabel, bFunc);
+                this.warn(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, IntSupplier func) {
+        if (isWarnEnabled(marker)) {
+            this.warn(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, LongSupplier func) {
+        if (isWarnEnabled(marker)) {
+            this.warn(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (isWarnEnabled(marker)) {
+            this.warn(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (isWarnEnabled(marker)) {
+            this.warn(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public <T, R> void warn(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (isWarnEnabled(marker)) {
+            this.warn(marker, msg, label, () -> func.apply(parameter));
+        }
+    }
+
+    @Override
+    public <F, S, R>  void warn(Marker marker, String msg, String label, BiFunction<F, S, R> func,
+                                                               F first, S second) {
+        if (isWarnEnabled(marker)) {
+            this.warn(marker, msg, label, () -> func.apply(first, second));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Map<String, ?> objects) {
+        if (isWarnEnabled(marker)) {
+            StructuredArgument[] args = Common.structureForLogs(objects);
+            try {
+                this.warn(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (isWarnEnabled(marker)) {
+            StructuredArgument[] args = Common.structureForLogs(pairs);
+            try {
+                this.warn(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Loggable loggable) {
+        if (isErrorEnabled(marker)) {
+            this.error(marker, msg, loggable.log());
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Loggable first, Loggable second) {
+        if (isErrorEnabled(marker)) {
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = first.log();
+                args[1] = second.log();
+                this.error(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Loggable... loggables) {
+        if (isErrorEnabled(marker)) {
+            StructuredArgument[] args = Common.structureForLogs(loggables);
+            try {
+                this.error(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, Supplier<?> func) {
+        if (isErrorEnabled(marker)) {
+            this.error(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (isErrorEnabled(marker)) {
+            StructuredArgument[] args = ArgumentArrays.acquire(2);
+            try {
+                args[0] = Common.structure(aLabel, aFunc);
+                args[1] = Common.structure(bLabel, bFunc);
+                this.error(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, IntSupplier func) {
+        if (isErrorEnabled(marker)) {
+            this.error(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, LongSupplier func) {
+        if (isErrorEnabled(marker)) {
+            this.error(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (isErrorEnabled(marker)) {
+            this.error(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (isErrorEnabled(marker)) {
+            this.error(marker, msg, Common.structure(label, func));
+        }
+    }
+
+    @Override
+    public <T, R> void error(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (isErrorEnabled(marker)) {
+            this.error(marker, msg, label, () -> func.apply(parameter));
+        }
+    }
+
+    @Override
+    public <F, S, R>  void error(Marker marker, String msg, String label, BiFunction<F, S, R> func,
+                       F first, S second) {
+        if (isErrorEnabled(marker)) {
+            this.error(marker, msg, label, () -> func.apply(first, second));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Map<String, ?> objects) {
+        if (isErrorEnabled(marker)) {
+            StructuredArgument[] args = Common.structureForLogs(objects);
+            try {
+                this.error(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (isErrorEnabled(marker)) {
+            StructuredArgument[] args = Common.structureForLogs(pairs);
+            try {
+                this.error(marker, msg, (Object[]) args);
+            } finally {
+                ArgumentArrays.release(args);
+            }
         }
     }
 
     /**
      * Helper class to contain common processors used in structuring logging parameters
      */
-    private static class Common {
+    static class Common {
         private static StructuredArgument[] structureForLogs(Loggable[] loggables) {
-            return Arrays.stream(loggables)
-                    .map(Loggable::log)
-                    .collect(Collectors.toList()).toArray(new StructuredArgument[0]);
+            StructuredArgument[] args = ArgumentArrays.acquire(loggables.length);
+            try {
+                for (int x = 0; x < loggables.length; x++) {
+                    args[x] = loggables[x].log();
+                }
+            } catch (RuntimeException | Error e) {
+                ArgumentArrays.release(args);
+                throw e;
+            }
+            return args;
         }
 
         private static StructuredArgument[] structureForLogs(Map<String, ?> objects) {
-            StructuredArgument[] args = new StructuredArgument[objects.size()];
-            int x = 0;
-            for (Map.Entry<String, ?> entry: objects.entrySet()) {
-                String label = entry.getKey();
-                Object other = entry.getValue();
-                args[x] = structure(label, other);
-                x++;
+            int size = objects.size();
+            int length = Math.min(size, EncodingLimits.current().getMaxEntries());
+            StructuredArgument[] args = ArgumentArrays.acquire(size > length ? length + 1 : length);
+            try {
+                int x = 0;
+                for (Map.Entry<String, ?> entry: objects.entrySet()) {
+                    if (x == length) {
+                        args[x] = new PrimitivePair.OfInt(EncodingLimits.TRUNCATED_KEY, size - length);
+                        break;
+                    }
+                    String label = entry.getKey();
+                    Object other = entry.getValue();
+                    args[x] = structure(label, other);
+                    x++;
+                }
+            } catch (RuntimeException | Error e) {
+                ArgumentArrays.release(args);
+                throw e;
             }
             return args;
         }
 
         private static StructuredArgument[] structureForLogs(KeyValuePair<?>[] objects) {
-            return Arrays.stream(objects)
-                    .map((x) -> Common.structure(x.key, x.value))
-                    .collect(Collectors.toList()).toArray(new StructuredArgument[0]);
+            StructuredArgument[] args = ArgumentArrays.acquire(objects.length);
+            try {
+                for (int x = 0; x < objects.length; x++) {
+                    args[x] = structure(objects[x]);
+                }
+            } catch (RuntimeException | Error e) {
+                ArgumentArrays.release(args);
+                throw e;
+            }
+            return args;
         }
 
-        private static StructuredArgument structure(String label, Object value) {
-            if (value instanceof Supplier) {
-                value = ((Supplier) value).get();
+        static StructuredArgument structure(KeyValuePair<?> pair) {
+            if (pair instanceof StructuredArgument) {
+                // primitive and rendered pairs write themselves
+                return (StructuredArgument) pair;
             }
+            return structure(pair.key, pair.value);
+        }
 
-            if (value instanceof Loggable) {
-                return ((Loggable) value).log();
-            }
+        private static StructuredArgument structure(String label, IntSupplier func) {
+            return new PrimitivePair.OfInt(label, func.getAsInt());
+        }
 
-            if (value instanceof Object[]) {
-                return array(label, value);
-            }
+        private static StructuredArgument structure(String label, LongSupplier func) {
+            return new PrimitivePair.OfLong(label, func.getAsLong());
+        }
 
-            if (value instanceof Map) {
-                return entries(((Map)value));
+        private static StructuredArgument structure(String label, DoubleSupplier func) {
+            return new PrimitivePair.OfDouble(label, func.getAsDouble());
+        }
+
+        private static StructuredArgument structure(String label, BooleanSupplier func) {
+            return new PrimitivePair.OfBoolean(label, func.getAsBoolean());
+        }
+
+        static StructuredArgument structure(String label, Object value) {
+            if (null == value) {
+                return kv(label, null);
             }
+            ValueSerializers.Dispatch dispatch = ValueSerializers.dispatch(value.getClass());
+            switch (dispatch.kind) {
+                case ValueSerializers.Dispatch.MEMOIZED:
+                    return ((MemoizedSupplier<?>) value).structure(label);
+                case ValueSerializers.Dispatch.SUPPLIER:
+                    value = ((Supplier<?>) value).get();
+                    if (null == value) {
+                        return kv(label, null);
+                    }
+                    return structure(label, value, ValueSerializers.dispatch(value.getClass()));
+                default:
+                    return structure(label, value, dispatch);
+            }
+        }
 
-            return kv(label, value);
+        private static StructuredArgument structure(String label, Object value, ValueSerializers.Dispatch dispatch) {
+            switch (dispatch.kind) {
+                case ValueSerializers.Dispatch.LOGGABLE:
+                    return ((Loggable) value).log();
+                case ValueSerializers.Dispatch.SERIALIZED:
+                    return new SerializedPair(label, value, dispatch.serializer);
+                case ValueSerializers.Dispatch.ARRAY:
+                    return StreamedArray.of(label, value, EncodingLimits.current());
+                case ValueSerializers.Dispatch.MAP:
+                    return entries((Map) EncodingLimits.current().limit(value));
+                default:
+                    return kv(label, value);
+            }
         }
     }
 }
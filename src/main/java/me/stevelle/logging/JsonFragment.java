@@ -0,0 +1,93 @@
+package me.stevelle.logging;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.logstash.logback.argument.StructuredArgument;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * StructuredArgument holding the fields another argument wrote, pre-rendered once as JSON
+ * and copied verbatim into each event afterwards.</p>
+ *
+ * <p>The first field is written through the generator, so it keeps track of the object it
+ * is writing, and the others are appended raw, with their separators. A UTF-8 generator
+ * copies the cached bytes of both without escaping anything again.</p>
+ */
+final class JsonFragment implements StructuredArgument {
+
+    private static final JsonFactory FACTORY = new ObjectMapper().getFactory();
+
+    private final SerializableString firstName;
+    private final SerializableString firstValue;
+    private final SerializableString rest;
+    private final String description;
+
+    private JsonFragment(String firstName, String firstValue, String rest, String description) {
+        this.firstName = new SerializedString(firstName);
+        this.firstValue = new SerializedString(firstValue);
+        this.rest = rest.isEmpty() ? null : new SerializedString(rest);
+        this.description = description;
+    }
+
+    /**
+     * Render the fields an argument writes.
+     *
+     * @param argument the argument to render
+     * @return the rendered fragment, or the argument itself if it writes no fields or
+     * cannot be rendered
+     */
+    static StructuredArgument of(StructuredArgument argument) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+        try (JsonGenerator generator = FACTORY.createGenerator(buffer)) {
+            generator.writeStartObject();
+            argument.writeTo(generator);
+            generator.writeEndObject();
+        } catch (IOException | RuntimeException e) {
+            return argument;
+        }
+
+        byte[] json = buffer.toByteArray();
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            parser.nextToken();
+            if (JsonToken.FIELD_NAME != parser.nextToken()) {
+                return argument;
+            }
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            int valueStart = (int) parser.getTokenLocation().getByteOffset();
+            parser.skipChildren();
+            JsonToken next = parser.nextToken();
+            int nextStart = (int) parser.getTokenLocation().getByteOffset();
+            // the generator writes no whitespace, so only a comma can precede the next field
+            int valueEnd = JsonToken.END_OBJECT == next ? nextStart : nextStart - 1;
+            return new JsonFragment(name,
+                    new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8),
+                    new String(json, valueEnd, json.length - 1 - valueEnd, StandardCharsets.UTF_8),
+                    argument.toString());
+        } catch (IOException | RuntimeException e) {
+            return argument;
+        }
+    }
+
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeFieldName(firstName);
+        generator.writeRawValue(firstValue);
+        if (null != rest) {
+            generator.writeRaw(rest);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
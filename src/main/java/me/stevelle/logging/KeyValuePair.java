@@ -9,16 +9,21 @@ import java.util.function.Supplier;
  *
  * <p>Note: This type is immutable.</p>
  *
+ * <p>Pairs built by the primitive <code>kvp</code> factories keep the value unboxed, and
+ * write it to JSON as a number or boolean without going through Jackson. Their
+ * <code>value</code> field is null; {@link #getValue()} boxes the value when it is asked for.</p>
+ *
  * @param <T> type of value represented
  */
-public final class KeyValuePair<T> {
+public class KeyValuePair<T> {
 
     /**
      * The logging key used as a label during structured logging
      */
     public final String key;
     /**
-     * The value recorded during structured logging
+     * The value recorded during structured logging, or null for a pair built by a primitive
+     * <code>kvp</code> factory
      */
     public final T value;
 
@@ -33,6 +38,14 @@ public final class KeyValuePair<T> {
         this.value = value;
     }
 
+    /**
+     * @return the value recorded during structured logging, boxed on each call for a pair built
+     * by a primitive <code>kvp</code> factory
+     */
+    public T getValue() {
+        return value;
+    }
+
     /**
      * Convenience method to rapidly construct a <code>KeyValuePair</code>
      *
@@ -45,6 +58,79 @@ public final class KeyValuePair<T> {
         return new KeyValuePair<>(key, value);
     }
 
+    /**
+     * Convenience method to rapidly construct a <code>KeyValuePair</code> holding an <code>int</code>
+     * which is written as a JSON primitive. Also selected for <code>short</code> and
+     * <code>byte</code> values.
+     *
+     * @param key to label the value
+     * @param value to record
+     * @return a <code>KeyValuePair</code>
+     */
+    public static KeyValuePair<Integer> kvp(String key, int value) {
+        return new PrimitivePair.OfInt(key, value);
+    }
+
+    /**
+     * Convenience method to rapidly construct a <code>KeyValuePair</code> holding a <code>long</code>
+     * which is written as a JSON primitive.
+     *
+     * @param key to label the value
+     * @param value to record
+     * @return a <code>KeyValuePair</code>
+     */
+    public static KeyValuePair<Long> kvp(String key, long value) {
+        return new PrimitivePair.OfLong(key, value);
+    }
+
+    /**
+     * Convenience method to rapidly construct a <code>KeyValuePair</code> holding a <code>float</code>
+     * which is written as a JSON primitive.
+     *
+     * @param key to label the value
+     * @param value to record
+     * @return a <code>KeyValuePair</code>
+     */
+    public static KeyValuePair<Float> kvp(String key, float value) {
+        return new PrimitivePair.OfFloat(key, value);
+    }
+
+    /**
+     * Convenience method to rapidly construct a <code>KeyValuePair</code> holding a <code>double</code>
+     * which is written as a JSON primitive.
+     *
+     * @param key to label the value
+     * @param value to record
+     * @return a <code>KeyValuePair</code>
+     */
+    public static KeyValuePair<Double> kvp(String key, double value) {
+        return new PrimitivePair.OfDouble(key, value);
+    }
+
+    /**
+     * Convenience method to rapidly construct a <code>KeyValuePair</code> holding a <code>boolean</code>
+     * which is written as a JSON primitive.
+     *
+     * @param key to label the value
+     * @param value to record
+     * @return a <code>KeyValuePair</code>
+     */
+    public static KeyValuePair<Boolean> kvp(String key, boolean value) {
+        return new PrimitivePair.OfBoolean(key, value);
+    }
+
+    /**
+     * Convenience method to rapidly construct a <code>KeyValuePair</code> holding a <code>char</code>,
+     * which is recorded as a string rather than widened to a number.
+     *
+     * @param key to label the value
+     * @param value to record
+     * @return a <code>KeyValuePair</code>
+     */
+    public static KeyValuePair<Character> kvp(String key, char value) {
+        return new KeyValuePair<>(key, value);
+    }
+
     /**
      * Convenience method to rapidly construct a <code>KeyValuePair</code> where the value is an unresolved
      * function (a KeyFunctionPair) and which will evaluate the given function IFF the logging event is
@@ -128,4 +214,83 @@ public final class KeyValuePair<T> {
     public static <T, U, R> KeyValuePair<Supplier<R>> kfp(String key, BiFunction<T, U, R> func, T first, U second) {
         return kfp(key, () -> func.apply(first, second));
     }
+
+    /**
+     * Convenience method to rapidly construct a <code>KeyValuePair</code> where the value is an unresolved
+     * function which is evaluated at most once: the first time the pair is logged by an enabled event.
+     * Every later event logging the same pair reuses the value, without calling the function again.</p>
+     *
+     * <p>examples of usage:</p>
+     * <pre>
+     *   KeyValuePair&lt;Supplier&lt;Summary&gt;&gt; summary = kmp("summary", request::summarize);
+     *   log.debug("Received", summary, kvp("method", method), kvp("path", path));
+     *   log.info("Completed", summary, kvp("status", 200), kvp("latency", latency));
+     * </pre>
+     *
+     * <p>With only one or two arguments, the call resolves to the SLF4J <code>Object</code>
+     * methods, which neither evaluate nor structure the pair; pass an explicit
+     * <code>KeyValuePair&lt;?&gt;[]</code> instead.</p>
+     *
+     * @param key to label the value
+     * @param func which will yield the value to record when first called
+     * @param <T> type of value represented
+     * @return an unevaluated, memoizing <code>KeyValuePair</code>
+     */
+    public static <T> KeyValuePair<Supplier<T>> kmp(String key, Supplier<T> func) {
+        return new KeyValuePair<>(key, new MemoizedSupplier<>(func));
+    }
+
+    /**
+     * Convenience method to rapidly construct a <code>KeyValuePair</code> where the value is an unresolved
+     * function which is evaluated at most once, the first time the pair is logged by an enabled event.
+     *
+     * @param key to label the value
+     * @param func which will yield the value to record when first called
+     * @param param argument to pass to the function when called
+     * @param <T> type of the parameter
+     * @param <R> type of value represented by the <code>KeyValuePair</code>
+     * @return an unevaluated, memoizing <code>KeyValuePair</code>
+     * @see #kmp(String, Supplier)
+     */
+    public static <T, R> KeyValuePair<Supplier<R>> kmp(String key, Function<T, R> func, T param) {
+        return kmp(key, () -> func.apply(param));
+    }
+
+    /**
+     * Convenience method to rapidly construct a <code>KeyValuePair</code> where the value is an unresolved
+     * function which is evaluated at most once, the first time the pair is logged by an enabled event.
+     *
+     * @param key to label the value
+     * @param func which will yield the value to record when first called
+     * @param first first argument to pass to the function when called
+     * @param second second argument to pass to the function when called
+     * @param <T> type of the first parameter
+     * @param <U> type of the second parameter
+     * @param <R> type of value represented by the <code>KeyValuePair</code>
+     * @return an unevaluated, memoizing <code>KeyValuePair</code>
+     * @see #kmp(String, Supplier)
+     */
+    public static <T, U, R> KeyValuePair<Supplier<R>> kmp(String key, BiFunction<T, U, R> func, T first, U second) {
+        return kmp(key, () -> func.apply(first, second));
+    }
+
+    /**
+     * Convenience method to pre-render a group of pairs which are logged unchanged by many events, such
+     * as the service name, region and build version. The pairs are structured and rendered to JSON once,
+     * now, and every event logging the group copies the rendered JSON verbatim.</p>
+     *
+     * <p>examples of usage:</p>
+     * <pre>
+     *   private static final KeyValuePair&lt;Void&gt; SERVICE = rendered(
+     *       kvp("service", "orders"), kvp("region", region), kvp("version", BUILD_VERSION));
+     *
+     *   log.info("Completed", SERVICE, kvp("status", 200), kvp("user", name));
+     * </pre>
+     *
+     * @param pairs the pairs to render, whose functional values are evaluated immediately
+     * @return a <code>KeyValuePair</code> without a key or value of its own, writing the rendered pairs
+     */
+    public static KeyValuePair<Void> rendered(KeyValuePair<?>... pairs) {
+        return new RenderedPairs(pairs);
+    }
 }
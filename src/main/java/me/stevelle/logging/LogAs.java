@@ -0,0 +1,23 @@
+package me.stevelle.logging;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Logs a field under an alias in the representation generated for its class.
+ *
+ * @see LogField
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface LogAs {
+
+    /**
+     * @return the logging key to use in place of the field name
+     */
+    String value();
+}
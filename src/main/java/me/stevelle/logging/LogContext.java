@@ -0,0 +1,271 @@
+package me.stevelle.logging;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import net.logstash.logback.argument.StructuredArgument;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * Structured fields added to every event a {@link FuncLogger} logs on the current thread,
+ * for as long as a scope is open. A faster alternative to the SLF4J <code>MDC</code>, which
+ * holds any value rather than only strings.</p>
+ *
+ * <pre>
+ *   try (LogContext.Scope scope = LogContext.with(kvp("request", requestId), kfp("user", session::user))) {
+ *       LOG.info("Handling");
+ *   }
+ * </pre>
+ *
+ * <p>Opening and closing a scope take constant time. Each scope is an immutable frame
+ * linked to the one it was opened in, so an event holds on to the innermost frame rather
+ * than copying the context. Pairs with values are structured once, as the scope is
+ * opened; functional pairs such as <code>kfp</code> are evaluated for each event. Outer
+ * scopes' fields are written first.</p>
+ *
+ * <p>The context is added as the event's last argument, ahead of any exception, so it
+ * fills a placeholder only in a message with more placeholders than arguments.</p>
+ *
+ * <p>A scope must be closed on the thread which opened it. Closing a scope also closes any
+ * scopes opened within it which are still open.</p>
+ */
+public final class LogContext {
+
+    private static final ThreadLocal<Stack> STACKS = ThreadLocal.withInitial(Stack::new);
+
+    // no thread pays for the thread local lookup until a scope has been opened
+    private static volatile boolean used;
+
+    private LogContext() {
+    }
+
+    /**
+     * Open a scope adding the pairs to every event logged on this thread until it is closed.
+     *
+     * @param pairs the fields to add
+     * @return the scope, to be closed
+     */
+    public static Scope with(KeyValuePair<?>... pairs) {
+        used = true;
+        Stack stack = STACKS.get();
+        Frame frame = new Frame(stack.top, pairs);
+        stack.top = frame;
+        return new Scope(stack, frame);
+    }
+
+    /**
+     * @return the context to add to an event logged now, or null if there is none
+     */
+    static StructuredArgument current() {
+        if (!used) {
+            return null;
+        }
+        Frame top = STACKS.get().top;
+        return null == top ? null : top.evaluate();
+    }
+
+    /**
+     * @return the innermost scope open on this thread, to carry over to another with
+     * {@link #restore(Frame)}
+     */
+    static Frame capture() {
+        return used ? STACKS.get().top : null;
+    }
+
+    /**
+     * Make captured scopes those open on this thread.
+     *
+     * @param captured the scope returned by {@link #capture()}
+     * @return the scope open until now, to be restored in turn
+     */
+    static Frame restore(Frame captured) {
+        if (!used) {
+            return null;
+        }
+        Stack stack = STACKS.get();
+        Frame previous = stack.top;
+        stack.top = captured;
+        return previous;
+    }
+
+    /**
+     * @param context the context of the event
+     * @param argument the event's only argument
+     * @return the arguments with the context added, ahead of a trailing exception
+     */
+    static Object[] append(StructuredArgument context, Object argument) {
+        return argument instanceof Throwable
+                ? new Object[]{context, argument}
+                : new Object[]{argument, context};
+    }
+
+    /**
+     * @param context the context of the event
+     * @param first the event's first argument
+     * @param second the event's second argument
+     * @return the arguments with the context added, ahead of a trailing exception
+     */
+    static Object[] append(StructuredArgument context, Object first, Object second) {
+        return second instanceof Throwable
+                ? new Object[]{first, context, second}
+                : new Object[]{first, second, context};
+    }
+
+    /**
+     * @param context the context of the event
+     * @param arguments the event's arguments
+     * @return the arguments with the context added, ahead of a trailing exception
+     */
+    static Object[] append(StructuredArgument context, Object[] arguments) {
+        if (null == arguments || 0 == arguments.length) {
+            return new Object[]{context};
+        }
+        int length = arguments.length;
+        Object[] appended = new Object[length + 1];
+        if (arguments[length - 1] instanceof Throwable) {
+            System.arraycopy(arguments, 0, appended, 0, length - 1);
+            appended[length - 1] = context;
+            appended[length] = arguments[length - 1];
+        } else {
+            System.arraycopy(arguments, 0, appended, 0, length);
+            appended[length] = context;
+        }
+        return appended;
+    }
+
+    /**
+     * An open scope, closed at the end of a try-with-resources block.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final Stack stack;
+        private final Frame frame;
+
+        private Scope(Stack stack, Frame frame) {
+            this.stack = stack;
+            this.frame = frame;
+        }
+
+        /**
+         * Stop adding the scope's fields, and those of scopes opened within it. Closing a
+         * scope a second time has no effect.
+         */
+        @Override
+        public void close() {
+            for (Frame open = stack.top; null != open; open = open.parent) {
+                if (open == frame) {
+                    stack.top = frame.parent;
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class Stack {
+        private Frame top;
+    }
+
+    /**
+     * The fields of one scope, following those of the scopes it was opened in.
+     */
+    static final class Frame implements StructuredArgument {
+        private final Frame parent;
+        private final KeyValuePair<?>[] pairs;
+        private final StructuredArgument[] args;
+        private final int size;
+        private final boolean functional;
+
+        Frame(Frame parent, KeyValuePair<?>[] pairs) {
+            this.parent = parent;
+            this.pairs = pairs;
+            this.args = new StructuredArgument[pairs.length];
+            boolean functional = null != parent && parent.functional;
+            for (int x = 0; x < pairs.length; x++) {
+                if (pairs[x].value instanceof Supplier && !(pairs[x] instanceof StructuredArgument)) {
+                    functional = true;
+                } else {
+                    args[x] = FuncLogger.Common.structure(pairs[x]);
+                }
+            }
+            this.size = (null == parent ? 0 : parent.size) + pairs.length;
+            this.functional = functional;
+        }
+
+        /**
+         * @return this frame, or if any pair is functional, the fields evaluated now
+         */
+        StructuredArgument evaluate() {
+            if (!functional) {
+                return this;
+            }
+            StructuredArgument[] evaluated = new StructuredArgument[size];
+            int end = size;
+            for (Frame frame = this; null != frame; frame = frame.parent) {
+                end -= frame.pairs.length;
+                for (int x = 0; x < frame.pairs.length; x++) {
+                    StructuredArgument arg = frame.args[x];
+                    evaluated[end + x] = null == arg ? FuncLogger.Common.structure(frame.pairs[x]) : arg;
+                }
+            }
+            return new Evaluated(evaluated);
+        }
+
+        @Override
+        public void writeTo(JsonGenerator generator) throws IOException {
+            if (null != parent) {
+                parent.writeTo(generator);
+            }
+            for (StructuredArgument arg : args) {
+                arg.writeTo(generator);
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder rendered = new StringBuilder();
+            appendTo(rendered);
+            return rendered.toString();
+        }
+
+        private void appendTo(StringBuilder rendered) {
+            if (null != parent) {
+                parent.appendTo(rendered);
+            }
+            for (StructuredArgument arg : args) {
+                if (rendered.length() > 0) {
+                    rendered.append(", ");
+                }
+                rendered.append(arg);
+            }
+        }
+    }
+
+    /**
+     * The fields of a context with functional pairs, as evaluated for one event.
+     */
+    private static final class Evaluated implements StructuredArgument {
+        private final StructuredArgument[] args;
+
+        Evaluated(StructuredArgument[] args) {
+            this.args = args;
+        }
+
+        @Override
+        public void writeTo(JsonGenerator generator) throws IOException {
+            for (StructuredArgument arg : args) {
+                arg.writeTo(generator);
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder rendered = new StringBuilder();
+            for (int x = 0; x < args.length; x++) {
+                if (x > 0) {
+                    rendered.append(", ");
+                }
+                rendered.append(args[x]);
+            }
+            return rendered.toString();
+        }
+    }
+}
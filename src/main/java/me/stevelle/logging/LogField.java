@@ -0,0 +1,37 @@
+package me.stevelle.logging;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests a generated loggable representation for a <code>Loggable</code> class.</p>
+ *
+ * <p>When the <code>logfuncj-processor</code> annotation processor is on the compiler's
+ * processor path, a class named <code>LogFormat_</code> followed by the class name is
+ * generated alongside each annotated class. It reads the selected fields with straight-line
+ * code, so no reflection is needed to log the object:</p>
+ * <pre>
+ *   &#64;LogField
+ *   public class AccountCredential implements Loggable {
+ *       &#64;LogAs("user") String name;
+ *       &#64;LogExclude Byte[] secret;
+ *       int joinedYear;
+ *
+ *       &#64;Override
+ *       public StructuredArgument log() {
+ *           return new LogFormat_AccountCredential(this);
+ *       }
+ *   }
+ * </pre>
+ *
+ * <p>On a class, every instance field not marked {@link LogExclude} is logged. On fields,
+ * only the annotated fields (and those marked {@link LogAs}) are logged.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.TYPE, ElementType.FIELD})
+public @interface LogField {
+}
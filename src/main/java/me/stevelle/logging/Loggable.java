@@ -2,17 +2,16 @@ package me.stevelle.logging;
 
 import net.logstash.logback.argument.StructuredArgument;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import static net.logstash.logback.argument.StructuredArguments.*;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Marker interface for objects for which the preferred logging behavior is to
  * treat some or all fields as structured logging properties.</p></p>
  *
  * <p>By default, classes implementing this Interface will get a default
- * behavior which captures all fields, using a JSON ObjectMapper. While useful,
+ * behavior which captures all fields, as a JSON ObjectMapper would, with the
+ * accessors resolved once per class rather than on every call. While useful,
  * that behavior may be inappropriate in some cases. Thus a Builder is provided
  * to facilitate easy construction of a logging representation.</p></p>
  *
@@ -48,15 +47,40 @@ public interface Loggable {
      */
     default StructuredArgument log() {
         Builder builder = this.logFormat();
-        return null == builder ? fields(this) : builder.build();
+        return null == builder ? LoggableFields.of(this) : builder.build();
     }
 
     /**
-     * Builder to facilitate redefinition of an object's loggable representation.
+     * Builder to facilitate redefinition of an object's loggable representation.</p>
+     *
+     * <p>Properties are logged in the order they are added. Adding a key a second
+     * time replaces the earlier value, keeping its original position.</p>
      */
     class Builder {
 
-        private Map<String, Object> added = new HashMap<>();
+        private static final int DEFAULT_CAPACITY = 4;
+
+        private String[] keys;
+        private Object[] values;
+        private int size;
+        private boolean shared;
+
+        /**
+         * Standard constructor
+         */
+        public Builder() {
+            this(DEFAULT_CAPACITY);
+        }
+
+        /**
+         * Constructor presizing the builder for the number of properties expected.
+         *
+         * @param expectedSize the number of properties likely to be added
+         */
+        public Builder(int expectedSize) {
+            this.keys = new String[expectedSize];
+            this.values = new Object[expectedSize];
+        }
 
         /**
          * Add a property to an object's loggable representation.
@@ -66,7 +90,26 @@ public interface Loggable {
          * @return the builder in progress
          */
         public Builder with(String key, Object value) {
-            added.put(key, value);
+            if (shared) {
+                // a built representation holds the current arrays
+                keys = keys.clone();
+                values = values.clone();
+                shared = false;
+            }
+            for (int x = 0; x < size; x++) {
+                if (Objects.equals(keys[x], key)) {
+                    values[x] = value;
+                    return this;
+                }
+            }
+            if (size == keys.length) {
+                int capacity = Math.max(DEFAULT_CAPACITY, size * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            keys[size] = key;
+            values[size] = value;
+            size++;
             return this;
         }
 
@@ -76,7 +119,18 @@ public interface Loggable {
          * @return a StructuredArgument describing the object defined in the builder
          */
         public StructuredArgument build() {
-            return entries(added);
+            shared = true;
+            return new OrderedEntries(keys, values, size);
+        }
+
+        /**
+         * Evaluate the object and render the representation to JSON once, for a
+         * representation which is logged unchanged by many events.
+         *
+         * @return a StructuredArgument writing the rendered representation verbatim
+         */
+        public StructuredArgument render() {
+            return JsonFragment.of(build());
         }
     }
 }
@@ -0,0 +1,257 @@
+package me.stevelle.logging;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotation;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import net.logstash.logback.argument.StructuredArgument;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static net.logstash.logback.argument.StructuredArguments.fields;
+
+/**
+ * Compiled plan of the properties logged for a <code>Loggable</code> class which does not
+ * override {@link Loggable#logFormat()}.</p>
+ *
+ * <p>The plan mirrors the default property discovery of a Jackson <code>ObjectMapper</code>,
+ * which is what {@link net.logstash.logback.argument.StructuredArguments#fields(Object)} uses:
+ * public instance fields, then public <em>get</em> and <em>is</em> accessors, with an accessor
+ * taking precedence over a field of the same name. It is computed once per class and cached,
+ * so logging an instance only reads each property through a <code>MethodHandle</code>.</p>
+ *
+ * <p>Classes whose representation Jackson would not derive that way (those carrying Jackson
+ * annotations, maps, collections and other non-bean types) keep using <code>fields(this)</code>.</p>
+ */
+final class LoggableFields {
+
+    private static final LoggableFields UNSUPPORTED = new LoggableFields(null, null);
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<LoggableFields> PLANS = new ClassValue<LoggableFields>() {
+        @Override
+        protected LoggableFields computeValue(Class<?> type) {
+            return plan(type);
+        }
+    };
+
+    private final SerializableString[] names;
+    private final MethodHandle[] accessors;
+
+    private LoggableFields(SerializableString[] names, MethodHandle[] accessors) {
+        this.names = names;
+        this.accessors = accessors;
+    }
+
+    /**
+     * Build the default loggable representation of an object.
+     *
+     * @param source the object to represent
+     * @return a StructuredArgument which writes the properties of the object
+     */
+    static StructuredArgument of(Object source) {
+        LoggableFields plan = PLANS.get(source.getClass());
+        return UNSUPPORTED == plan ? fields(source) : new Planned(plan, source);
+    }
+
+    private static LoggableFields plan(Class<?> type) {
+        if (!isBean(type)) {
+            return UNSUPPORTED;
+        }
+
+        Map<String, MethodHandle> properties = new LinkedHashMap<>();
+        try {
+            for (Class<?> declaring : hierarchyOf(type)) {
+                for (Field field : declaring.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers)
+                            && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+                        field.setAccessible(true);
+                        properties.put(field.getName(), accessor(MethodHandles.lookup().unreflectGetter(field)));
+                    }
+                }
+            }
+            for (Class<?> declaring : hierarchyOf(type)) {
+                for (Method method : declaring.getDeclaredMethods()) {
+                    String name = propertyName(method);
+                    if (null != name) {
+                        method.setAccessible(true);
+                        properties.put(name, accessor(MethodHandles.lookup().unreflect(method)));
+                    }
+                }
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            // inaccessible members, leave it to Jackson
+            return UNSUPPORTED;
+        }
+
+        if (properties.isEmpty()) {
+            return UNSUPPORTED;
+        }
+
+        SerializableString[] names = new SerializableString[properties.size()];
+        MethodHandle[] accessors = new MethodHandle[properties.size()];
+        int x = 0;
+        for (Map.Entry<String, MethodHandle> property : properties.entrySet()) {
+            names[x] = new SerializedString(property.getKey());
+            accessors[x] = property.getValue();
+            x++;
+        }
+        return new LoggableFields(names, accessors);
+    }
+
+    private static MethodHandle accessor(MethodHandle handle) {
+        return handle.asType(ACCESSOR_TYPE);
+    }
+
+    /**
+     * Determine whether Jackson would serialize the type as a plain bean without customization.
+     */
+    private static boolean isBean(Class<?> type) {
+        if (type.isArray() || type.isEnum() || type.isPrimitive()
+                || Map.class.isAssignableFrom(type) || Iterable.class.isAssignableFrom(type)
+                || CharSequence.class.isAssignableFrom(type) || Number.class.isAssignableFrom(type)
+                || com.fasterxml.jackson.databind.JsonSerializable.class.isAssignableFrom(type)) {
+            return false;
+        }
+        for (Class<?> declaring : hierarchyOf(type)) {
+            if (hasJacksonAnnotation(declaring)) {
+                return false;
+            }
+            try {
+                for (Field field : declaring.getDeclaredFields()) {
+                    if (hasJacksonAnnotation(field)) {
+                        return false;
+                    }
+                }
+                for (Method method : declaring.getDeclaredMethods()) {
+                    if (hasJacksonAnnotation(method)) {
+                        return false;
+                    }
+                }
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasJacksonAnnotation(AnnotatedElement element) {
+        for (Annotation annotation : element.getDeclaredAnnotations()) {
+            if (annotation.annotationType().isAnnotationPresent(JacksonAnnotation.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The classes and interfaces a type inherits from, superclasses first, excluding Object.
+     */
+    private static Iterable<Class<?>> hierarchyOf(Class<?> type) {
+        Deque<Class<?>> hierarchy = new ArrayDeque<>();
+        for (Class<?> current = type; null != current && Object.class != current;
+             current = current.getSuperclass()) {
+            hierarchy.addFirst(current);
+            for (Class<?> implemented : current.getInterfaces()) {
+                if (Loggable.class != implemented) {
+                    hierarchy.addLast(implemented);
+                }
+            }
+        }
+        return hierarchy;
+    }
+
+    /**
+     * The property name Jackson would derive from an accessor, or null if it is not one.
+     */
+    private static String propertyName(Method method) {
+        int modifiers = method.getModifiers();
+        if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers)
+                || Modifier.isAbstract(modifiers) || method.getParameterCount() > 0
+                || method.isSynthetic() || method.isBridge()
+                || Object.class == method.getDeclaringClass()) {
+            return null;
+        }
+        String name = method.getName();
+        Class<?> returned = method.getReturnType();
+        if (name.startsWith("get") && void.class != returned) {
+            return mangle(name, 3);
+        }
+        if (name.startsWith("is") && boolean.class == returned) {
+            return mangle(name, 2);
+        }
+        return null;
+    }
+
+    /**
+     * Lower-case the leading upper-case characters of an accessor name, as Jackson does,
+     * so that <code>getURL</code> yields <code>url</code> and <code>getUserId</code> yields
+     * <code>userId</code>.
+     */
+    private static String mangle(String name, int offset) {
+        int end = name.length();
+        if (end == offset) {
+            return null;
+        }
+        StringBuilder mangled = new StringBuilder(end - offset);
+        int x = offset;
+        for (; x < end; x++) {
+            char original = name.charAt(x);
+            char lower = Character.toLowerCase(original);
+            if (original == lower) {
+                break;
+            }
+            mangled.append(lower);
+        }
+        return mangled.append(name, x, end).toString();
+    }
+
+    /**
+     * Representation of one object, whose properties are read when it is written.
+     */
+    private static final class Planned implements StructuredArgument {
+        private final LoggableFields plan;
+        private final Object source;
+
+        Planned(LoggableFields plan, Object source) {
+            this.plan = plan;
+            this.source = source;
+        }
+
+        @Override
+        public void writeTo(JsonGenerator generator) throws IOException {
+            EncodingLimits limits = EncodingLimits.current();
+            for (int x = 0; x < plan.names.length; x++) {
+                Object value;
+                try {
+                    value = (Object) plan.accessors[x].invokeExact(source);
+                } catch (IOException | RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new IOException("Failed to read property " + plan.names[x], t);
+                }
+                generator.writeFieldName(plan.names[x]);
+                ValueSerializers.write(limits.limit(value, 1), generator);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(source);
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package me.stevelle.logging;
 
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
 import java.util.Map;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 public interface Logger extends org.slf4j.Logger {
@@ -101,6 +108,82 @@ public interface Logger extends org.slf4j.Logger {
      */
     void trace(String format, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc);
 
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation or function evaluation
+     * when the logger is disabled for the TRACE level, and records the
+     * <code>int</code> value without boxing it when enabled. </p>
+     *
+     * <p>example of usage:</p>
+     * <pre>
+     *   trace("Updated List {}", "size", myLinkedList::size);
+     * </pre>
+     *
+     * @param format    the format string
+     * @param label     the key for the value to be recorded
+     * @param func      the function which yields the value to be recorded
+     */
+    void trace(String format, String label, IntSupplier func);
+
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation or function evaluation
+     * when the logger is disabled for the TRACE level, and records the
+     * <code>long</code> value without boxing it when enabled. </p>
+     *
+     * <p>example of usage:</p>
+     * <pre>
+     *   trace("Flushed {}", "bytes", channel::position);
+     * </pre>
+     *
+     * @param format    the format string
+     * @param label     the key for the value to be recorded
+     * @param func      the function which yields the value to be recorded
+     */
+    void trace(String format, String label, LongSupplier func);
+
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation or function evaluation
+     * when the logger is disabled for the TRACE level, and records the
+     * <code>double</code> value without boxing it when enabled. </p>
+     *
+     * <p>example of usage:</p>
+     * <pre>
+     *   trace("Sampled {}", "load", () -> osBean.getSystemLoadAverage());
+     * </pre>
+     *
+     * @param format    the format string
+     * @param label     the key for the value to be recorded
+     * @param func      the function which yields the value to be recorded
+     */
+    void trace(String format, String label, DoubleSupplier func);
+
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation or function evaluation
+     * when the logger is disabled for the TRACE level, and records the
+     * <code>boolean</code> value without boxing it when enabled. </p>
+     *
+     * <p>example of usage:</p>
+     * <pre>
+     *   trace("Checked {}", "empty", queue::isEmpty);
+     * </pre>
+     *
+     * @param format    the format string
+     * @param label     the key for the value to be recorded
+     * @param func      the function which yields the value to be recorded
+     */
+    void trace(String format, String label, BooleanSupplier func);
+
     /**
      * Log a message at the TRACE level according to the specified format
      * and arguments.
@@ -185,6 +268,273 @@ public interface Logger extends org.slf4j.Logger {
      */
     void trace(String format, KeyValuePair<?>... pairs);
 
+    /**
+     * Log a message with the specific Marker at the TRACE level according to the specified format
+     * and argument.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the TRACE level and marker. </p>
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format the format string
+     * @param loggable    the argument
+     */
+    void trace(Marker marker, String format, Loggable loggable);
+
+    /**
+     * Log a message with the specific Marker at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the TRACE level and marker. </p>
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format the format string
+     * @param first   the first argument
+     * @param second   the second argument
+     */
+    void trace(Marker marker, String format, Loggable first, Loggable second);
+
+    /**
+     * Log a message with the specific Marker at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous string concatenation when the logger
+     * is disabled for the TRACE level and marker. However, this variant incurs the hidden
+     * (and relatively small) cost of creating an <code>Object[]</code> before invoking the method,
+     * even if this logger is disabled for TRACE. The variants taking {@link #trace(String, Object) one} and
+     * {@link #trace(String, Object, Object) two} arguments exist solely in order to avoid this hidden cost.</p>
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format    the format string
+     * @param loggables a list of 3 or more arguments
+     */
+    void trace(Marker marker, String format, Loggable... loggables);
+
+    /**
+     * Log a message with the specific Marker at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation or function evaluation
+     * when the logger is disabled for the TRACE level and marker and marker. </p>
+     *
+     * <p>examples of usage:</p>
+     * <pre>
+     *   // instance method
+     *   trace(marker, "Updated List {}", "size", myLinkedList::size);
+     *
+     *   // static method
+     *   trace(marker, "Registered {}", "user", Sessions::currentUser);
+     *
+     *   // lambda
+     *   trace(marker, "Complete {}", "requestId", () -> request.headers.get('request_id'));
+     * </pre>
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format    the format string
+     * @param label     the key for the value to be recorded
+     * @param func      the function which yields the value to be recorded
+     */
+    void trace(Marker marker, String format, String label, Supplier<?> func);
+
+    /**
+     * Log a message with the specific Marker at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation or function evaluation
+     * when the logger is disabled for the TRACE level and marker and marker. </p>
+     *
+     * <p>examples of usage:</p>
+     * <pre>
+     *   // instance method
+     *   trace(marker, "Updated Lists {} {}", "linked", myLinkedList::size, "array", myArrayList::size);
+     *
+     *   // static method
+     *   trace(marker, "Registered {} {}", "user", User::findById, userId, "birthday", Instant::parse, born);
+     *
+     *   // lambda
+     *   trace(marker, "Complete {} {}",
+     *       "at", (ts) -> Instant.ofEpochSecond(ts == null ? Instant.EPOCH : Long.valueOf(ts)), timestamp,
+     *       "for", (names) -> String.join(" ", Arrays.asList(names)), namesArray);
+     * </pre>
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format    the format string
+     * @param aLabel    the key for the first value to be recorded
+     * @param aFunc     the function which yields the first value to be recorded
+     * @param bLabel    the key for the second value to be recorded
+     * @param bFunc     the function which yields the second value to be recorded
+     */
+    void trace(Marker marker, String format, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc);
+
+    /**
+     * Log a message with the specific Marker at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation or function evaluation
+     * when the logger is disabled for the TRACE level and marker and marker, and records the
+     * <code>int</code> value without boxing it when enabled. </p>
+     *
+     * <p>example of usage:</p>
+     * <pre>
+     *   trace(marker, "Updated List {}", "size", myLinkedList::size);
+     * </pre>
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format    the format string
+     * @param label     the key for the value to be recorded
+     * @param func      the function which yields the value to be recorded
+     */
+    void trace(Marker marker, String format, String label, IntSupplier func);
+
+    /**
+     * Log a message with the specific Marker at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation or function evaluation
+     * when the logger is disabled for the TRACE level and marker and marker, and records the
+     * <code>long</code> value without boxing it when enabled. </p>
+     *
+     * <p>example of usage:</p>
+     * <pre>
+     *   trace(marker, "Flushed {}", "bytes", channel::position);
+     * </pre>
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format    the format string
+     * @param label     the key for the value to be recorded
+     * @param func      the function which yields the value to be recorded
+     */
+    void trace(Marker marker, String format, String label, LongSupplier func);
+
+    /**
+     * Log a message with the specific Marker at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation or function evaluation
+     * when the logger is disabled for the TRACE level and marker and marker, and records the
+     * <code>double</code> value without boxing it when enabled. </p>
+     *
+     * <p>example of usage:</p>
+     * <pre>
+     *   trace(marker, "Sampled {}", "load", () -> osBean.getSystemLoadAverage());
+     * </pre>
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format    the format string
+     * @param label     the key for the value to be recorded
+     * @param func      the function which yields the value to be recorded
+     */
+    void trace(Marker marker, String format, String label, DoubleSupplier func);
+
+    /**
+     * Log a message with the specific Marker at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation or function evaluation
+     * when the logger is disabled for the TRACE level and marker and marker, and records the
+     * <code>boolean</code> value without boxing it when enabled. </p>
+     *
+     * <p>example of usage:</p>
+     * <pre>
+     *   trace(marker, "Checked {}", "empty", queue::isEmpty);
+     * </pre>
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format    the format string
+     * @param label     the key for the value to be recorded
+     * @param func      the function which yields the value to be recorded
+     */
+    void trace(Marker marker, String format, String label, BooleanSupplier func);
+
+    /**
+     * Log a message with the specific Marker at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the TRACE level and marker. </p>
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format the format string
+     * @param arguments the arguments to record
+     */
+    void trace(Marker marker, String format, Map<String, ?> arguments);
+
+    /**
+     * Log a message with the specific Marker at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation or function evaluation
+     * when the logger is disabled for the TRACE level and marker and marker. </p>
+     *
+     * <p>examples of usage:</p>
+     * <pre>
+     *   // instance method
+     *   trace(marker, "Completed {}", "timestamp", instant::toEpochMilli, now);
+     *
+     *   // static method
+     *   trace(marker, "Calculated {}", "distance", Double::valueOf, distStr);
+     *
+     *   // lambda
+     *   trace(marker, "Parsing Distance {}",
+     *       (distance) -> Double.valueOf(distance).isNaN() ? "Invalid" : "OK";
+     * </pre>
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format the format string
+     * @param label to label the value
+     * @param func which will yield the value to record when called
+     * @param parameter argument to pass to the function when called
+     * @param <T> type of argument passed to the function
+     * @param <R> type of value represented
+     */
+    <T, R> void trace(Marker marker, String format, String label, Function<T, R> func, T parameter);
+
+    /**
+     * Log a message with the specific Marker at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation or function evaluation
+     * when the logger is disabled for the TRACE level and marker and marker. </p>
+     *
+     * <p>examples of usage:</p>
+     * <pre>
+     *   // instance method
+     *   trace(marker, "Calculating compound {}", "compound", String::concat, posIon, negIon);
+     *
+     *   // static method
+     *   trace(marker, "Choosing largest {}", "largest", Double::max, left, right);
+     *
+     *   // lambda
+     *   trace(marker, "Updating Props {}", "property", (k, v) ->
+     *       System::setProperty(k.toLowerCase(), v.toLowerCase())
+     * </pre>
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format the format string
+     * @param label to label the value
+     * @param func which will yield the value to record when called
+     * @param first first argument to pass to the function when called
+     * @param second second argument to pass to the function when called
+     * @param <F> type of first argument passed to the function
+     * @param <S> type of second argument passed to the function
+     * @param <R> type of value represented
+     */
+    <F, S, R> void trace(Marker marker, String format, String label, BiFunction<F, S, R> func, F first, S second);
+
+    /**
+     * Log a message with the specific Marker at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation or function evaluation
+     * when the logger is disabled for the TRACE level and marker and marker. </p>
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format the format string
+     * @param pairs the structured arguments to log
+     */
+    void trace(Marker marker, String format, KeyValuePair<?>... pairs);
+
     void debug(String format, Loggable loggable);
 
     void debug(String format, Loggable first, Loggable second);
@@ -195,6 +545,14 @@ public interface Logger extends org.slf4j.Logger {
 
     void debug(String format, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc);
 
+    void debug(String format, String label, IntSupplier func);
+
+    void debug(String format, String label, LongSupplier func);
+
+    void debug(String format, String label, DoubleSupplier func);
+
+    void debug(String format, String label, BooleanSupplier func);
+
     void debug(String format, Map<String, ?> objects);
 
     <T, R> void debug(String format, String label, Function<T, R> func, T parameter);
@@ -202,6 +560,32 @@ public interface Logger extends org.slf4j.Logger {
     <F, S, R> void debug(String format, String label, BiFunction<F, S, R> func, F first, S second);
 
     void debug(String format, KeyValuePair<?>... pairs);
+
+    void debug(Marker marker, String format, Loggable loggable);
+
+    void debug(Marker marker, String format, Loggable first, Loggable second);
+
+    void debug(Marker marker, String format, Loggable... loggables);
+
+    void debug(Marker marker, String format, String label, Supplier<?> func);
+
+    void debug(Marker marker, String format, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc);
+
+    void debug(Marker marker, String format, String label, IntSupplier func);
+
+    void debug(Marker marker, String format, String label, LongSupplier func);
+
+    void debug(Marker marker, String format, String label, DoubleSupplier func);
+
+    void debug(Marker marker, String format, String label, BooleanSupplier func);
+
+    void debug(Marker marker, String format, Map<String, ?> objects);
+
+    <T, R> void debug(Marker marker, String format, String label, Function<T, R> func, T parameter);
+
+    <F, S, R> void debug(Marker marker, String format, String label, BiFunction<F, S, R> func, F first, S second);
+
+    void debug(Marker marker, String format, KeyValuePair<?>... pairs);
     void info(String format, Loggable loggable);
 
     void info(String format, Loggable first, Loggable second);
@@ -212,6 +596,14 @@ public interface Logger extends org.slf4j.Logger {
 
     void info(String format, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc);
 
+    void info(String format, String label, IntSupplier func);
+
+    void info(String format, String label, LongSupplier func);
+
+    void info(String format, String label, DoubleSupplier func);
+
+    void info(String format, String label, BooleanSupplier func);
+
     void info(String format, Map<String, ?> objects);
 
     <T, R> void info(String format, String label, Function<T, R> func, T parameter);
@@ -219,6 +611,32 @@ public interface Logger extends org.slf4j.Logger {
     <F, S, R> void info(String format, String label, BiFunction<F, S, R> func, F first, S second);
 
     void info(String format, KeyValuePair<?>... pairs);
+
+    void info(Marker marker, String format, Loggable loggable);
+
+    void info(Marker marker, String format, Loggable first, Loggable second);
+
+    void info(Marker marker, String format, Loggable... loggables);
+
+    void info(Marker marker, String format, String label, Supplier<?> func);
+
+    void info(Marker marker, String format, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc);
+
+    void info(Marker marker, String format, String label, IntSupplier func);
+
+    void info(Marker marker, String format, String label, LongSupplier func);
+
+    void info(Marker marker, String format, String label, DoubleSupplier func);
+
+    void info(Marker marker, String format, String label, BooleanSupplier func);
+
+    void info(Marker marker, String format, Map<String, ?> objects);
+
+    <T, R> void info(Marker marker, String format, String label, Function<T, R> func, T parameter);
+
+    <F, S, R> void info(Marker marker, String format, String label, BiFunction<F, S, R> func, F first, S second);
+
+    void info(Marker marker, String format, KeyValuePair<?>... pairs);
     
     void warn(String format, Loggable loggable);
 
@@ -230,6 +648,14 @@ public interface Logger extends org.slf4j.Logger {
 
     void warn(String format, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc);
 
+    void warn(String format, String label, IntSupplier func);
+
+    void warn(String format, String label, LongSupplier func);
+
+    void warn(String format, String label, DoubleSupplier func);
+
+    void warn(String format, String label, BooleanSupplier func);
+
     void warn(String format, Map<String, ?> objects);
 
     <T, R> void warn(String format, String label, Function<T, R> func, T parameter);
@@ -238,6 +664,32 @@ public interface Logger extends org.slf4j.Logger {
 
     void warn(String format, KeyValuePair<?>... pairs);
 
+    void warn(Marker marker, String format, Loggable loggable);
+
+    void warn(Marker marker, String format, Loggable first, Loggable second);
+
+    void warn(Marker marker, String format, Loggable... loggables);
+
+    void warn(Marker marker, String format, String label, Supplier<?> func);
+
+    void warn(Marker marker, String format, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc);
+
+    void warn(Marker marker, String format, String label, IntSupplier func);
+
+    void warn(Marker marker, String format, String label, LongSupplier func);
+
+    void warn(Marker marker, String format, String label, DoubleSupplier func);
+
+    void warn(Marker marker, String format, String label, BooleanSupplier func);
+
+    void warn(Marker marker, String format, Map<String, ?> objects);
+
+    <T, R> void warn(Marker marker, String format, String label, Function<T, R> func, T parameter);
+
+    <F, S, R> void warn(Marker marker, String format, String label, BiFunction<F, S, R> func, F first, S second);
+
+    void warn(Marker marker, String format, KeyValuePair<?>... pairs);
+
     void error(String format, Loggable loggable);
 
     void error(String format, Loggable first, Loggable second);
@@ -248,6 +700,14 @@ public interface Logger extends org.slf4j.Logger {
 
     void error(String format, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc);
 
+    void error(String format, String label, IntSupplier func);
+
+    void error(String format, String label, LongSupplier func);
+
+    void error(String format, String label, DoubleSupplier func);
+
+    void error(String format, String label, BooleanSupplier func);
+
     void error(String format, Map<String, ?> objects);
 
     <T, R> void error(String format, String label, Function<T, R> func, T parameter);
@@ -255,4 +715,90 @@ public interface Logger extends org.slf4j.Logger {
     <F, S, R> void error(String format, String label, BiFunction<F, S, R> func, F first, S second);
 
     void error(String format, KeyValuePair<?>... pairs);
+
+    void error(Marker marker, String format, Loggable loggable);
+
+    void error(Marker marker, String format, Loggable first, Loggable second);
+
+    void error(Marker marker, String format, Loggable... loggables);
+
+    void error(Marker marker, String format, String label, Supplier<?> func);
+
+    void error(Marker marker, String format, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc);
+
+    void error(Marker marker, String format, String label, IntSupplier func);
+
+    void error(Marker marker, String format, String label, LongSupplier func);
+
+    void error(Marker marker, String format, String label, DoubleSupplier func);
+
+    void error(Marker marker, String format, String label, BooleanSupplier func);
+
+    void error(Marker marker, String format, Map<String, ?> objects);
+
+    <T, R> void error(Marker marker, String format, String label, Function<T, R> func, T parameter);
+
+    <F, S, R> void error(Marker marker, String format, String label, BiFunction<F, S, R> func, F first, S second);
+
+    void error(Marker marker, String format, KeyValuePair<?>... pairs);
+
+    /**
+     * Start building an event at the TRACE level.
+     * <p/>
+     * <p>When the logger is disabled for the TRACE level the builder returned ignores
+     * everything, so none of its fields are evaluated. </p>
+     *
+     * @return a builder for the event, ended by {@link EventBuilder#log(String)}
+     */
+    default EventBuilder atTrace() {
+        return isTraceEnabled() ? PooledEventBuilder.acquire(this, Level.TRACE) : NoopEventBuilder.INSTANCE;
+    }
+
+    /**
+     * Start building an event at the DEBUG level.
+     * <p/>
+     * <p>When the logger is disabled for the DEBUG level the builder returned ignores
+     * everything, so none of its fields are evaluated. </p>
+     *
+     * @return a builder for the event, ended by {@link EventBuilder#log(String)}
+     */
+    default EventBuilder atDebug() {
+        return isDebugEnabled() ? PooledEventBuilder.acquire(this, Level.DEBUG) : NoopEventBuilder.INSTANCE;
+    }
+
+    /**
+     * Start building an event at the INFO level.
+     * <p/>
+     * <p>When the logger is disabled for the INFO level the builder returned ignores
+     * everything, so none of its fields are evaluated. </p>
+     *
+     * @return a builder for the event, ended by {@link EventBuilder#log(String)}
+     */
+    default EventBuilder atInfo() {
+        return isInfoEnabled() ? PooledEventBuilder.acquire(this, Level.INFO) : NoopEventBuilder.INSTANCE;
+    }
+
+    /**
+     * Start building an event at the WARN level.
+     * <p/>
+     * <p>When the logger is disabled for the WARN level the builder returned ignores
+     * everything, so none of its fields are evaluated. </p>
+     *
+     * @return a builder for the event, ended by {@link EventBuilder#log(String)}
+     */
+    default EventBuilder atWarn() {
+        return isWarnEnabled() ? PooledEventBuilder.acquire(this, Level.WARN) : NoopEventBuilder.INSTANCE;
+    }
+
+    /**
+     * Start building an event at the ERROR level.
+     * <p/>
+     * <p>When the logger is disabled for the ERROR level the builder returned ignores
+     * everything, so none of its fields are evaluated. </p>
+     *
+     * @return a builder for the event, ended by {@link EventBuilder#log(String)}
+     */
+    default EventBuilder atError() {
+        return isErrorEnabled() ? PooledEventBuilder.acquire(this, Level.ERROR) : NoopEventBuilder.INSTANCE;
+    }
 }
@@ -2,6 +2,11 @@ package me.stevelle.logging;
 
 import org.slf4j.ILoggerFactory;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * The <code>LoggerFactory</code> is a utility class producing Loggers for
@@ -13,10 +18,17 @@ import org.slf4j.ILoggerFactory;
  * <p/>
  * <p/>
  * Please note that all methods in <code>LoggerFactory</code> are static.
+ * <p/>
+ * Loggers are registered by name, so repeated lookups of the same name return
+ * the same instance for as long as it remains referenced elsewhere. Entries are
+ * held weakly so that dynamically named loggers do not accumulate.
  *
  */
 public class LoggerFactory {
 
+    private static final ConcurrentMap<String, LoggerReference> LOGGERS = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<FuncLogger> COLLECTED = new ReferenceQueue<>();
+
     // private constructor prevents instantiation
     private LoggerFactory() {
     }
@@ -30,7 +42,8 @@ public class LoggerFactory {
      * @return logger
      */
     public static Logger getLogger(String name) {
-        return new FuncLogger(org.slf4j.LoggerFactory.getLogger(name));
+        FuncLogger logger = lookup(name);
+        return null != logger ? logger : register(name, org.slf4j.LoggerFactory.getLogger(name));
     }
 
     /**
@@ -55,6 +68,129 @@ public class LoggerFactory {
      *      logger name mismatch</a>
      */
     public static Logger getLogger(Class forClass) {
-        return new FuncLogger(org.slf4j.LoggerFactory.getLogger(forClass));
+        String name = forClass.getName();
+        FuncLogger logger = lookup(name);
+        return null != logger ? logger : register(name, org.slf4j.LoggerFactory.getLogger(forClass));
+    }
+
+    /**
+     * Return a logger which evaluates structured and functional arguments on the
+     * background thread of the given evaluator, rather than the calling thread.
+     * <p/>
+     * Asynchronous loggers are not registered; keep the returned logger rather
+     * than looking it up repeatedly.
+     *
+     * @param name
+     *            The name of the logger.
+     * @param evaluator
+     *            The evaluator to hand events to.
+     * @return logger
+     */
+    public static Logger getAsyncLogger(String name, AsyncEvaluator evaluator) {
+        return new AsyncFuncLogger(org.slf4j.LoggerFactory.getLogger(name), evaluator);
+    }
+
+    /**
+     * Return a logger named corresponding to the class passed as parameter, which
+     * evaluates structured and functional arguments on the background thread of the
+     * given evaluator, rather than the calling thread.
+     *
+     * @param forClass
+     *            the returned logger will be named after forClass
+     * @param evaluator
+     *            The evaluator to hand events to.
+     * @return logger
+     * @see #getAsyncLogger(String, AsyncEvaluator)
+     */
+    public static Logger getAsyncLogger(Class forClass, AsyncEvaluator evaluator) {
+        return new AsyncFuncLogger(org.slf4j.LoggerFactory.getLogger(forClass), evaluator);
+    }
+
+    /**
+     * Return a logger which records all the key/value pairs or map entries of an event
+     * into one compact argument, for use with {@link StreamingJsonEncoder}.
+     * <p/>
+     * Recording loggers are not registered; keep the returned logger rather than
+     * looking it up repeatedly.
+     *
+     * @param name
+     *            The name of the logger.
+     * @return logger
+     */
+    public static Logger getRecordingLogger(String name) {
+        return new RecordingFuncLogger(org.slf4j.LoggerFactory.getLogger(name));
+    }
+
+    /**
+     * Return a logger named corresponding to the class passed as parameter, which
+     * records all the key/value pairs or map entries of an event into one compact
+     * argument.
+     *
+     * @param forClass
+     *            the returned logger will be named after forClass
+     * @return logger
+     * @see #getRecordingLogger(String)
+     */
+    public static Logger getRecordingLogger(Class forClass) {
+        return new RecordingFuncLogger(org.slf4j.LoggerFactory.getLogger(forClass));
+    }
+
+    /**
+     * Make every logger read its level from Logback again on its next check.
+     * <p/>
+     * Loggers cache their effective level and are told when Logback changes it, but
+     * turbo filters added to the <code>LoggerContext</code> programmatically, outside
+     * a reconfiguration, are only taken into account after calling this method.
+     */
+    public static void refreshLevels() {
+        CachedLevel.invalidateAll();
+    }
+
+    private static FuncLogger lookup(String name) {
+        LoggerReference reference = LOGGERS.get(name);
+        return null == reference ? null : reference.get();
+    }
+
+    /**
+     * Register a new logger under the given name, unless another thread won the race
+     * to do so, in which case the winner is returned.
+     */
+    private static FuncLogger register(String name, org.slf4j.Logger inner) {
+        expungeCollected();
+        FuncLogger created = new FuncLogger(inner);
+        LoggerReference fresh = new LoggerReference(name, created, COLLECTED);
+        while (true) {
+            LoggerReference existing = LOGGERS.putIfAbsent(name, fresh);
+            if (null == existing) {
+                return created;
+            }
+            FuncLogger current = existing.get();
+            if (null != current) {
+                return current;
+            }
+            if (LOGGERS.replace(name, existing, fresh)) {
+                return created;
+            }
+        }
+    }
+
+    private static void expungeCollected() {
+        Reference<? extends FuncLogger> collected;
+        while (null != (collected = COLLECTED.poll())) {
+            LoggerReference stale = (LoggerReference) collected;
+            LOGGERS.remove(stale.name, stale);
+        }
+    }
+
+    /**
+     * Weak registry entry which remembers its name so it can be removed once collected.
+     */
+    private static final class LoggerReference extends WeakReference<FuncLogger> {
+        private final String name;
+
+        LoggerReference(String name, FuncLogger logger, ReferenceQueue<FuncLogger> queue) {
+            super(logger, queue);
+            this.name = name;
+        }
     }
 }
@@ -0,0 +1,71 @@
+package me.stevelle.logging;
+
+import net.logstash.logback.argument.StructuredArgument;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Supplier which evaluates another at most once, the first time it is asked for a value,
+ * and returns that value from then on. Built by {@link KeyValuePair#kmp(String, Supplier)}.</p>
+ *
+ * <p>It is safe to share between threads. Should the evaluation throw, nothing is
+ * remembered and the next call evaluates again. The structured representation of the
+ * value is remembered as well, so an event logging it again allocates nothing.</p>
+ *
+ * @param <T> type of value supplied
+ */
+final class MemoizedSupplier<T> implements Supplier<T> {
+
+    private Supplier<T> func;
+    private T value;
+    private volatile boolean evaluated;
+    private volatile Structured structured;
+
+    MemoizedSupplier(Supplier<T> func) {
+        this.func = func;
+    }
+
+    @Override
+    public T get() {
+        if (!evaluated) {
+            synchronized (this) {
+                if (!evaluated) {
+                    value = func.get();
+                    // release whatever the function captured
+                    func = null;
+                    evaluated = true;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @param label the key to structure the value under
+     * @return the structured representation of the value, evaluating it if need be
+     */
+    StructuredArgument structure(String label) {
+        Structured current = structured;
+        if (null == current || !Objects.equals(current.label, label)) {
+            current = new Structured(label, FuncLogger.Common.structure(label, get()));
+            structured = current;
+        }
+        return current.argument;
+    }
+
+    @Override
+    public String toString() {
+        return evaluated ? String.valueOf(value) : "<unevaluated>";
+    }
+
+    private static final class Structured {
+        final String label;
+        final StructuredArgument argument;
+
+        Structured(String label, StructuredArgument argument) {
+            this.label = label;
+            this.argument = argument;
+        }
+    }
+}
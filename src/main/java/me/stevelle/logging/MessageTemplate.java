@@ -0,0 +1,148 @@
+package me.stevelle.logging;
+
+import java.util.Arrays;
+
+/**
+ * A message format compiled into its literal segments, with an argument slot between
+ * each pair of segments, so rendering it is a single pass of appends.</p>
+ *
+ * <p>Placeholders and escapes are interpreted as SLF4J's <code>MessageFormatter</code> does:
+ * <code>{}</code> is a slot, <code>\{}</code> is a literal <code>{}</code>, and
+ * <code>\\{}</code> is a literal backslash followed by a slot.</p>
+ */
+final class MessageTemplate {
+
+    private final String pattern;
+    private final String[] segments;
+    private final String rawTail;
+
+    private MessageTemplate(String pattern, String[] segments, String rawTail) {
+        this.pattern = pattern;
+        this.segments = segments;
+        this.rawTail = rawTail;
+    }
+
+    static MessageTemplate compile(String pattern) {
+        String[] segments = new String[4];
+        int count = 0;
+        StringBuilder literal = new StringBuilder();
+        int start = 0;
+        int tail = 0;
+        for (;;) {
+            int delimiter = pattern.indexOf("{}", start);
+            if (-1 == delimiter) {
+                literal.append(pattern, start, pattern.length());
+                break;
+            }
+            boolean escaped = delimiter > 0 && '\\' == pattern.charAt(delimiter - 1);
+            boolean doubleEscaped = escaped && delimiter > 1 && '\\' == pattern.charAt(delimiter - 2);
+            if (escaped && !doubleEscaped) {
+                // a literal "{}", drop the escape and carry on from the closing brace
+                literal.append(pattern, start, delimiter - 1).append('{');
+                start = delimiter + 1;
+                continue;
+            }
+            literal.append(pattern, start, escaped ? delimiter - 1 : delimiter);
+            if (count == segments.length) {
+                segments = Arrays.copyOf(segments, count * 2);
+            }
+            segments[count++] = literal.toString();
+            literal.setLength(0);
+            start = delimiter + 2;
+            tail = start;
+        }
+        if (count == segments.length) {
+            segments = Arrays.copyOf(segments, count + 1);
+        }
+        segments[count++] = literal.toString();
+        return new MessageTemplate(pattern, Arrays.copyOf(segments, count), pattern.substring(tail));
+    }
+
+    /**
+     * @return the number of argument slots in the template
+     */
+    int slots() {
+        return segments.length - 1;
+    }
+
+    /**
+     * Determine whether the arguments can be rendered by {@link #appendTo(StringBuilder, Object[])}
+     * with the same result as SLF4J: there must be one for every slot, and none may be an array,
+     * which SLF4J renders specially.
+     *
+     * @param arguments the arguments of an event
+     * @return true if the template can render them
+     */
+    boolean canRender(Object[] arguments) {
+        int slots = slots();
+        if (null == arguments || 0 == arguments.length || arguments.length < slots) {
+            return false;
+        }
+        for (int x = 0; x < slots; x++) {
+            if (null != arguments[x] && arguments[x].getClass().isArray()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Append the message with its slots filled by the arguments.
+     *
+     * @param rendered the builder to append to
+     * @param arguments arguments for which {@link #canRender(Object[])} is true
+     */
+    void appendTo(StringBuilder rendered, Object[] arguments) {
+        int slots = slots();
+        for (int x = 0; x < slots; x++) {
+            rendered.append(segments[x]);
+            appendArgument(rendered, arguments[x]);
+        }
+        // SLF4J stops interpreting escapes once every argument has been used
+        rendered.append(arguments.length > slots ? segments[slots] : rawTail);
+    }
+
+    private static void appendArgument(StringBuilder rendered, Object argument) {
+        if (null == argument) {
+            rendered.append("null");
+            return;
+        }
+        try {
+            rendered.append(argument.toString());
+        } catch (Throwable t) {
+            rendered.append("[FAILED toString()]");
+        }
+    }
+
+    /**
+     * Bounded cache of compiled templates, keyed by the identity of the format string.
+     * Formats are almost always literals, so the same instance recurs for every event
+     * logged from one call site.</p>
+     *
+     * <p>Each format maps to one slot, and a colliding format replaces the template in it.
+     * Templates are immutable, so threads racing on a slot at worst compile twice.</p>
+     */
+    static final class Cache {
+        private final MessageTemplate[] templates;
+        private final int mask;
+
+        Cache(int size) {
+            int capacity = Integer.highestOneBit(Math.max(1, size));
+            if (capacity < size) {
+                capacity <<= 1;
+            }
+            this.templates = new MessageTemplate[capacity];
+            this.mask = capacity - 1;
+        }
+
+        MessageTemplate get(String pattern) {
+            int index = System.identityHashCode(pattern) & mask;
+            MessageTemplate template = templates[index];
+            if (null == template || template.pattern != pattern) {
+                template = compile(pattern);
+                templates[index] = template;
+            }
+            return template;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package me.stevelle.logging;
+
+import org.slf4j.Marker;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The builder returned for a disabled level, which ignores everything it is given.
+ */
+final class NoopEventBuilder implements EventBuilder {
+
+    static final NoopEventBuilder INSTANCE = new NoopEventBuilder();
+
+    private NoopEventBuilder() {
+    }
+
+    @Override
+    public EventBuilder kv(String key, Object value) {
+        return this;
+    }
+
+    @Override
+    public EventBuilder kv(String key, int value) {
+        return this;
+    }
+
+    @Override
+    public EventBuilder kv(String key, long value) {
+        return this;
+    }
+
+    @Override
+    public EventBuilder kv(String key, double value) {
+        return this;
+    }
+
+    @Override
+    public EventBuilder kv(String key, boolean value) {
+        return this;
+    }
+
+    @Override
+    public EventBuilder kf(String key, Supplier<?> func) {
+        return this;
+    }
+
+    @Override
+    public EventBuilder kf(String key, IntSupplier func) {
+        return this;
+    }
+
+    @Override
+    public EventBuilder kf(String key, LongSupplier func) {
+        return this;
+    }
+
+    @Override
+    public EventBuilder kf(String key, DoubleSupplier func) {
+        return this;
+    }
+
+    @Override
+    public EventBuilder kf(String key, BooleanSupplier func) {
+        return this;
+    }
+
+    @Override
+    public EventBuilder loggable(Loggable loggable) {
+        return this;
+    }
+
+    @Override
+    public EventBuilder marker(Marker marker) {
+        return this;
+    }
+
+    @Override
+    public EventBuilder cause(Throwable cause) {
+        return this;
+    }
+
+    @Override
+    public void log(String msg) {
+    }
+}
@@ -0,0 +1,46 @@
+package me.stevelle.logging;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import net.logstash.logback.argument.StructuredArgument;
+
+import java.io.IOException;
+
+/**
+ * StructuredArgument writing key/value pairs held in parallel arrays, in order.</p>
+ *
+ * <p>Equivalent to <code>entries(map)</code> for an insertion-ordered map, but written
+ * straight from the arrays a {@link Loggable.Builder} collected.</p>
+ */
+final class OrderedEntries implements StructuredArgument {
+
+    private final String[] keys;
+    private final Object[] values;
+    private final int size;
+
+    OrderedEntries(String[] keys, Object[] values, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.size = size;
+    }
+
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        EncodingLimits limits = EncodingLimits.current();
+        for (int x = 0; x < size; x++) {
+            generator.writeFieldName(String.valueOf(keys[x]));
+            ValueSerializers.write(limits.limit(values[x], 1), generator);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder rendered = new StringBuilder("{");
+        for (int x = 0; x < size; x++) {
+            if (x > 0) {
+                rendered.append(", ");
+            }
+            rendered.append(keys[x]).append('=').append(values[x]);
+        }
+        return rendered.append('}').toString();
+    }
+}
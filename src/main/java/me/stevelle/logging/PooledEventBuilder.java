@@ -0,0 +1,370 @@
+package me.stevelle.logging;
+
+import net.logstash.logback.argument.StructuredArgument;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.slf4j.event.Level;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The builder returned for an enabled level, reused by each thread for event after event.</p>
+ *
+ * <p>Fields are held in parallel arrays until the event is logged, then structured into its
+ * argument array and cleared. The thread's builder is in use from the moment it is acquired
+ * until its event is logged, so an event started meanwhile, by an argument expression,
+ * supplier or <code>Loggable</code> which logs, gets a builder of its own. So do the events
+ * of a thread which leaves its builder without logging it.</p>
+ */
+final class PooledEventBuilder implements EventBuilder {
+
+    private static final byte VALUE = 0;
+    private static final byte STRUCTURED = 1;
+    private static final byte LOGGABLE = 2;
+    private static final byte INT_FUNC = 3;
+    private static final byte LONG_FUNC = 4;
+    private static final byte DOUBLE_FUNC = 5;
+    private static final byte BOOLEAN_FUNC = 6;
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private static final ThreadLocal<PooledEventBuilder> POOL = ThreadLocal.withInitial(PooledEventBuilder::new);
+
+    private String[] keys = new String[DEFAULT_CAPACITY];
+    private byte[] kinds = new byte[DEFAULT_CAPACITY];
+    private Object[] values = new Object[DEFAULT_CAPACITY];
+    private int size;
+
+    private Logger logger;
+    private Gate gate;
+    private Executor executor;
+    private boolean recording;
+    private Level level;
+    private Marker marker;
+    private Throwable cause;
+    private boolean inUse;
+
+    private PooledEventBuilder() {
+    }
+
+    /**
+     * Start an event with the calling thread's builder.
+     *
+     * @param logger the logger to log the event with, already known to be enabled for the level
+     * @param level the level of the event
+     * @return the builder
+     */
+    static PooledEventBuilder acquire(Logger logger, Level level) {
+        PooledEventBuilder builder = POOL.get();
+        if (builder.inUse) {
+            builder = new PooledEventBuilder();
+        }
+        builder.inUse = true;
+        builder.logger = logger;
+        builder.level = level;
+        return builder;
+    }
+
+    /**
+     * @param gate decides whether the event is logged, before any of its fields are evaluated
+     * @return this builder
+     */
+    PooledEventBuilder gatedBy(Gate gate) {
+        this.gate = gate;
+        return this;
+    }
+
+    /**
+     * @param executor runs a copy of the event when it is logged, evaluating its fields there
+     * @return this builder
+     */
+    PooledEventBuilder deferredTo(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Record the fields into a single {@link RecordedArguments} when the event is logged,
+     * rather than structuring each of them.
+     *
+     * @return this builder
+     */
+    PooledEventBuilder recorded() {
+        this.recording = true;
+        return this;
+    }
+
+    @Override
+    public EventBuilder kv(String key, Object value) {
+        return add(key, VALUE, value);
+    }
+
+    @Override
+    public EventBuilder kv(String key, int value) {
+        return add(key, STRUCTURED, new PrimitivePair.OfInt(key, value));
+    }
+
+    @Override
+    public EventBuilder kv(String key, long value) {
+        return add(key, STRUCTURED, new PrimitivePair.OfLong(key, value));
+    }
+
+    @Override
+    public EventBuilder kv(String key, double value) {
+        return add(key, STRUCTURED, new PrimitivePair.OfDouble(key, value));
+    }
+
+    @Override
+    public EventBuilder kv(String key, boolean value) {
+        return add(key, STRUCTURED, new PrimitivePair.OfBoolean(key, value));
+    }
+
+    @Override
+    public EventBuilder kf(String key, Supplier<?> func) {
+        return add(key, VALUE, func);
+    }
+
+    @Override
+    public EventBuilder kf(String key, IntSupplier func) {
+        return add(key, INT_FUNC, func);
+    }
+
+    @Override
+    public EventBuilder kf(String key, LongSupplier func) {
+        return add(key, LONG_FUNC, func);
+    }
+
+    @Override
+    public EventBuilder kf(String key, DoubleSupplier func) {
+        return add(key, DOUBLE_FUNC, func);
+    }
+
+    @Override
+    public EventBuilder kf(String key, BooleanSupplier func) {
+        return add(key, BOOLEAN_FUNC, func);
+    }
+
+    @Override
+    public EventBuilder loggable(Loggable loggable) {
+        return add(null, LOGGABLE, loggable);
+    }
+
+    @Override
+    public EventBuilder marker(Marker marker) {
+        this.marker = marker;
+        return this;
+    }
+
+    @Override
+    public EventBuilder cause(Throwable cause) {
+        this.cause = cause;
+        return this;
+    }
+
+    @Override
+    public void log(String msg) {
+        if (null == logger) {
+            // already logged
+            return;
+        }
+        try {
+            if (null != gate) {
+                Marker admitted = gate.admit(level, marker, msg, keys, values, size);
+                if (Gate.SUPPRESSED == admitted) {
+                    return;
+                }
+                marker = admitted;
+            }
+            if (null != executor) {
+                PooledEventBuilder deferred = copy();
+                executor.execute(() -> deferred.log(msg));
+            } else if (recording) {
+                RecordedArguments recorded = record();
+                emit(msg, null == cause ? new Object[]{recorded} : new Object[]{recorded, cause});
+            } else if (null == cause) {
+                StructuredArgument[] args = ArgumentArrays.acquire(size);
+                try {
+                    for (int x = 0; x < size; x++) {
+                        args[x] = structure(x);
+                    }
+                    emit(msg, args);
+                } finally {
+                    ArgumentArrays.release(args);
+                }
+            } else {
+                // SLF4J takes the exception as the last argument
+                Object[] args = new Object[size + 1];
+                for (int x = 0; x < size; x++) {
+                    args[x] = structure(x);
+                }
+                args[size] = cause;
+                emit(msg, args);
+            }
+        } finally {
+            reset();
+        }
+    }
+
+    private EventBuilder add(String key, byte kind, Object value) {
+        if (size == keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        keys[size] = key;
+        kinds[size] = kind;
+        values[size] = value;
+        size++;
+        return this;
+    }
+
+    private StructuredArgument structure(int x) {
+        String key = keys[x];
+        Object value = values[x];
+        switch (kinds[x]) {
+            case STRUCTURED:
+                return (StructuredArgument) value;
+            case LOGGABLE:
+                return ((Loggable) value).log();
+            case INT_FUNC:
+                return new PrimitivePair.OfInt(key, ((IntSupplier) value).getAsInt());
+            case LONG_FUNC:
+                return new PrimitivePair.OfLong(key, ((LongSupplier) value).getAsLong());
+            case DOUBLE_FUNC:
+                return new PrimitivePair.OfDouble(key, ((DoubleSupplier) value).getAsDouble());
+            case BOOLEAN_FUNC:
+                return new PrimitivePair.OfBoolean(key, ((BooleanSupplier) value).getAsBoolean());
+            default:
+                return FuncLogger.Common.structure(key, value);
+        }
+    }
+
+    private RecordedArguments record() {
+        RecordedArguments recorded = RecordedArguments.withCapacity(size);
+        for (int x = 0; x < size; x++) {
+            String key = keys[x];
+            Object value = values[x];
+            switch (kinds[x]) {
+                case STRUCTURED:
+                    ((PrimitivePair<?>) value).recordTo(recorded);
+                    break;
+                case INT_FUNC:
+                    recorded.add(key, ((IntSupplier) value).getAsInt());
+                    break;
+                case LONG_FUNC:
+                    recorded.add(key, ((LongSupplier) value).getAsLong());
+                    break;
+                case DOUBLE_FUNC:
+                    recorded.add(key, ((DoubleSupplier) value).getAsDouble());
+                    break;
+                case BOOLEAN_FUNC:
+                    recorded.add(key, ((BooleanSupplier) value).getAsBoolean());
+                    break;
+                default:
+                    recorded.add(key, value);
+            }
+        }
+        return recorded;
+    }
+
+    /**
+     * @return an unpooled builder holding this one's event, to be logged on another thread
+     */
+    private PooledEventBuilder copy() {
+        PooledEventBuilder copy = new PooledEventBuilder();
+        copy.keys = Arrays.copyOf(keys, Math.max(1, size));
+        copy.kinds = Arrays.copyOf(kinds, Math.max(1, size));
+        copy.values = Arrays.copyOf(values, Math.max(1, size));
+        copy.size = size;
+        copy.logger = logger;
+        copy.level = level;
+        copy.marker = marker;
+        copy.cause = cause;
+        copy.recording = recording;
+        copy.inUse = true;
+        return copy;
+    }
+
+    private void emit(String msg, Object[] args) {
+        switch (level) {
+            case TRACE:
+                if (null == marker) {
+                    logger.trace(msg, args);
+                } else {
+                    logger.trace(marker, msg, args);
+                }
+                break;
+            case DEBUG:
+                if (null == marker) {
+                    logger.debug(msg, args);
+                } else {
+                    logger.debug(marker, msg, args);
+                }
+                break;
+            case INFO:
+                if (null == marker) {
+                    logger.info(msg, args);
+                } else {
+                    logger.info(marker, msg, args);
+                }
+                break;
+            case WARN:
+                if (null == marker) {
+                    logger.warn(msg, args);
+                } else {
+                    logger.warn(marker, msg, args);
+                }
+                break;
+            default:
+                if (null == marker) {
+                    logger.error(msg, args);
+                } else {
+                    logger.error(marker, msg, args);
+                }
+        }
+    }
+
+    private void reset() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        logger = null;
+        gate = null;
+        executor = null;
+        recording = false;
+        level = null;
+        marker = null;
+        cause = null;
+        inUse = false;
+    }
+
+    /**
+     * Decides whether an event is logged, from its message and keys, before any of its fields
+     * are evaluated.
+     */
+    interface Gate {
+
+        /**
+         * The marker returned for an event which is not to be logged.
+         */
+        Marker SUPPRESSED = MarkerFactory.getDetachedMarker("SUPPRESSED");
+
+        /**
+         * @param level the level of the event
+         * @param marker the marker of the event, or null
+         * @param msg the message format
+         * @param keys the keys of the fields, null for a <code>Loggable</code>
+         * @param values the values of the fields, unevaluated
+         * @param size the number of fields
+         * @return the marker to log the event with, or {@link #SUPPRESSED}
+         */
+        Marker admit(Level level, Marker marker, String msg, String[] keys, Object[] values, int size);
+    }
+}
@@ -0,0 +1,181 @@
+package me.stevelle.logging;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import net.logstash.logback.argument.StructuredArgument;
+
+import java.io.IOException;
+
+/**
+ * A <code>KeyValuePair</code> holding a primitive value, which is its own structured
+ * logging representation.</p>
+ *
+ * <p>The value is only held unboxed, and written straight to the JSON generator; the
+ * inherited <code>value</code> field is left null, so that building a pair for a disabled
+ * call allocates nothing but the pair. {@link #getValue()} boxes the value on demand.</p>
+ *
+ * @param <T> boxed type of value represented
+ */
+abstract class PrimitivePair<T> extends KeyValuePair<T> implements StructuredArgument {
+
+    PrimitivePair(String key) {
+        super(key, null);
+    }
+
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeFieldName(key);
+        writeValue(generator);
+    }
+
+    @Override
+    public abstract T getValue();
+
+    abstract void writeValue(JsonGenerator generator) throws IOException;
+
+    abstract void recordTo(RecordedArguments recorded);
+
+    static final class OfInt extends PrimitivePair<Integer> {
+        private final int primitive;
+
+        OfInt(String key, int primitive) {
+            super(key);
+            this.primitive = primitive;
+        }
+
+        @Override
+        public Integer getValue() {
+            return primitive;
+        }
+
+        @Override
+        void writeValue(JsonGenerator generator) throws IOException {
+            generator.writeNumber(primitive);
+        }
+
+        @Override
+        void recordTo(RecordedArguments recorded) {
+            recorded.add(key, primitive);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + primitive;
+        }
+    }
+
+    static final class OfLong extends PrimitivePair<Long> {
+        private final long primitive;
+
+        OfLong(String key, long primitive) {
+            super(key);
+            this.primitive = primitive;
+        }
+
+        @Override
+        public Long getValue() {
+            return primitive;
+        }
+
+        @Override
+        void writeValue(JsonGenerator generator) throws IOException {
+            generator.writeNumber(primitive);
+        }
+
+        @Override
+        void recordTo(RecordedArguments recorded) {
+            recorded.add(key, primitive);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + primitive;
+        }
+    }
+
+    static final class OfFloat extends PrimitivePair<Float> {
+        private final float primitive;
+
+        OfFloat(String key, float primitive) {
+            super(key);
+            this.primitive = primitive;
+        }
+
+        @Override
+        public Float getValue() {
+            return primitive;
+        }
+
+        @Override
+        void writeValue(JsonGenerator generator) throws IOException {
+            generator.writeNumber(primitive);
+        }
+
+        @Override
+        void recordTo(RecordedArguments recorded) {
+            recorded.add(key, primitive);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + primitive;
+        }
+    }
+
+    static final class OfDouble extends PrimitivePair<Double> {
+        private final double primitive;
+
+        OfDouble(String key, double primitive) {
+            super(key);
+            this.primitive = primitive;
+        }
+
+        @Override
+        public Double getValue() {
+            return primitive;
+        }
+
+        @Override
+        void writeValue(JsonGenerator generator) throws IOException {
+            generator.writeNumber(primitive);
+        }
+
+        @Override
+        void recordTo(RecordedArguments recorded) {
+            recorded.add(key, primitive);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + primitive;
+        }
+    }
+
+    static final class OfBoolean extends PrimitivePair<Boolean> {
+        private final boolean primitive;
+
+        OfBoolean(String key, boolean primitive) {
+            super(key);
+            this.primitive = primitive;
+        }
+
+        @Override
+        public Boolean getValue() {
+            return primitive;
+        }
+
+        @Override
+        void writeValue(JsonGenerator generator) throws IOException {
+            generator.writeBoolean(primitive);
+        }
+
+        @Override
+        void recordTo(RecordedArguments recorded) {
+            recorded.add(key, primitive);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + primitive;
+        }
+    }
+}
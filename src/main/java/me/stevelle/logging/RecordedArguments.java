@@ -0,0 +1,197 @@
+package me.stevelle.logging;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import net.logstash.logback.argument.StructuredArgument;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * All the key/value arguments of one event, recorded into parallel arrays of keys, value
+ * kinds, unboxed primitives and references.</p>
+ *
+ * <p>Used by {@link RecordingFuncLogger} in place of one <code>StructuredArgument</code> per
+ * pair, and written straight from the arrays by {@link StreamingJsonEncoder}. It is still a
+ * <code>StructuredArgument</code>, so other encoders write the same fields.</p>
+ */
+final class RecordedArguments implements StructuredArgument {
+
+    private static final byte LONG = 0;
+    private static final byte DOUBLE = 1;
+    private static final byte FLOAT = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte STRING = 4;
+    private static final byte OBJECT = 5;
+    private static final byte STRUCTURED = 6;
+
+    private final String[] keys;
+    private final byte[] kinds;
+    private final long[] primitives;
+    private final Object[] references;
+    private int size;
+
+    private RecordedArguments(int capacity) {
+        this.keys = new String[capacity];
+        this.kinds = new byte[capacity];
+        this.primitives = new long[capacity];
+        this.references = new Object[capacity];
+    }
+
+    /**
+     * @param capacity the number of arguments to be added
+     * @return empty recorded arguments, to add the arguments of an event to one by one
+     */
+    static RecordedArguments withCapacity(int capacity) {
+        return new RecordedArguments(capacity);
+    }
+
+    /**
+     * Record a sequence of pairs, evaluating any functional values.
+     *
+     * @param pairs the pairs to record
+     * @return the recorded arguments
+     */
+    static RecordedArguments record(KeyValuePair<?>[] pairs) {
+        RecordedArguments recorded = new RecordedArguments(pairs.length);
+        for (KeyValuePair<?> pair : pairs) {
+            if (pair instanceof PrimitivePair) {
+                ((PrimitivePair<?>) pair).recordTo(recorded);
+            } else if (pair instanceof RenderedPairs) {
+                recorded.append(pair.key, STRUCTURED, 0L, pair);
+            } else {
+                recorded.add(pair.key, pair.value);
+            }
+        }
+        return recorded;
+    }
+
+    /**
+     * Record the entries of a map, evaluating any functional values.
+     *
+     * @param arguments the entries to record
+     * @return the recorded arguments
+     */
+    static RecordedArguments record(Map<String, ?> arguments) {
+        int size = arguments.size();
+        int length = Math.min(size, EncodingLimits.current().getMaxEntries());
+        RecordedArguments recorded = new RecordedArguments(size > length ? length + 1 : length);
+        for (Map.Entry<String, ?> entry : arguments.entrySet()) {
+            if (recorded.size == length) {
+                recorded.add(EncodingLimits.TRUNCATED_KEY, size - length);
+                break;
+            }
+            recorded.add(entry.getKey(), entry.getValue());
+        }
+        return recorded;
+    }
+
+    void add(String key, long value) {
+        append(key, LONG, value, null);
+    }
+
+    void add(String key, double value) {
+        append(key, DOUBLE, Double.doubleToRawLongBits(value), null);
+    }
+
+    void add(String key, float value) {
+        append(key, FLOAT, Float.floatToRawIntBits(value), null);
+    }
+
+    void add(String key, boolean value) {
+        append(key, BOOLEAN, value ? 1L : 0L, null);
+    }
+
+    void add(String key, Object value) {
+        if (value instanceof Supplier) {
+            value = ((Supplier) value).get();
+        }
+
+        if (value instanceof String) {
+            append(key, STRING, 0L, EncodingLimits.current().limit((String) value));
+        } else if (value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            add(key, ((Number) value).longValue());
+        } else if (value instanceof Double) {
+            add(key, ((Double) value).doubleValue());
+        } else if (value instanceof Float) {
+            add(key, ((Float) value).floatValue());
+        } else if (value instanceof Boolean) {
+            add(key, ((Boolean) value).booleanValue());
+        } else if (value instanceof Loggable || value instanceof Map || StreamedArray.accepts(value)) {
+            append(key, STRUCTURED, 0L, FuncLogger.Common.structure(key, value));
+        } else {
+            append(key, OBJECT, 0L, value);
+        }
+    }
+
+    private void append(String key, byte kind, long primitive, Object reference) {
+        keys[size] = key;
+        kinds[size] = kind;
+        primitives[size] = primitive;
+        references[size] = reference;
+        size++;
+    }
+
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        for (int x = 0; x < size; x++) {
+            if (STRUCTURED == kinds[x]) {
+                ((StructuredArgument) references[x]).writeTo(generator);
+                continue;
+            }
+            generator.writeFieldName(keys[x]);
+            switch (kinds[x]) {
+                case LONG:
+                    generator.writeNumber(primitives[x]);
+                    break;
+                case DOUBLE:
+                    generator.writeNumber(Double.longBitsToDouble(primitives[x]));
+                    break;
+                case FLOAT:
+                    generator.writeNumber(Float.intBitsToFloat((int) primitives[x]));
+                    break;
+                case BOOLEAN:
+                    generator.writeBoolean(0L != primitives[x]);
+                    break;
+                case STRING:
+                    generator.writeString((String) references[x]);
+                    break;
+                default:
+                    ValueSerializers.write(references[x], generator);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder rendered = new StringBuilder();
+        for (int x = 0; x < size; x++) {
+            if (x > 0) {
+                rendered.append(", ");
+            }
+            if (STRUCTURED == kinds[x]) {
+                rendered.append(references[x]);
+                continue;
+            }
+            rendered.append(keys[x]).append('=');
+            switch (kinds[x]) {
+                case LONG:
+                    rendered.append(primitives[x]);
+                    break;
+                case DOUBLE:
+                    rendered.append(Double.longBitsToDouble(primitives[x]));
+                    break;
+                case FLOAT:
+                    rendered.append(Float.intBitsToFloat((int) primitives[x]));
+                    break;
+                case BOOLEAN:
+                    rendered.append(0L != primitives[x]);
+                    break;
+                default:
+                    rendered.append(references[x]);
+            }
+        }
+        return rendered.toString();
+    }
+}
@@ -0,0 +1,192 @@
+package me.stevelle.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+import java.util.Map;
+
+/**
+ * Logger which records all the pairs or map entries of an event into a single
+ * {@link RecordedArguments}, rather than structuring each of them separately.</p>
+ *
+ * <p>Pair with {@link StreamingJsonEncoder}, which writes the recorded arguments straight
+ * to JSON. As the pairs become one argument, a message refers to all of them with a
+ * single <code>{}</code> placeholder. The fields of an event built with {@link #atInfo()} or
+ * another <code>at</code> method are recorded in the same way.</p>
+ */
+class RecordingFuncLogger extends FuncLogger {
+
+    RecordingFuncLogger(org.slf4j.Logger logger) {
+        super(logger);
+    }
+
+    @Override
+    public void trace(String msg, Map<String, ?> arguments) {
+        if (isTraceEnabled()) {
+            this.trace(msg, RecordedArguments.record(arguments));
+        }
+    }
+
+    @Override
+    public void trace(String msg, KeyValuePair<?>... pairs) {
+        if (isTraceEnabled()) {
+            this.trace(msg, RecordedArguments.record(pairs));
+        }
+    }
+
+    @Override
+    public void debug(String msg, Map<String, ?> arguments) {
+        if (isDebugEnabled()) {
+            this.debug(msg, RecordedArguments.record(arguments));
+        }
+    }
+
+    @Override
+    public void debug(String msg, KeyValuePair<?>... pairs) {
+        if (isDebugEnabled()) {
+            this.debug(msg, RecordedArguments.record(pairs));
+        }
+    }
+
+    @Override
+    public void info(String msg, Map<String, ?> arguments) {
+        if (isInfoEnabled()) {
+            this.info(msg, RecordedArguments.record(arguments));
+        }
+    }
+
+    @Override
+    public void info(String msg, KeyValuePair<?>... pairs) {
+        if (isInfoEnabled()) {
+            this.info(msg, RecordedArguments.record(pairs));
+        }
+    }
+
+    @Override
+    public void warn(String msg, Map<String, ?> arguments) {
+        if (isWarnEnabled()) {
+            this.warn(msg, RecordedArguments.record(arguments));
+        }
+    }
+
+    @Override
+    public void warn(String msg, KeyValuePair<?>... pairs) {
+        if (isWarnEnabled()) {
+            this.warn(msg, RecordedArguments.record(pairs));
+        }
+    }
+
+    @Override
+    public void error(String msg, Map<String, ?> arguments) {
+        if (isErrorEnabled()) {
+            this.error(msg, RecordedArguments.record(arguments));
+        }
+    }
+
+    @Override
+    public void error(String msg, KeyValuePair<?>... pairs) {
+        if (isErrorEnabled()) {
+            this.error(msg, RecordedArguments.record(pairs));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Map<String, ?> arguments) {
+        if (isTraceEnabled(marker)) {
+            this.trace(marker, msg, RecordedArguments.record(arguments));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (isTraceEnabled(marker)) {
+            this.trace(marker, msg, RecordedArguments.record(pairs));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Map<String, ?> arguments) {
+        if (isDebugEnabled(marker)) {
+            this.debug(marker, msg, RecordedArguments.record(arguments));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (isDebugEnabled(marker)) {
+            this.debug(marker, msg, RecordedArguments.record(pairs));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Map<String, ?> arguments) {
+        if (isInfoEnabled(marker)) {
+            this.info(marker, msg, RecordedArguments.record(arguments));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (isInfoEnabled(marker)) {
+            this.info(marker, msg, RecordedArguments.record(pairs));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Map<String, ?> arguments) {
+        if (isWarnEnabled(marker)) {
+            this.warn(marker, msg, RecordedArguments.record(arguments));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (isWarnEnabled(marker)) {
+            this.warn(marker, msg, RecordedArguments.record(pairs));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Map<String, ?> arguments) {
+        if (isErrorEnabled(marker)) {
+            this.error(marker, msg, RecordedArguments.record(arguments));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (isErrorEnabled(marker)) {
+            this.error(marker, msg, RecordedArguments.record(pairs));
+        }
+    }
+
+    @Override
+    public EventBuilder atTrace() {
+        return isTraceEnabled()
+                ? PooledEventBuilder.acquire(this, Level.TRACE).recorded() : NoopEventBuilder.INSTANCE;
+    }
+
+    @Override
+    public EventBuilder atDebug() {
+        return isDebugEnabled()
+                ? PooledEventBuilder.acquire(this, Level.DEBUG).recorded() : NoopEventBuilder.INSTANCE;
+    }
+
+    @Override
+    public EventBuilder atInfo() {
+        return isInfoEnabled()
+                ? PooledEventBuilder.acquire(this, Level.INFO).recorded() : NoopEventBuilder.INSTANCE;
+    }
+
+    @Override
+    public EventBuilder atWarn() {
+        return isWarnEnabled()
+                ? PooledEventBuilder.acquire(this, Level.WARN).recorded() : NoopEventBuilder.INSTANCE;
+    }
+
+    @Override
+    public EventBuilder atError() {
+        return isErrorEnabled()
+                ? PooledEventBuilder.acquire(this, Level.ERROR).recorded() : NoopEventBuilder.INSTANCE;
+    }
+}
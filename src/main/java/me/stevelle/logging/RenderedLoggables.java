@@ -0,0 +1,58 @@
+package me.stevelle.logging;
+
+import net.logstash.logback.argument.StructuredArgument;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Bounded cache of the rendered representations of {@link CachedLoggable} instances.</p>
+ *
+ * <p>Each instance maps to one slot by its identity hash, and a colliding instance replaces
+ * the entry in it. Entries refer to their instance weakly, and are immutable, so threads
+ * racing on a slot at worst render twice. The number of slots may be set with the system
+ * property <code>logfuncj.renderedLoggables</code>.</p>
+ */
+final class RenderedLoggables {
+
+    static final String SIZE_PROPERTY = "logfuncj.renderedLoggables";
+
+    private static final int DEFAULT_SIZE = 1024;
+
+    private static final Entry[] ENTRIES = new Entry[capacity(Integer.getInteger(SIZE_PROPERTY, DEFAULT_SIZE))];
+    private static final int MASK = ENTRIES.length - 1;
+
+    private RenderedLoggables() {
+    }
+
+    /**
+     * @param loggable the instance to represent
+     * @return its cached representation, rendering it if need be
+     */
+    static StructuredArgument of(CachedLoggable loggable) {
+        int index = System.identityHashCode(loggable) & MASK;
+        Entry entry = ENTRIES[index];
+        if (null != entry && entry.get() == loggable) {
+            return entry.rendered;
+        }
+        StructuredArgument rendered = JsonFragment.of(loggable.logUncached());
+        if (rendered instanceof JsonFragment) {
+            // anything else may refer back to the instance, and keep it alive
+            ENTRIES[index] = new Entry(loggable, rendered);
+        }
+        return rendered;
+    }
+
+    private static int capacity(int size) {
+        int capacity = Integer.highestOneBit(Math.max(1, size));
+        return capacity < size ? capacity << 1 : capacity;
+    }
+
+    private static final class Entry extends WeakReference<CachedLoggable> {
+        final StructuredArgument rendered;
+
+        Entry(CachedLoggable loggable, StructuredArgument rendered) {
+            super(loggable);
+            this.rendered = rendered;
+        }
+    }
+}
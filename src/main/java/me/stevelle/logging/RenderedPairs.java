@@ -0,0 +1,65 @@
+package me.stevelle.logging;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import net.logstash.logback.argument.StructuredArgument;
+
+import java.io.IOException;
+
+/**
+ * A group of key/value pairs rendered once to a {@link JsonFragment}, built by
+ * {@link KeyValuePair#rendered(KeyValuePair[])}. Like a primitive pair it is its own
+ * structured logging representation; it has neither a key nor a value of its own.
+ */
+final class RenderedPairs extends KeyValuePair<Void> implements StructuredArgument {
+
+    private final StructuredArgument fragment;
+
+    RenderedPairs(KeyValuePair<?>[] pairs) {
+        super(null, null);
+        StructuredArgument[] args = new StructuredArgument[pairs.length];
+        for (int x = 0; x < pairs.length; x++) {
+            args[x] = FuncLogger.Common.structure(pairs[x]);
+        }
+        this.fragment = JsonFragment.of(new Group(args));
+    }
+
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        fragment.writeTo(generator);
+    }
+
+    @Override
+    public String toString() {
+        return fragment.toString();
+    }
+
+    /**
+     * The structured pairs written one after another, to be rendered together.
+     */
+    private static final class Group implements StructuredArgument {
+        private final StructuredArgument[] args;
+
+        Group(StructuredArgument[] args) {
+            this.args = args;
+        }
+
+        @Override
+        public void writeTo(JsonGenerator generator) throws IOException {
+            for (StructuredArgument arg : args) {
+                arg.writeTo(generator);
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder rendered = new StringBuilder();
+            for (int x = 0; x < args.length; x++) {
+                if (x > 0) {
+                    rendered.append(", ");
+                }
+                rendered.append(args[x]);
+            }
+            return rendered.toString();
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package me.stevelle.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous appender which hands events to its attached appenders through a bounded,
+ * lock-free ring buffer rather than the <code>ArrayBlockingQueue</code> of Logback's
+ * <code>AsyncAppender</code>.</p>
+ *
+ * <p>Logging threads claim a preallocated slot with a single compare-and-set and publish the
+ * event into it; one worker thread drains published slots in batches of up to
+ * {@link #setBatchSize(int) batchSize} events and appends them to the attached appenders in
+ * order. How either side waits, for a free slot or for a published event, is chosen with
+ * {@link #setWaitStrategy(WaitStrategy)}.</p>
+ *
+ * <pre>
+ * &lt;appender name="RING" class="me.stevelle.logging.RingBufferAppender"&gt;
+ *     &lt;bufferSize&gt;8192&lt;/bufferSize&gt;
+ *     &lt;waitStrategy&gt;YIELD&lt;/waitStrategy&gt;
+ *     &lt;appender-ref ref="JSON" /&gt;
+ * &lt;/appender&gt;
+ * </pre>
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    /**
+     * The default number of slots in the ring.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    /**
+     * The default number of events drained from the ring at a time.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    /**
+     * The default time allowed for the worker to drain the ring on stop, in milliseconds.
+     */
+    public static final int DEFAULT_MAX_FLUSH_TIME = 1000;
+
+    private static final long PARK_NANOS = 50_000L;
+
+    /**
+     * How a thread waits for the ring to change.
+     */
+    public enum WaitStrategy {
+        /**
+         * Retry immediately; the lowest latency, at the cost of a busy core. Only suitable
+         * when there are more cores than threads logging through the appender.
+         */
+        SPIN,
+        /**
+         * Yield to other runnable threads between retries.
+         */
+        YIELD,
+        /**
+         * Park the thread briefly between retries; the least CPU while idle.
+         */
+        PARK;
+
+        void idle() {
+            switch (this) {
+                case YIELD:
+                    Thread.yield();
+                    break;
+                case PARK:
+                    LockSupport.parkNanos(PARK_NANOS);
+                    break;
+                default:
+                    // spin
+            }
+        }
+    }
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder discarded = new LongAdder();
+
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int maxFlushTime = DEFAULT_MAX_FLUSH_TIME;
+    private WaitStrategy waitStrategy = WaitStrategy.PARK;
+    private boolean neverBlock = false;
+    private boolean includeCallerData = false;
+    private int appenderCount = 0;
+
+    private int mask;
+    private ILoggingEvent[] slots;
+    private AtomicLongArray sequences;
+    private volatile boolean running;
+    private Thread worker;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (0 == appenderCount) {
+            addError("No attached appenders found.");
+            return;
+        }
+        if (bufferSize < 1) {
+            addError("Invalid buffer size [" + bufferSize + "]");
+            return;
+        }
+        if (batchSize < 1) {
+            addError("Invalid batch size [" + batchSize + "]");
+            return;
+        }
+        if (null != worker && worker.isAlive()) {
+            addError("The worker from the last start is still draining the ring, not restarting.");
+            return;
+        }
+
+        int capacity = Integer.highestOneBit(bufferSize);
+        if (capacity < bufferSize) {
+            capacity <<= 1;
+        }
+        mask = capacity - 1;
+        slots = new ILoggingEvent[capacity];
+        sequences = new AtomicLongArray(capacity);
+        for (int x = 0; x < capacity; x++) {
+            sequences.set(x, x);
+        }
+        tail.set(0L);
+
+        running = true;
+        worker = new Thread(this::drain, "RingBufferAppender-Worker-" + getName());
+        worker.setDaemon(true);
+        worker.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(maxFlushTime);
+            if (worker.isAlive()) {
+                addWarn("Max flush time (" + maxFlushTime + "ms) exceeded, events remaining in the ring were discarded.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            addError("Interrupted while waiting for the ring to drain.", e);
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+
+        long position;
+        int index;
+        for (;;) {
+            position = tail.get();
+            index = (int) position & mask;
+            long available = sequences.get(index) - position;
+            if (0 == available) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (available < 0) {
+                // the ring is full
+                if (neverBlock || !running) {
+                    discarded.increment();
+                    return;
+                }
+                waitStrategy.idle();
+            }
+            // otherwise another thread claimed this position first, try the next one
+        }
+
+        slots[index] = event;
+        sequences.lazySet(index, position + 1);
+    }
+
+    private void drain() {
+        int capacity = mask + 1;
+        long head = 0L;
+        for (;;) {
+            int drained = 0;
+            while (drained < batchSize) {
+                int index = (int) head & mask;
+                if (sequences.get(index) != head + 1) {
+                    break;
+                }
+                ILoggingEvent event = slots[index];
+                slots[index] = null;
+                sequences.lazySet(index, head + capacity);
+                head++;
+                drained++;
+                appenders.appendLoopOnAppenders(event);
+            }
+            if (0 == drained) {
+                if (!running && head == tail.get()) {
+                    return;
+                }
+                waitStrategy.idle();
+            }
+        }
+    }
+
+    /**
+     * @return the number of events discarded because the ring was full
+     */
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    /**
+     * @return the number of events published to the ring and not yet appended
+     */
+    public int getQueueSize() {
+        long pending = 0L;
+        if (null != sequences) {
+            for (int x = 0; x <= mask; x++) {
+                long sequence = sequences.get(x);
+                if ((sequence & mask) != x) {
+                    pending++;
+                }
+            }
+        }
+        return (int) pending;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * @param bufferSize the number of slots in the ring, rounded up to a power of two
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize the most events the worker drains before checking for new ones
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    /**
+     * @param maxFlushTime the time, in milliseconds, allowed for the ring to drain on stop; the
+     *                     appender cannot be started again until the worker has finished
+     */
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * @param waitStrategy how logging threads wait for a free slot, and the worker for an event
+     */
+    public void setWaitStrategy(WaitStrategy waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+
+    public boolean isNeverBlock() {
+        return neverBlock;
+    }
+
+    /**
+     * @param neverBlock discard events when the ring is full, rather than waiting for a slot
+     */
+    public void setNeverBlock(boolean neverBlock) {
+        this.neverBlock = neverBlock;
+    }
+
+    public boolean isIncludeCallerData() {
+        return includeCallerData;
+    }
+
+    /**
+     * @param includeCallerData compute caller data on the logging thread, before it is lost
+     */
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        if (0 == appenderCount) {
+            appenderCount++;
+            addInfo("Attaching appender named [" + newAppender.getName() + "] to RingBufferAppender.");
+            appenders.addAppender(newAppender);
+        } else {
+            addWarn("One and only one appender may be attached to RingBufferAppender.");
+            addWarn("Ignoring additional appender named [" + newAppender.getName() + "]");
+        }
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
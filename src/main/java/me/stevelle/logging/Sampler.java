@@ -0,0 +1,134 @@
+package me.stevelle.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which logging calls of a {@link SamplingLogger} are emitted.</p>
+ *
+ * <p>The samplers provided here keep the decision off any contended write: a fixed rate
+ * counts per thread, a probability draws from <code>ThreadLocalRandom</code>, and a rate
+ * limit only writes shared state for the calls it lets through.</p>
+ */
+public abstract class Sampler {
+
+    /**
+     * Decide whether to emit one logging call.
+     *
+     * @return true if the call should be emitted
+     */
+    public abstract boolean sample();
+
+    /**
+     * Emit one in every <code>n</code> calls. Calls are counted per thread, so each thread
+     * emits its first call and one in every <code>n</code> after it.
+     *
+     * @param n the number of calls for each one emitted
+     * @return the sampler
+     */
+    public static Sampler oneIn(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive: " + n);
+        }
+        return 1 == n ? Always.INSTANCE : new OneIn(n);
+    }
+
+    /**
+     * Emit each call independently with the given probability.
+     *
+     * @param probability the chance of emitting a call, from 0 to 1
+     * @return the sampler
+     */
+    public static Sampler withProbability(double probability) {
+        if (!(probability >= 0.0 && probability <= 1.0)) {
+            throw new IllegalArgumentException("probability must be from 0 to 1: " + probability);
+        }
+        return 1.0 == probability ? Always.INSTANCE : new WithProbability(probability);
+    }
+
+    /**
+     * Emit at most <code>permits</code> calls per second, allowing a burst of up to
+     * <code>permits</code> calls after a quiet second.
+     *
+     * @param permits the number of calls to emit per second
+     * @return the sampler
+     */
+    public static Sampler perSecond(int permits) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits must be positive: " + permits);
+        }
+        return new PerSecond(permits);
+    }
+
+    private static final class Always extends Sampler {
+        static final Always INSTANCE = new Always();
+
+        @Override
+        public boolean sample() {
+            return true;
+        }
+    }
+
+    private static final class OneIn extends Sampler {
+        private final int n;
+        private final ThreadLocal<int[]> counts = ThreadLocal.withInitial(() -> new int[1]);
+
+        OneIn(int n) {
+            this.n = n;
+        }
+
+        @Override
+        public boolean sample() {
+            int[] count = counts.get();
+            int current = count[0];
+            count[0] = current + 1 == n ? 0 : current + 1;
+            return 0 == current;
+        }
+    }
+
+    private static final class WithProbability extends Sampler {
+        private final double probability;
+
+        WithProbability(double probability) {
+            this.probability = probability;
+        }
+
+        @Override
+        public boolean sample() {
+            return ThreadLocalRandom.current().nextDouble() < probability;
+        }
+    }
+
+    /**
+     * Token bucket kept as the time at which the bucket will next be full, as in the generic
+     * cell rate algorithm. A rejected call only reads that time, so once the budget is spent
+     * the threads rejecting calls share the cache line rather than contending for it.
+     */
+    private static final class PerSecond extends Sampler {
+        private final long interval;
+        private final long burst;
+        private final AtomicLong full;
+
+        PerSecond(int permits) {
+            this.interval = TimeUnit.SECONDS.toNanos(1) / permits;
+            this.burst = interval * (permits - 1);
+            this.full = new AtomicLong(System.nanoTime());
+        }
+
+        @Override
+        public boolean sample() {
+            long now = System.nanoTime();
+            for (;;) {
+                long current = full.get();
+                long ahead = current - now;
+                if (ahead > burst) {
+                    return false;
+                }
+                if (full.compareAndSet(current, (ahead > 0 ? current : now) + interval)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
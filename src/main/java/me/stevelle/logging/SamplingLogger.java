@@ -0,0 +1,1407 @@
+package me.stevelle.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Logger which emits only a sample of the logging calls made at or below a level, as
+ * chosen by a {@link Sampler}, and passes the sampled calls on to another logger.</p>
+ *
+ * <p>Each call is sampled after its level check and before any of its suppliers, functions
+ * or {@link Loggable}s are evaluated, so a call left out of the sample costs no more than a
+ * disabled one. Level checks themselves are not sampled; guarding a call with one does not
+ * change the chance of it being emitted. An event built with {@link #atInfo()} and the other
+ * <code>at</code> methods is sampled when it is started.</p>
+ *
+ * <pre>
+ * Logger requests = new SamplingLogger(LoggerFactory.getLogger(Handler.class), Level.DEBUG, Sampler.oneIn(100));
+ * requests.debug("Request", "headers", () -&gt; request.getHeaders());
+ * </pre>
+ */
+public class SamplingLogger implements Logger {
+
+    private final Logger logger;
+    private final int highest;
+    private final Sampler sampler;
+
+    /**
+     * Sample the calls at every level.
+     *
+     * @param logger the logger to emit sampled calls to
+     * @param sampler the sampler deciding which calls are emitted
+     */
+    public SamplingLogger(Logger logger, Sampler sampler) {
+        this(logger, Level.ERROR, sampler);
+    }
+
+    /**
+     * Sample the calls at or below a level, emitting every call above it.
+     *
+     * @param logger the logger to emit sampled calls to
+     * @param highest the highest level whose calls are sampled
+     * @param sampler the sampler deciding which calls are emitted
+     */
+    public SamplingLogger(Logger logger, Level highest, Sampler sampler) {
+        this.logger = logger;
+        this.highest = highest.toInt();
+        this.sampler = sampler;
+    }
+
+    @Override
+    public String getName() {
+        return logger.getName();
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return logger.isTraceEnabled();
+    }
+
+    @Override
+    public void trace(String s) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(s);
+        }
+    }
+
+    @Override
+    public void trace(String s, Object o) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(s, o);
+        }
+    }
+
+    @Override
+    public void trace(String s, Object o, Object o1) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(s, o, o1);
+        }
+    }
+
+    @Override
+    public void trace(String s, Object... objects) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(s, objects);
+        }
+    }
+
+    @Override
+    public void trace(String s, Throwable throwable) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(s, throwable);
+        }
+    }
+
+    @Override
+    public boolean isTraceEnabled(Marker marker) {
+        return logger.isTraceEnabled(marker);
+    }
+
+    @Override
+    public void trace(Marker marker, String s) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, s);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String s, Object o) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, s, o);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String s, Object o, Object o1) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, s, o, o1);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String s, Object... objects) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, s, objects);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String s, Throwable throwable) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, s, throwable);
+        }
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
+    @Override
+    public void debug(String s) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(s);
+        }
+    }
+
+    @Override
+    public void debug(String s, Object o) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(s, o);
+        }
+    }
+
+    @Override
+    public void debug(String s, Object o, Object o1) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(s, o, o1);
+        }
+    }
+
+    @Override
+    public void debug(String s, Object... objects) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(s, objects);
+        }
+    }
+
+    @Override
+    public void debug(String s, Throwable throwable) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(s, throwable);
+        }
+    }
+
+    @Override
+    public boolean isDebugEnabled(Marker marker) {
+        return logger.isDebugEnabled(marker);
+    }
+
+    @Override
+    public void debug(Marker marker, String s) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, s);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String s, Object o) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, s, o);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String s, Object o, Object o1) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, s, o, o1);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String s, Object... objects) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, s, objects);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String s, Throwable throwable) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, s, throwable);
+        }
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return logger.isInfoEnabled();
+    }
+
+    @Override
+    public void info(String s) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(s);
+        }
+    }
+
+    @Override
+    public void info(String s, Object o) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(s, o);
+        }
+    }
+
+    @Override
+    public void info(String s, Object o, Object o1) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(s, o, o1);
+        }
+    }
+
+    @Override
+    public void info(String s, Object... objects) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(s, objects);
+        }
+    }
+
+    @Override
+    public void info(String s, Throwable throwable) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(s, throwable);
+        }
+    }
+
+    @Override
+    public boolean isInfoEnabled(Marker marker) {
+        return logger.isInfoEnabled(marker);
+    }
+
+    @Override
+    public void info(Marker marker, String s) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, s);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String s, Object o) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, s, o);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String s, Object o, Object o1) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, s, o, o1);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String s, Object... objects) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, s, objects);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String s, Throwable throwable) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, s, throwable);
+        }
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return logger.isWarnEnabled();
+    }
+
+    @Override
+    public void warn(String s) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(s);
+        }
+    }
+
+    @Override
+    public void warn(String s, Object o) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(s, o);
+        }
+    }
+
+    @Override
+    public void warn(String s, Object... objects) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(s, objects);
+        }
+    }
+
+    @Override
+    public void warn(String s, Object o, Object o1) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(s, o, o1);
+        }
+    }
+
+    @Override
+    public void warn(String s, Throwable throwable) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(s, throwable);
+        }
+    }
+
+    @Override
+    public boolean isWarnEnabled(Marker marker) {
+        return logger.isWarnEnabled(marker);
+    }
+
+    @Override
+    public void warn(Marker marker, String s) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, s);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String s, Object o) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, s, o);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String s, Object o, Object o1) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, s, o, o1);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String s, Object... objects) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, s, objects);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String s, Throwable throwable) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, s, throwable);
+        }
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return logger.isErrorEnabled();
+    }
+
+    @Override
+    public void error(String s) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(s);
+        }
+    }
+
+    @Override
+    public void error(String s, Object o) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(s, o);
+        }
+    }
+
+    @Override
+    public void error(String s, Object o, Object o1) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(s, o, o1);
+        }
+    }
+
+    @Override
+    public void error(String s, Object... objects) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(s, objects);
+        }
+    }
+
+    @Override
+    public void error(String s, Throwable throwable) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(s, throwable);
+        }
+    }
+
+    @Override
+    public boolean isErrorEnabled(Marker marker) {
+        return logger.isErrorEnabled(marker);
+    }
+
+    @Override
+    public void error(Marker marker, String s) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, s);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String s, Object o) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, s, o);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String s, Object o, Object o1) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, s, o, o1);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String s, Object... objects) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, s, objects);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String s, Throwable throwable) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, s, throwable);
+        }
+    }
+
+    @Override
+    public void trace(String msg, Loggable loggable) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(msg, loggable);
+        }
+    }
+
+    @Override
+    public void trace(String msg, Loggable first, Loggable second) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(msg, first, second);
+        }
+    }
+
+    @Override
+    public void trace(String msg, Loggable... loggables) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(msg, loggables);
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, Supplier<?> func) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(msg, label, func);
+        }
+    }
+
+    @Override
+    public void trace(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(msg, aLabel, aFunc, bLabel, bFunc);
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, IntSupplier func) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(msg, label, func);
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, LongSupplier func) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(msg, label, func);
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, DoubleSupplier func) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(msg, label, func);
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, BooleanSupplier func) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(msg, label, func);
+        }
+    }
+
+    @Override
+    public <T, R> void trace(String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(msg, label, func, parameter);
+        }
+    }
+
+    @Override
+    public <F, S, R> void trace(String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(msg, label, func, first, second);
+        }
+    }
+
+    @Override
+    public void trace(String msg, Map<String, ?> arguments) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(msg, arguments);
+        }
+    }
+
+    @Override
+    public void trace(String msg, KeyValuePair<?>... pairs) {
+        if (logger.isTraceEnabled() && sampled(Level.TRACE)) {
+            logger.trace(msg, pairs);
+        }
+    }
+
+    @Override
+    public void debug(String msg, Loggable loggable) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(msg, loggable);
+        }
+    }
+
+    @Override
+    public void debug(String msg, Loggable first, Loggable second) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(msg, first, second);
+        }
+    }
+
+    @Override
+    public void debug(String msg, Loggable... loggables) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(msg, loggables);
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, Supplier<?> func) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(msg, label, func);
+        }
+    }
+
+    @Override
+    public void debug(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(msg, aLabel, aFunc, bLabel, bFunc);
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, IntSupplier func) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(msg, label, func);
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, LongSupplier func) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(msg, label, func);
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, DoubleSupplier func) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(msg, label, func);
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, BooleanSupplier func) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(msg, label, func);
+        }
+    }
+
+    @Override
+    public <T, R> void debug(String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(msg, label, func, parameter);
+        }
+    }
+
+    @Override
+    public <F, S, R> void debug(String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(msg, label, func, first, second);
+        }
+    }
+
+    @Override
+    public void debug(String msg, Map<String, ?> objects) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(msg, objects);
+        }
+    }
+
+    @Override
+    public void debug(String msg, KeyValuePair<?>... pairs) {
+        if (logger.isDebugEnabled() && sampled(Level.DEBUG)) {
+            logger.debug(msg, pairs);
+        }
+    }
+
+    @Override
+    public void info(String msg, Loggable loggable) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(msg, loggable);
+        }
+    }
+
+    @Override
+    public void info(String msg, Loggable first, Loggable second) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(msg, first, second);
+        }
+    }
+
+    @Override
+    public void info(String msg, Loggable... loggables) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(msg, loggables);
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, Supplier<?> func) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(msg, label, func);
+        }
+    }
+
+    @Override
+    public void info(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(msg, aLabel, aFunc, bLabel, bFunc);
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, IntSupplier func) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(msg, label, func);
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, LongSupplier func) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(msg, label, func);
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, DoubleSupplier func) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(msg, label, func);
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, BooleanSupplier func) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(msg, label, func);
+        }
+    }
+
+    @Override
+    public <T, R> void info(String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(msg, label, func, parameter);
+        }
+    }
+
+    @Override
+    public <F, S, R> void info(String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(msg, label, func, first, second);
+        }
+    }
+
+    @Override
+    public void info(String msg, Map<String, ?> objects) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(msg, objects);
+        }
+    }
+
+    @Override
+    public void info(String msg, KeyValuePair<?>... pairs) {
+        if (logger.isInfoEnabled() && sampled(Level.INFO)) {
+            logger.info(msg, pairs);
+        }
+    }
+
+    @Override
+    public void warn(String msg, Loggable loggable) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(msg, loggable);
+        }
+    }
+
+    @Override
+    public void warn(String msg, Loggable first, Loggable second) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(msg, first, second);
+        }
+    }
+
+    @Override
+    public void warn(String msg, Loggable... loggables) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(msg, loggables);
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, Supplier<?> func) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(msg, label, func);
+        }
+    }
+
+    @Override
+    public void warn(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(msg, aLabel, aFunc, bLabel, bFunc);
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, IntSupplier func) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(msg, label, func);
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, LongSupplier func) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(msg, label, func);
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, DoubleSupplier func) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(msg, label, func);
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, BooleanSupplier func) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(msg, label, func);
+        }
+    }
+
+    @Override
+    public <T, R> void warn(String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(msg, label, func, parameter);
+        }
+    }
+
+    @Override
+    public <F, S, R> void warn(String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(msg, label, func, first, second);
+        }
+    }
+
+    @Override
+    public void warn(String msg, Map<String, ?> objects) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(msg, objects);
+        }
+    }
+
+    @Override
+    public void warn(String msg, KeyValuePair<?>... pairs) {
+        if (logger.isWarnEnabled() && sampled(Level.WARN)) {
+            logger.warn(msg, pairs);
+        }
+    }
+
+    @Override
+    public void error(String msg, Loggable loggable) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(msg, loggable);
+        }
+    }
+
+    @Override
+    public void error(String msg, Loggable first, Loggable second) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(msg, first, second);
+        }
+    }
+
+    @Override
+    public void error(String msg, Loggable... loggables) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(msg, loggables);
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, Supplier<?> func) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(msg, label, func);
+        }
+    }
+
+    @Override
+    public void error(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(msg, aLabel, aFunc, bLabel, bFunc);
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, IntSupplier func) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(msg, label, func);
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, LongSupplier func) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(msg, label, func);
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, DoubleSupplier func) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(msg, label, func);
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, BooleanSupplier func) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(msg, label, func);
+        }
+    }
+
+    @Override
+    public <T, R> void error(String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(msg, label, func, parameter);
+        }
+    }
+
+    @Override
+    public <F, S, R> void error(String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(msg, label, func, first, second);
+        }
+    }
+
+    @Override
+    public void error(String msg, Map<String, ?> objects) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(msg, objects);
+        }
+    }
+
+    @Override
+    public void error(String msg, KeyValuePair<?>... pairs) {
+        if (logger.isErrorEnabled() && sampled(Level.ERROR)) {
+            logger.error(msg, pairs);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Loggable loggable) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, msg, loggable);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Loggable first, Loggable second) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, msg, first, second);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Loggable... loggables) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, msg, loggables);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, Supplier<?> func) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, msg, aLabel, aFunc, bLabel, bFunc);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, IntSupplier func) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, LongSupplier func) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public <T, R> void trace(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, msg, label, func, parameter);
+        }
+    }
+
+    @Override
+    public <F, S, R> void trace(Marker marker, String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, msg, label, func, first, second);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Map<String, ?> arguments) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, msg, arguments);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (logger.isTraceEnabled(marker) && sampled(Level.TRACE)) {
+            logger.trace(marker, msg, pairs);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Loggable loggable) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, msg, loggable);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Loggable first, Loggable second) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, msg, first, second);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Loggable... loggables) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, msg, loggables);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, Supplier<?> func) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, msg, aLabel, aFunc, bLabel, bFunc);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, IntSupplier func) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, LongSupplier func) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public <T, R> void debug(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, msg, label, func, parameter);
+        }
+    }
+
+    @Override
+    public <F, S, R> void debug(Marker marker, String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, msg, label, func, first, second);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Map<String, ?> objects) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, msg, objects);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (logger.isDebugEnabled(marker) && sampled(Level.DEBUG)) {
+            logger.debug(marker, msg, pairs);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Loggable loggable) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, msg, loggable);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Loggable first, Loggable second) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, msg, first, second);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Loggable... loggables) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, msg, loggables);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, Supplier<?> func) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, msg, aLabel, aFunc, bLabel, bFunc);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, IntSupplier func) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, LongSupplier func) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public <T, R> void info(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, msg, label, func, parameter);
+        }
+    }
+
+    @Override
+    public <F, S, R> void info(Marker marker, String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, msg, label, func, first, second);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Map<String, ?> objects) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, msg, objects);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (logger.isInfoEnabled(marker) && sampled(Level.INFO)) {
+            logger.info(marker, msg, pairs);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Loggable loggable) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, msg, loggable);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Loggable first, Loggable second) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, msg, first, second);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Loggable... loggables) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, msg, loggables);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, Supplier<?> func) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, msg, aLabel, aFunc, bLabel, bFunc);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, IntSupplier func) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, LongSupplier func) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public <T, R> void warn(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, msg, label, func, parameter);
+        }
+    }
+
+    @Override
+    public <F, S, R> void warn(Marker marker, String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, msg, label, func, first, second);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Map<String, ?> objects) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, msg, objects);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (logger.isWarnEnabled(marker) && sampled(Level.WARN)) {
+            logger.warn(marker, msg, pairs);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Loggable loggable) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, msg, loggable);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Loggable first, Loggable second) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, msg, first, second);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Loggable... loggables) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, msg, loggables);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, Supplier<?> func) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, msg, aLabel, aFunc, bLabel, bFunc);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, IntSupplier func) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, LongSupplier func) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, msg, label, func);
+        }
+    }
+
+    @Override
+    public <T, R> void error(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, msg, label, func, parameter);
+        }
+    }
+
+    @Override
+    public <F, S, R> void error(Marker marker, String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, msg, label, func, first, second);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Map<String, ?> objects) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, msg, objects);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (logger.isErrorEnabled(marker) && sampled(Level.ERROR)) {
+            logger.error(marker, msg, pairs);
+        }
+    }
+
+    @Override
+    public EventBuilder atTrace() {
+        return logger.isTraceEnabled() && sampled(Level.TRACE)
+                ? PooledEventBuilder.acquire(logger, Level.TRACE) : NoopEventBuilder.INSTANCE;
+    }
+
+    @Override
+    public EventBuilder atDebug() {
+        return logger.isDebugEnabled() && sampled(Level.DEBUG)
+                ? PooledEventBuilder.acquire(logger, Level.DEBUG) : NoopEventBuilder.INSTANCE;
+    }
+
+    @Override
+    public EventBuilder atInfo() {
+        return logger.isInfoEnabled() && sampled(Level.INFO)
+                ? PooledEventBuilder.acquire(logger, Level.INFO) : NoopEventBuilder.INSTANCE;
+    }
+
+    @Override
+    public EventBuilder atWarn() {
+        return logger.isWarnEnabled() && sampled(Level.WARN)
+                ? PooledEventBuilder.acquire(logger, Level.WARN) : NoopEventBuilder.INSTANCE;
+    }
+
+    @Override
+    public EventBuilder atError() {
+        return logger.isErrorEnabled() && sampled(Level.ERROR)
+                ? PooledEventBuilder.acquire(logger, Level.ERROR) : NoopEventBuilder.INSTANCE;
+    }
+
+    private boolean sampled(Level level) {
+        return level.toInt() > highest || sampler.sample();
+    }
+}
@@ -0,0 +1,33 @@
+package me.stevelle.logging;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import net.logstash.logback.argument.StructuredArgument;
+
+import java.io.IOException;
+
+/**
+ * StructuredArgument writing a value under a label with the value's {@link ValueSerializer}.
+ */
+final class SerializedPair implements StructuredArgument {
+
+    private final String label;
+    private final Object value;
+    private final ValueSerializer<Object> serializer;
+
+    SerializedPair(String label, Object value, ValueSerializer<Object> serializer) {
+        this.label = label;
+        this.value = value;
+        this.serializer = serializer;
+    }
+
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeFieldName(label);
+        serializer.write(value, generator);
+    }
+
+    @Override
+    public String toString() {
+        return label + "=" + value;
+    }
+}
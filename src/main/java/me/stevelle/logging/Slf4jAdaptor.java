@@ -1,13 +1,22 @@
 package me.stevelle.logging;
 
+import ch.qos.logback.classic.Level;
+import net.logstash.logback.argument.StructuredArgument;
 import org.slf4j.Logger;
 import org.slf4j.Marker;
 
+/**
+ * The SLF4J methods of a {@link FuncLogger}, delegated to the underlying logger with the
+ * current {@link LogContext} added as a last argument, ahead of any exception. The context
+ * is only evaluated for enabled levels.
+ */
 abstract class Slf4jAdaptor implements Logger {
     private final Logger log;
+    private final CachedLevel level;
 
     Slf4jAdaptor(Logger logger) {
         this.log = logger;
+        this.level = CachedLevel.of(logger);
     }
 
     public String getName() {
@@ -15,242 +24,492 @@ abstract class Slf4jAdaptor implements Logger {
     }
 
     public boolean isTraceEnabled() {
-        return log.isTraceEnabled();
+        return null == level ? log.isTraceEnabled() : level.isEnabled(Level.TRACE_INT);
     }
 
     public void trace(String s) {
-        log.trace(s);
+        StructuredArgument context = isTraceEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.trace(s);
+        } else {
+            log.trace(s, context);
+        }
     }
 
     public void trace(String s, Object o) {
-        log.trace(s, o);
+        StructuredArgument context = isTraceEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.trace(s, o);
+        } else {
+            log.trace(s, LogContext.append(context, o));
+        }
     }
 
     public void trace(String s, Object o, Object o1) {
-        log.trace(s, o, o1);
+        StructuredArgument context = isTraceEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.trace(s, o, o1);
+        } else {
+            log.trace(s, LogContext.append(context, o, o1));
+        }
     }
 
     public void trace(String s, Object... objects) {
-        log.trace(s, objects);
+        StructuredArgument context = isTraceEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.trace(s, objects);
+        } else {
+            log.trace(s, LogContext.append(context, objects));
+        }
     }
 
     public void trace(String s, Throwable throwable) {
-        log.trace(s, throwable);
+        StructuredArgument context = isTraceEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.trace(s, throwable);
+        } else {
+            log.trace(s, context, throwable);
+        }
     }
 
     public boolean isTraceEnabled(Marker marker) {
-        return log.isTraceEnabled(marker);
+        return null == level ? log.isTraceEnabled(marker) : level.isEnabled(marker, Level.TRACE_INT);
     }
 
     public void trace(Marker marker, String s) {
-        log.trace(marker, s);
+        StructuredArgument context = isTraceEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.trace(marker, s);
+        } else {
+            log.trace(marker, s, context);
+        }
     }
 
     public void trace(Marker marker, String s, Object o) {
-        log.trace(marker, s, o);
+        StructuredArgument context = isTraceEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.trace(marker, s, o);
+        } else {
+            log.trace(marker, s, LogContext.append(context, o));
+        }
     }
 
     public void trace(Marker marker, String s, Object o, Object o1) {
-        log.trace(marker, s, o, o1);
+        StructuredArgument context = isTraceEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.trace(marker, s, o, o1);
+        } else {
+            log.trace(marker, s, LogContext.append(context, o, o1));
+        }
     }
 
     public void trace(Marker marker, String s, Object... objects) {
-        log.trace(marker, s, objects);
+        StructuredArgument context = isTraceEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.trace(marker, s, objects);
+        } else {
+            log.trace(marker, s, LogContext.append(context, objects));
+        }
     }
 
     public void trace(Marker marker, String s, Throwable throwable) {
-        log.trace(marker, s, throwable);
+        StructuredArgument context = isTraceEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.trace(marker, s, throwable);
+        } else {
+            log.trace(marker, s, context, throwable);
+        }
     }
 
     public boolean isDebugEnabled() {
-        return log.isDebugEnabled();
+        return null == level ? log.isDebugEnabled() : level.isEnabled(Level.DEBUG_INT);
     }
 
     public void debug(String s) {
-        log.debug(s);
+        StructuredArgument context = isDebugEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.debug(s);
+        } else {
+            log.debug(s, context);
+        }
     }
 
     public void debug(String s, Object o) {
-        log.debug(s, o);
+        StructuredArgument context = isDebugEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.debug(s, o);
+        } else {
+            log.debug(s, LogContext.append(context, o));
+        }
     }
 
     public void debug(String s, Object o, Object o1) {
-        log.debug(s, o, o1);
+        StructuredArgument context = isDebugEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.debug(s, o, o1);
+        } else {
+            log.debug(s, LogContext.append(context, o, o1));
+        }
     }
 
     public void debug(String s, Object... objects) {
-        log.debug(s, objects);
+        StructuredArgument context = isDebugEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.debug(s, objects);
+        } else {
+            log.debug(s, LogContext.append(context, objects));
+        }
     }
 
     public void debug(String s, Throwable throwable) {
-        log.debug(s, throwable);
+        StructuredArgument context = isDebugEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.debug(s, throwable);
+        } else {
+            log.debug(s, context, throwable);
+        }
     }
 
     public boolean isDebugEnabled(Marker marker) {
-        return log.isDebugEnabled(marker);
+        return null == level ? log.isDebugEnabled(marker) : level.isEnabled(marker, Level.DEBUG_INT);
     }
 
     public void debug(Marker marker, String s) {
-        log.debug(marker, s);
+        StructuredArgument context = isDebugEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.debug(marker, s);
+        } else {
+            log.debug(marker, s, context);
+        }
     }
 
     public void debug(Marker marker, String s, Object o) {
-        log.debug(marker, s, o);
+        StructuredArgument context = isDebugEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.debug(marker, s, o);
+        } else {
+            log.debug(marker, s, LogContext.append(context, o));
+        }
     }
 
     public void debug(Marker marker, String s, Object o, Object o1) {
-        log.debug(marker, s, o , o1);
+        StructuredArgument context = isDebugEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.debug(marker, s, o , o1);
+        } else {
+            log.debug(marker, s, LogContext.append(context, o, o1));
+        }
     }
 
     public void debug(Marker marker, String s, Object... objects) {
-        log.debug(marker, s, objects);
+        StructuredArgument context = isDebugEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.debug(marker, s, objects);
+        } else {
+            log.debug(marker, s, LogContext.append(context, objects));
+        }
     }
 
     public void debug(Marker marker, String s, Throwable throwable) {
-        log.debug(marker, s, throwable);
+        StructuredArgument context = isDebugEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.debug(marker, s, throwable);
+        } else {
+            log.debug(marker, s, context, throwable);
+        }
     }
 
     public boolean isInfoEnabled() {
-        return log.isInfoEnabled();
+        return null == level ? log.isInfoEnabled() : level.isEnabled(Level.INFO_INT);
     }
 
     public void info(String s) {
-        log.info(s);
+        StructuredArgument context = isInfoEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.info(s);
+        } else {
+            log.info(s, context);
+        }
     }
 
     public void info(String s, Object o) {
-        log.info(s, o);
+        StructuredArgument context = isInfoEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.info(s, o);
+        } else {
+            log.info(s, LogContext.append(context, o));
+        }
     }
 
     public void info(String s, Object o, Object o1) {
-        log.info(s, o, o1);
+        StructuredArgument context = isInfoEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.info(s, o, o1);
+        } else {
+            log.info(s, LogContext.append(context, o, o1));
+        }
     }
 
     public void info(String s, Object... objects) {
-        log.info(s, objects);
+        StructuredArgument context = isInfoEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.info(s, objects);
+        } else {
+            log.info(s, LogContext.append(context, objects));
+        }
     }
 
     public void info(String s, Throwable throwable) {
-        log.info(s, throwable);
+        StructuredArgument context = isInfoEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.info(s, throwable);
+        } else {
+            log.info(s, context, throwable);
+        }
     }
 
     public boolean isInfoEnabled(Marker marker) {
-        return log.isInfoEnabled(marker);
+        return null == level ? log.isInfoEnabled(marker) : level.isEnabled(marker, Level.INFO_INT);
     }
 
     public void info(Marker marker, String s) {
-        log.info(marker, s);
+        StructuredArgument context = isInfoEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.info(marker, s);
+        } else {
+            log.info(marker, s, context);
+        }
     }
 
     public void info(Marker marker, String s, Object o) {
-        log.info(marker, s, o);
+        StructuredArgument context = isInfoEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.info(marker, s, o);
+        } else {
+            log.info(marker, s, LogContext.append(context, o));
+        }
     }
 
     public void info(Marker marker, String s, Object o, Object o1) {
-        log.info(marker, s, o, o1);
+        StructuredArgument context = isInfoEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.info(marker, s, o, o1);
+        } else {
+            log.info(marker, s, LogContext.append(context, o, o1));
+        }
     }
 
     public void info(Marker marker, String s, Object... objects) {
-        log.info(marker, s, objects);
+        StructuredArgument context = isInfoEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.info(marker, s, objects);
+        } else {
+            log.info(marker, s, LogContext.append(context, objects));
+        }
     }
 
     public void info(Marker marker, String s, Throwable throwable) {
-        log.info(marker, s, throwable);
+        StructuredArgument context = isInfoEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.info(marker, s, throwable);
+        } else {
+            log.info(marker, s, context, throwable);
+        }
     }
 
     public boolean isWarnEnabled() {
-        return log.isWarnEnabled();
+        return null == level ? log.isWarnEnabled() : level.isEnabled(Level.WARN_INT);
     }
 
     public void warn(String s) {
-        log.warn(s);
+        StructuredArgument context = isWarnEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.warn(s);
+        } else {
+            log.warn(s, context);
+        }
     }
 
     public void warn(String s, Object o) {
-        log.warn(s, o);
+        StructuredArgument context = isWarnEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.warn(s, o);
+        } else {
+            log.warn(s, LogContext.append(context, o));
+        }
     }
 
     public void warn(String s, Object... objects) {
-        log.warn(s, objects);
+        StructuredArgument context = isWarnEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.warn(s, objects);
+        } else {
+            log.warn(s, LogContext.append(context, objects));
+        }
     }
 
     public void warn(String s, Object o, Object o1) {
-        log.warn(s, o, o1);
+        StructuredArgument context = isWarnEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.warn(s, o, o1);
+        } else {
+            log.warn(s, LogContext.append(context, o, o1));
+        }
     }
 
     public void warn(String s, Throwable throwable) {
-        log.warn(s, throwable);
+        StructuredArgument context = isWarnEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.warn(s, throwable);
+        } else {
+            log.warn(s, context, throwable);
+        }
     }
 
     public boolean isWarnEnabled(Marker marker) {
-        return log.isWarnEnabled(marker);
+        return null == level ? log.isWarnEnabled(marker) : level.isEnabled(marker, Level.WARN_INT);
     }
 
     public void warn(Marker marker, String s) {
-        log.warn(marker, s);
+        StructuredArgument context = isWarnEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.warn(marker, s);
+        } else {
+            log.warn(marker, s, context);
+        }
     }
 
     public void warn(Marker marker, String s, Object o) {
-        log.warn(marker, s ,o);
+        StructuredArgument context = isWarnEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.warn(marker, s ,o);
+        } else {
+            log.warn(marker, s, LogContext.append(context, o));
+        }
     }
 
     public void warn(Marker marker, String s, Object o, Object o1) {
-        log.warn(marker, s, o, o1);
+        StructuredArgument context = isWarnEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.warn(marker, s, o, o1);
+        } else {
+            log.warn(marker, s, LogContext.append(context, o, o1));
+        }
     }
 
     public void warn(Marker marker, String s, Object... objects) {
-        log.warn(marker, s, objects);
+        StructuredArgument context = isWarnEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.warn(marker, s, objects);
+        } else {
+            log.warn(marker, s, LogContext.append(context, objects));
+        }
     }
 
     public void warn(Marker marker, String s, Throwable throwable) {
-        log.warn(marker, s, throwable);
+        StructuredArgument context = isWarnEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.warn(marker, s, throwable);
+        } else {
+            log.warn(marker, s, context, throwable);
+        }
     }
 
     public boolean isErrorEnabled() {
-        return log.isErrorEnabled();
+        return null == level ? log.isErrorEnabled() : level.isEnabled(Level.ERROR_INT);
     }
 
     public void error(String s) {
-        log.error(s);
+        StructuredArgument context = isErrorEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.error(s);
+        } else {
+            log.error(s, context);
+        }
     }
 
     public void error(String s, Object o) {
-        log.error(s, o);
+        StructuredArgument context = isErrorEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.error(s, o);
+        } else {
+            log.error(s, LogContext.append(context, o));
+        }
     }
 
     public void error(String s, Object o, Object o1) {
-        log.error(s, o, o1);
+        StructuredArgument context = isErrorEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.error(s, o, o1);
+        } else {
+            log.error(s, LogContext.append(context, o, o1));
+        }
     }
 
     public void error(String s, Object... objects) {
-        log.error(s, objects);
+        StructuredArgument context = isErrorEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.error(s, objects);
+        } else {
+            log.error(s, LogContext.append(context, objects));
+        }
     }
 
     public void error(String s, Throwable throwable) {
-        log.error(s, throwable);
+        StructuredArgument context = isErrorEnabled() ? LogContext.current() : null;
+        if (null == context) {
+            log.error(s, throwable);
+        } else {
+            log.error(s, context, throwable);
+        }
     }
 
     public boolean isErrorEnabled(Marker marker) {
-        return log.isErrorEnabled(marker);
+        return null == level ? log.isErrorEnabled(marker) : level.isEnabled(marker, Level.ERROR_INT);
     }
 
     public void error(Marker marker, String s) {
-        log.error(marker, s);
+        StructuredArgument context = isErrorEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.error(marker, s);
+        } else {
+            log.error(marker, s, context);
+        }
     }
 
     public void error(Marker marker, String s, Object o) {
-        log.error(marker, s, o);
+        StructuredArgument context = isErrorEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.error(marker, s, o);
+        } else {
+            log.error(marker, s, LogContext.append(context, o));
+        }
     }
 
     public void error(Marker marker, String s, Object o, Object o1) {
-        log.error(marker, s, o, o1);
+        StructuredArgument context = isErrorEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.error(marker, s, o, o1);
+        } else {
+            log.error(marker, s, LogContext.append(context, o, o1));
+        }
     }
 
     public void error(Marker marker, String s, Object... objects) {
-        log.error(marker, s, objects);
+        StructuredArgument context = isErrorEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.error(marker, s, objects);
+        } else {
+            log.error(marker, s, LogContext.append(context, objects));
+        }
     }
 
     public void error(Marker marker, String s, Throwable throwable) {
-        log.error(marker, s, throwable);
+        StructuredArgument context = isErrorEnabled(marker) ? LogContext.current() : null;
+        if (null == context) {
+            log.error(marker, s, throwable);
+        } else {
+            log.error(marker, s, context, throwable);
+        }
     }
 }
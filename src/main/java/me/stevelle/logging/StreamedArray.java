@@ -0,0 +1,260 @@
+package me.stevelle.logging;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import net.logstash.logback.argument.StructuredArgument;
+import net.logstash.logback.argument.StructuredArguments;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.stream.BaseStream;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * StructuredArgument writing the elements of an array, collection or stream straight into
+ * a JSON array under a label.</p>
+ *
+ * <p>Primitive arrays and streams are written without boxing, <code>Loggable</code>
+ * elements as their own logging representation, and other elements with their
+ * {@link ValueSerializer} if they have one. At most <code>maxElements</code> are written,
+ * see {@link EncodingLimits}, followed by <code>...(N more)</code>, or
+ * <code>...(more)</code> when the remainder is unknown.</p>
+ *
+ * <p>A stream can be consumed only once, so it is consumed when the argument is built, and
+ * no further than the cap. Arrays and collections are read as the argument is written.
+ * Other iterables, such as a <code>Path</code>, are not arrays but values of their own.</p>
+ */
+final class StreamedArray implements StructuredArgument {
+
+    private static final int UNKNOWN = -1;
+    private static final String MORE = "...(more)";
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final String label;
+    private final Object elements;
+    private final int length;
+    private final int omitted;
+    private final EncodingLimits limits;
+
+    private StreamedArray(String label, Object elements, int length, int omitted, EncodingLimits limits) {
+        this.label = label;
+        this.elements = elements;
+        this.length = length;
+        this.omitted = omitted;
+        this.limits = limits;
+    }
+
+    /**
+     * @param value a value being structured
+     * @return true if it is an array, collection or stream this argument can write
+     */
+    static boolean accepts(Object value) {
+        return null != value && accepts(value.getClass());
+    }
+
+    /**
+     * @param type the class of a value being structured
+     * @return true if it is an array, collection or stream class this argument can write
+     */
+    static boolean accepts(Class<?> type) {
+        // other iterables, such as paths and JSON nodes, are values in their own right
+        return Object[].class.isAssignableFrom(type)
+                || Collection.class.isAssignableFrom(type)
+                || BaseStream.class.isAssignableFrom(type)
+                || int[].class == type
+                || long[].class == type
+                || double[].class == type;
+    }
+
+    /**
+     * @param label the key to write the array under
+     * @param value a value for which {@link #accepts(Object)} is true
+     * @param limits the caps on the elements written
+     * @return the structured argument
+     */
+    static StreamedArray of(String label, Object value, EncodingLimits limits) {
+        int max = limits.getMaxElements();
+        if (value instanceof Object[]) {
+            return ofArray(label, value, ((Object[]) value).length, limits);
+        }
+        if (value instanceof int[]) {
+            return ofArray(label, value, ((int[]) value).length, limits);
+        }
+        if (value instanceof long[]) {
+            return ofArray(label, value, ((long[]) value).length, limits);
+        }
+        if (value instanceof double[]) {
+            return ofArray(label, value, ((double[]) value).length, limits);
+        }
+        if (value instanceof Collection) {
+            int size = ((Collection<?>) value).size();
+            return new StreamedArray(label, value, Math.min(size, max), Math.max(0, size - max), limits);
+        }
+        if (value instanceof IntStream) {
+            return drain(label, ((IntStream) value).iterator(), limits);
+        }
+        if (value instanceof LongStream) {
+            return drain(label, ((LongStream) value).iterator(), limits);
+        }
+        if (value instanceof DoubleStream) {
+            return drain(label, ((DoubleStream) value).iterator(), limits);
+        }
+        return drain(label, ((BaseStream<?, ?>) value).iterator(), limits);
+    }
+
+    private static StreamedArray ofArray(String label, Object array, int size, EncodingLimits limits) {
+        int length = Math.min(size, limits.getMaxElements());
+        return new StreamedArray(label, array, length, size - length, limits);
+    }
+
+    private static StreamedArray drain(String label, PrimitiveIterator.OfInt values, EncodingLimits limits) {
+        int max = limits.getMaxElements();
+        int[] drained = new int[Math.min(max, INITIAL_CAPACITY)];
+        int length = 0;
+        while (length < max && values.hasNext()) {
+            if (length == drained.length) {
+                drained = Arrays.copyOf(drained, Math.min(max, length * 2));
+            }
+            drained[length++] = values.nextInt();
+        }
+        return new StreamedArray(label, drained, length, values.hasNext() ? UNKNOWN : 0, limits);
+    }
+
+    private static StreamedArray drain(String label, PrimitiveIterator.OfLong values, EncodingLimits limits) {
+        int max = limits.getMaxElements();
+        long[] drained = new long[Math.min(max, INITIAL_CAPACITY)];
+        int length = 0;
+        while (length < max && values.hasNext()) {
+            if (length == drained.length) {
+                drained = Arrays.copyOf(drained, Math.min(max, length * 2));
+            }
+            drained[length++] = values.nextLong();
+        }
+        return new StreamedArray(label, drained, length, values.hasNext() ? UNKNOWN : 0, limits);
+    }
+
+    private static StreamedArray drain(String label, PrimitiveIterator.OfDouble values, EncodingLimits limits) {
+        int max = limits.getMaxElements();
+        double[] drained = new double[Math.min(max, INITIAL_CAPACITY)];
+        int length = 0;
+        while (length < max && values.hasNext()) {
+            if (length == drained.length) {
+                drained = Arrays.copyOf(drained, Math.min(max, length * 2));
+            }
+            drained[length++] = values.nextDouble();
+        }
+        return new StreamedArray(label, drained, length, values.hasNext() ? UNKNOWN : 0, limits);
+    }
+
+    private static StreamedArray drain(String label, Iterator<?> values, EncodingLimits limits) {
+        int max = limits.getMaxElements();
+        Object[] drained = new Object[Math.min(max, INITIAL_CAPACITY)];
+        int length = 0;
+        while (length < max && values.hasNext()) {
+            if (length == drained.length) {
+                drained = Arrays.copyOf(drained, Math.min(max, length * 2));
+            }
+            drained[length++] = values.next();
+        }
+        return new StreamedArray(label, drained, length, values.hasNext() ? UNKNOWN : 0, limits);
+    }
+
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeFieldName(label);
+        generator.writeStartArray();
+        if (elements instanceof int[]) {
+            int[] values = (int[]) elements;
+            for (int x = 0; x < length; x++) {
+                generator.writeNumber(values[x]);
+            }
+        } else if (elements instanceof long[]) {
+            long[] values = (long[]) elements;
+            for (int x = 0; x < length; x++) {
+                generator.writeNumber(values[x]);
+            }
+        } else if (elements instanceof double[]) {
+            double[] values = (double[]) elements;
+            for (int x = 0; x < length; x++) {
+                generator.writeNumber(values[x]);
+            }
+        } else if (elements instanceof Object[]) {
+            Object[] values = (Object[]) elements;
+            for (int x = 0; x < length; x++) {
+                writeElement(generator, values[x]);
+            }
+        } else {
+            Iterator<?> values = ((Collection<?>) elements).iterator();
+            for (int x = 0; x < length && values.hasNext(); x++) {
+                writeElement(generator, values.next());
+            }
+        }
+        if (0 != omitted) {
+            generator.writeString(UNKNOWN == omitted ? MORE : EncodingLimits.truncated(omitted));
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeElement(JsonGenerator generator, Object element) throws IOException {
+        if (element instanceof String) {
+            generator.writeString(limits.limit((String) element));
+        } else if (element instanceof Loggable) {
+            generator.writeStartObject();
+            ((Loggable) element).log().writeTo(generator);
+            generator.writeEndObject();
+        } else {
+            ValueSerializers.write(limits.limit(element, 1), generator);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder rendered = new StringBuilder(label).append("=[");
+        if (elements instanceof int[]) {
+            int[] values = (int[]) elements;
+            for (int x = 0; x < length; x++) {
+                separate(rendered, x).append(values[x]);
+            }
+        } else if (elements instanceof long[]) {
+            long[] values = (long[]) elements;
+            for (int x = 0; x < length; x++) {
+                separate(rendered, x).append(values[x]);
+            }
+        } else if (elements instanceof double[]) {
+            double[] values = (double[]) elements;
+            for (int x = 0; x < length; x++) {
+                separate(rendered, x).append(values[x]);
+            }
+        } else if (elements instanceof Object[]) {
+            Object[] values = (Object[]) elements;
+            for (int x = 0; x < length; x++) {
+                appendElement(separate(rendered, x), values[x]);
+            }
+        } else {
+            Iterator<?> values = ((Collection<?>) elements).iterator();
+            for (int x = 0; x < length && values.hasNext(); x++) {
+                appendElement(separate(rendered, x), values.next());
+            }
+        }
+        if (0 != omitted) {
+            separate(rendered, length).append(UNKNOWN == omitted ? MORE : EncodingLimits.truncated(omitted));
+        }
+        return rendered.append(']').toString();
+    }
+
+    private static StringBuilder separate(StringBuilder rendered, int x) {
+        return x > 0 ? rendered.append(", ") : rendered;
+    }
+
+    private static void appendElement(StringBuilder rendered, Object element) {
+        if (element instanceof Loggable) {
+            rendered.append(((Loggable) element).log());
+        } else {
+            rendered.append(StructuredArguments.toString(element));
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package me.stevelle.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.logstash.logback.argument.StructuredArgument;
+import net.logstash.logback.marker.LogstashMarker;
+import org.slf4j.Marker;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Encoder writing each event as one line of JSON, with the standard fields of a
+ * <code>LogstashEncoder</code> followed by the fields of its markers and structured
+ * arguments.</p>
+ *
+ * <p>The fields are written straight to a Jackson generator in a fixed order, without the
+ * provider chain of <code>LogstashEncoder</code>, and {@link RecordedArguments} from a
+ * {@link LoggerFactory#getRecordingLogger(String) recording logger} are written from
+ * their arrays. Other structured arguments and Logstash markers write themselves.</p>
+ *
+ * <p>Once an event has grown beyond {@link #setMaxEventBytes(int) maxEventBytes}, its
+ * remaining markers and arguments are left out and a <code>_truncated</code> field is
+ * written in their place.</p>
+ *
+ * <p>The message is rendered from a cached {@link MessageTemplate} of its format, rather than
+ * parsed again for every event, and is not rendered at all when
+ * {@link #setIncludeMessage(boolean) includeMessage} is false.</p>
+ *
+ * <pre>
+ * &lt;encoder class="me.stevelle.logging.StreamingJsonEncoder" /&gt;
+ * </pre>
+ */
+public class StreamingJsonEncoder extends EncoderBase<ILoggingEvent> {
+
+    /**
+     * The default number of message templates cached by each encoder.
+     */
+    public static final int DEFAULT_TEMPLATE_CACHE_SIZE = 512;
+
+    /**
+     * The default size of an encoded event, beyond which no more markers or arguments are written.
+     */
+    public static final int DEFAULT_MAX_EVENT_BYTES = 1024 * 1024;
+
+    private static final SerializableString TIMESTAMP = new SerializedString("@timestamp");
+    private static final SerializableString VERSION = new SerializedString("@version");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString LOGGER_NAME = new SerializedString("logger_name");
+    private static final SerializableString THREAD_NAME = new SerializedString("thread_name");
+    private static final SerializableString LEVEL = new SerializedString("level");
+    private static final SerializableString LEVEL_VALUE = new SerializedString("level_value");
+    private static final SerializableString STACK_TRACE = new SerializedString("stack_trace");
+    private static final SerializableString TRUNCATED = new SerializedString(EncodingLimits.TRUNCATED_KEY);
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes();
+
+    private static final ThreadLocal<ByteArrayOutputStream> BUFFERS =
+            ThreadLocal.withInitial(() -> new ByteArrayOutputStream(512));
+
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> MESSAGES =
+            ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private static final int MAX_RETAINED_MESSAGE = 8192;
+
+    private final JsonFactory factory = new ObjectMapper().getFactory();
+
+    private ZoneId zone = ZoneId.systemDefault();
+    private boolean includeMessage = true;
+    private MessageTemplate.Cache templates = new MessageTemplate.Cache(DEFAULT_TEMPLATE_CACHE_SIZE);
+    private int maxEventBytes = DEFAULT_MAX_EVENT_BYTES;
+
+    /**
+     * @param timeZone the id of the time zone in which timestamps are written
+     */
+    public void setTimeZone(String timeZone) {
+        this.zone = ZoneId.of(timeZone);
+    }
+
+    /**
+     * @param includeMessage whether to write the formatted message of each event
+     */
+    public void setIncludeMessage(boolean includeMessage) {
+        this.includeMessage = includeMessage;
+    }
+
+    /**
+     * @param templateCacheSize the number of message templates to keep compiled
+     */
+    public void setTemplateCacheSize(int templateCacheSize) {
+        this.templates = new MessageTemplate.Cache(templateCacheSize);
+    }
+
+    /**
+     * @param maxEventBytes the size of an encoded event beyond which its remaining markers and
+     *                      arguments are left out, and <code>_truncated</code> is written instead
+     */
+    public void setMaxEventBytes(int maxEventBytes) {
+        this.maxEventBytes = maxEventBytes;
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        ByteArrayOutputStream buffer = BUFFERS.get();
+        buffer.reset();
+        try (JsonGenerator generator = factory.createGenerator(buffer)) {
+            write(event, generator, buffer);
+        } catch (IOException e) {
+            BUFFERS.remove();
+            addWarn("Failed to encode event as JSON", e);
+            return null;
+        }
+        buffer.write(LINE_SEPARATOR, 0, LINE_SEPARATOR.length);
+        byte[] encoded = buffer.toByteArray();
+        if (buffer.size() > MAX_RETAINED_BUFFER) {
+            BUFFERS.remove();
+        }
+        return encoded;
+    }
+
+    private void write(ILoggingEvent event, JsonGenerator generator, ByteArrayOutputStream buffer)
+            throws IOException {
+        generator.writeStartObject();
+
+        generator.writeFieldName(TIMESTAMP);
+        generator.writeString(TIMESTAMP_FORMAT.format(Instant.ofEpochMilli(event.getTimeStamp()).atZone(zone)));
+        generator.writeFieldName(VERSION);
+        generator.writeString("1");
+        if (includeMessage) {
+            generator.writeFieldName(MESSAGE);
+            generator.writeString(formattedMessage(event));
+        }
+        generator.writeFieldName(LOGGER_NAME);
+        generator.writeString(event.getLoggerName());
+        generator.writeFieldName(THREAD_NAME);
+        generator.writeString(event.getThreadName());
+        generator.writeFieldName(LEVEL);
+        generator.writeString(event.getLevel().toString());
+        generator.writeFieldName(LEVEL_VALUE);
+        generator.writeNumber(event.getLevel().toInt());
+
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (null != mdc) {
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                generator.writeFieldName(entry.getKey());
+                generator.writeString(entry.getValue());
+            }
+        }
+
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (null != throwable) {
+            generator.writeFieldName(STACK_TRACE);
+            generator.writeString(ThrowableProxyUtil.asString(throwable));
+        }
+
+        boolean complete = writeMarker(event.getMarker(), generator, buffer);
+
+        Object[] arguments = event.getArgumentArray();
+        if (complete && null != arguments) {
+            for (Object argument : arguments) {
+                if (!(argument instanceof StructuredArgument)) {
+                    continue;
+                }
+                if (full(generator, buffer)) {
+                    complete = false;
+                    break;
+                }
+                ((StructuredArgument) argument).writeTo(generator);
+            }
+        }
+
+        if (!complete) {
+            generator.writeFieldName(TRUNCATED);
+            generator.writeBoolean(true);
+        }
+        generator.writeEndObject();
+    }
+
+    private boolean full(JsonGenerator generator, ByteArrayOutputStream buffer) {
+        return buffer.size() + Math.max(0, generator.getOutputBuffered()) > maxEventBytes;
+    }
+
+    private String formattedMessage(ILoggingEvent event) {
+        String pattern = event.getMessage();
+        Object[] arguments = event.getArgumentArray();
+        if (null == pattern || null == arguments) {
+            return event.getFormattedMessage();
+        }
+        MessageTemplate template = templates.get(pattern);
+        if (!template.canRender(arguments)) {
+            return event.getFormattedMessage();
+        }
+
+        StringBuilder rendered = MESSAGES.get();
+        rendered.setLength(0);
+        template.appendTo(rendered, arguments);
+        String message = rendered.toString();
+        if (rendered.capacity() > MAX_RETAINED_MESSAGE) {
+            MESSAGES.remove();
+        }
+        return message;
+    }
+
+    /**
+     * @return false if the event became too large to write all the markers
+     */
+    private boolean writeMarker(Marker marker, JsonGenerator generator, ByteArrayOutputStream buffer)
+            throws IOException {
+        if (null == marker) {
+            return true;
+        }
+        if (marker instanceof LogstashMarker) {
+            if (full(generator, buffer)) {
+                return false;
+            }
+            ((LogstashMarker) marker).writeTo(generator);
+        }
+        if (marker.hasReferences()) {
+            for (Iterator<Marker> references = marker.iterator(); references.hasNext(); ) {
+                if (!writeMarker(references.next(), generator, buffer)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,2207 @@
+package me.stevelle.logging;
+
+import net.logstash.logback.argument.StructuredArgument;
+import net.logstash.logback.marker.LogstashMarker;
+import net.logstash.logback.marker.Markers;
+import net.logstash.logback.marker.SingleFieldAppendingMarker;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Logger which suppresses bursts of repeated events, passing the rest on to another logger.</p>
+ *
+ * <p>Events are repeats when they have the same level, message format, marker and argument
+ * keys: the labels of functional arguments, the keys of pairs, map entries and structured
+ * arguments, and the classes of {@link Loggable}s, in order, whichever method they are passed
+ * to. The first event of a kind is emitted, and repeats of it are counted
+ * rather than emitted until the window has passed. The next event of that kind is then
+ * emitted with a <code>repeat_count</code> field holding the number suppressed, added as a
+ * Logstash marker. A count is only reported when its kind is logged again.</p>
+ *
+ * <p>Each call is checked after its level check and before any of its values are evaluated,
+ * as is an event built with {@link #atInfo()} and the other <code>at</code> methods, when it
+ * is logged.
+ * The kinds seen recently are held in a bounded, striped LRU cache, so memory stays fixed
+ * however many distinct formats are logged; a kind evicted from the cache is emitted again
+ * on its next event, without the count.</p>
+ *
+ * <pre>
+ * Logger log = new SuppressingLogger(LoggerFactory.getLogger(Client.class), 10, TimeUnit.SECONDS, 1024);
+ * log.error("Call failed", kvp("endpoint", endpoint), kvp("status", status), kfp("cause", () -&gt; describe(e)));
+ * </pre>
+ */
+public class SuppressingLogger implements Logger {
+
+    /**
+     * The name of the field holding the number of repeats suppressed before an event.
+     */
+    public static final String REPEAT_COUNT = "repeat_count";
+
+    private static final int MAX_STRIPES = 16;
+    private static final int MIN_STRIPE_CAPACITY = 8;
+
+    private static final Marker SUPPRESSED = PooledEventBuilder.Gate.SUPPRESSED;
+
+    private static final ThreadLocal<Keys> KEYS = ThreadLocal.withInitial(Keys::new);
+
+    private final Logger logger;
+    private final long window;
+    private final Stripe[] stripes;
+    private final PooledEventBuilder.Gate gate = this::admit;
+
+    /**
+     * Standard constructor
+     *
+     * @param logger the logger to emit events to
+     * @param window how long repeats of an emitted event are suppressed
+     * @param unit the unit of the window
+     * @param capacity the number of kinds of event to remember
+     */
+    public SuppressingLogger(Logger logger, long window, TimeUnit unit, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.logger = logger;
+        this.window = unit.toNanos(window);
+        // small caches get fewer stripes, so that kinds sharing a stripe do not evict each other early
+        int count = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, capacity / MIN_STRIPE_CAPACITY)));
+        int stripeCapacity = (capacity + count - 1) / count;
+        this.stripes = new Stripe[count];
+        for (int x = 0; x < count; x++) {
+            stripes[x] = new Stripe(stripeCapacity);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return logger.getName();
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return logger.isTraceEnabled();
+    }
+
+    @Override
+    public void trace(String s) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, s);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String s, Object o) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, s, keysOf(o));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, s, o);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String s, Object o, Object o1) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, s, keysOf(o, o1));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, s, o, o1);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String s, Object... objects) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, s, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, s, objects);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String s, Throwable throwable) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, s, throwable);
+            }
+        }
+    }
+
+    @Override
+    public boolean isTraceEnabled(Marker marker) {
+        return logger.isTraceEnabled(marker);
+    }
+
+    @Override
+    public void trace(Marker marker, String s) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, s);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String s, Object o) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, s, keysOf(o));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, s, o);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String s, Object o, Object o1) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, s, keysOf(o, o1));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, s, o, o1);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String s, Object... objects) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, s, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, s, objects);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String s, Throwable throwable) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, s, throwable);
+            }
+        }
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
+    @Override
+    public void debug(String s) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, s);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String s, Object o) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, s, keysOf(o));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, s, o);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String s, Object o, Object o1) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, s, keysOf(o, o1));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, s, o, o1);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String s, Object... objects) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, s, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, s, objects);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String s, Throwable throwable) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, s, throwable);
+            }
+        }
+    }
+
+    @Override
+    public boolean isDebugEnabled(Marker marker) {
+        return logger.isDebugEnabled(marker);
+    }
+
+    @Override
+    public void debug(Marker marker, String s) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, s);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String s, Object o) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, s, keysOf(o));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, s, o);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String s, Object o, Object o1) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, s, keysOf(o, o1));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, s, o, o1);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String s, Object... objects) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, s, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, s, objects);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String s, Throwable throwable) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, s, throwable);
+            }
+        }
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return logger.isInfoEnabled();
+    }
+
+    @Override
+    public void info(String s) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, s);
+            }
+        }
+    }
+
+    @Override
+    public void info(String s, Object o) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, s, keysOf(o));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, s, o);
+            }
+        }
+    }
+
+    @Override
+    public void info(String s, Object o, Object o1) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, s, keysOf(o, o1));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, s, o, o1);
+            }
+        }
+    }
+
+    @Override
+    public void info(String s, Object... objects) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, s, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, s, objects);
+            }
+        }
+    }
+
+    @Override
+    public void info(String s, Throwable throwable) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, s, throwable);
+            }
+        }
+    }
+
+    @Override
+    public boolean isInfoEnabled(Marker marker) {
+        return logger.isInfoEnabled(marker);
+    }
+
+    @Override
+    public void info(Marker marker, String s) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, s);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String s, Object o) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, s, keysOf(o));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, s, o);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String s, Object o, Object o1) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, s, keysOf(o, o1));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, s, o, o1);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String s, Object... objects) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, s, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, s, objects);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String s, Throwable throwable) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, s, throwable);
+            }
+        }
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return logger.isWarnEnabled();
+    }
+
+    @Override
+    public void warn(String s) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, s);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String s, Object o) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, s, keysOf(o));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, s, o);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String s, Object... objects) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, s, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, s, objects);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String s, Object o, Object o1) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, s, keysOf(o, o1));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, s, o, o1);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String s, Throwable throwable) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, s, throwable);
+            }
+        }
+    }
+
+    @Override
+    public boolean isWarnEnabled(Marker marker) {
+        return logger.isWarnEnabled(marker);
+    }
+
+    @Override
+    public void warn(Marker marker, String s) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, s);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String s, Object o) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, s, keysOf(o));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, s, o);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String s, Object o, Object o1) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, s, keysOf(o, o1));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, s, o, o1);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String s, Object... objects) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, s, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, s, objects);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String s, Throwable throwable) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, s, throwable);
+            }
+        }
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return logger.isErrorEnabled();
+    }
+
+    @Override
+    public void error(String s) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, s);
+            }
+        }
+    }
+
+    @Override
+    public void error(String s, Object o) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, s, keysOf(o));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, s, o);
+            }
+        }
+    }
+
+    @Override
+    public void error(String s, Object o, Object o1) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, s, keysOf(o, o1));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, s, o, o1);
+            }
+        }
+    }
+
+    @Override
+    public void error(String s, Object... objects) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, s, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, s, objects);
+            }
+        }
+    }
+
+    @Override
+    public void error(String s, Throwable throwable) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, s, throwable);
+            }
+        }
+    }
+
+    @Override
+    public boolean isErrorEnabled(Marker marker) {
+        return logger.isErrorEnabled(marker);
+    }
+
+    @Override
+    public void error(Marker marker, String s) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, s);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String s, Object o) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, s, keysOf(o));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, s, o);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String s, Object o, Object o1) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, s, keysOf(o, o1));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, s, o, o1);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String s, Object... objects) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, s, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, s, objects);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String s, Throwable throwable) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, s, keysOf());
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, s, throwable);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String msg, Loggable loggable) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, msg, keysOf(loggable));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, loggable);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String msg, Loggable first, Loggable second) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, msg, keysOf(first, second));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String msg, Loggable... loggables) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, msg, keysOf(loggables));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, loggables);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, Supplier<?> func) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, msg, keysOf(aLabel, bLabel));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, aLabel, aFunc, bLabel, bFunc);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, IntSupplier func) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, LongSupplier func) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, DoubleSupplier func) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String msg, String label, BooleanSupplier func) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public <T, R> void trace(String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, label, func, parameter);
+            }
+        }
+    }
+
+    @Override
+    public <F, S, R> void trace(String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, label, func, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String msg, Map<String, ?> arguments) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, msg, keysOf(arguments));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, arguments);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String msg, KeyValuePair<?>... pairs) {
+        if (logger.isTraceEnabled()) {
+            Marker emitted = admit(null, Level.TRACE, msg, keysOf(pairs));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, pairs);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String msg, Loggable loggable) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, msg, keysOf(loggable));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, loggable);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String msg, Loggable first, Loggable second) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, msg, keysOf(first, second));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String msg, Loggable... loggables) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, msg, keysOf(loggables));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, loggables);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, Supplier<?> func) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, msg, keysOf(aLabel, bLabel));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, aLabel, aFunc, bLabel, bFunc);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, IntSupplier func) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, LongSupplier func) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, DoubleSupplier func) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String msg, String label, BooleanSupplier func) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public <T, R> void debug(String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, label, func, parameter);
+            }
+        }
+    }
+
+    @Override
+    public <F, S, R> void debug(String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, label, func, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String msg, Map<String, ?> objects) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, msg, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, objects);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String msg, KeyValuePair<?>... pairs) {
+        if (logger.isDebugEnabled()) {
+            Marker emitted = admit(null, Level.DEBUG, msg, keysOf(pairs));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, pairs);
+            }
+        }
+    }
+
+    @Override
+    public void info(String msg, Loggable loggable) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, msg, keysOf(loggable));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, loggable);
+            }
+        }
+    }
+
+    @Override
+    public void info(String msg, Loggable first, Loggable second) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, msg, keysOf(first, second));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void info(String msg, Loggable... loggables) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, msg, keysOf(loggables));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, loggables);
+            }
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, Supplier<?> func) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void info(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, msg, keysOf(aLabel, bLabel));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, aLabel, aFunc, bLabel, bFunc);
+            }
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, IntSupplier func) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, LongSupplier func) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, DoubleSupplier func) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void info(String msg, String label, BooleanSupplier func) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public <T, R> void info(String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, label, func, parameter);
+            }
+        }
+    }
+
+    @Override
+    public <F, S, R> void info(String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, label, func, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void info(String msg, Map<String, ?> objects) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, msg, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, objects);
+            }
+        }
+    }
+
+    @Override
+    public void info(String msg, KeyValuePair<?>... pairs) {
+        if (logger.isInfoEnabled()) {
+            Marker emitted = admit(null, Level.INFO, msg, keysOf(pairs));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, pairs);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String msg, Loggable loggable) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, msg, keysOf(loggable));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, loggable);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String msg, Loggable first, Loggable second) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, msg, keysOf(first, second));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String msg, Loggable... loggables) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, msg, keysOf(loggables));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, loggables);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, Supplier<?> func) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, msg, keysOf(aLabel, bLabel));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, aLabel, aFunc, bLabel, bFunc);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, IntSupplier func) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, LongSupplier func) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, DoubleSupplier func) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String msg, String label, BooleanSupplier func) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public <T, R> void warn(String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, label, func, parameter);
+            }
+        }
+    }
+
+    @Override
+    public <F, S, R> void warn(String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, label, func, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String msg, Map<String, ?> objects) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, msg, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, objects);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String msg, KeyValuePair<?>... pairs) {
+        if (logger.isWarnEnabled()) {
+            Marker emitted = admit(null, Level.WARN, msg, keysOf(pairs));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, pairs);
+            }
+        }
+    }
+
+    @Override
+    public void error(String msg, Loggable loggable) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, msg, keysOf(loggable));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, loggable);
+            }
+        }
+    }
+
+    @Override
+    public void error(String msg, Loggable first, Loggable second) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, msg, keysOf(first, second));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void error(String msg, Loggable... loggables) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, msg, keysOf(loggables));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, loggables);
+            }
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, Supplier<?> func) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void error(String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, msg, keysOf(aLabel, bLabel));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, aLabel, aFunc, bLabel, bFunc);
+            }
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, IntSupplier func) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, LongSupplier func) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, DoubleSupplier func) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void error(String msg, String label, BooleanSupplier func) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public <T, R> void error(String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, label, func, parameter);
+            }
+        }
+    }
+
+    @Override
+    public <F, S, R> void error(String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, label, func, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void error(String msg, Map<String, ?> objects) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, msg, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, objects);
+            }
+        }
+    }
+
+    @Override
+    public void error(String msg, KeyValuePair<?>... pairs) {
+        if (logger.isErrorEnabled()) {
+            Marker emitted = admit(null, Level.ERROR, msg, keysOf(pairs));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, pairs);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Loggable loggable) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, msg, keysOf(loggable));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, loggable);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Loggable first, Loggable second) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, msg, keysOf(first, second));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Loggable... loggables) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, msg, keysOf(loggables));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, loggables);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, Supplier<?> func) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, msg, keysOf(aLabel, bLabel));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, aLabel, aFunc, bLabel, bFunc);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, IntSupplier func) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, LongSupplier func) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public <T, R> void trace(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, label, func, parameter);
+            }
+        }
+    }
+
+    @Override
+    public <F, S, R> void trace(Marker marker, String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, label, func, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Map<String, ?> arguments) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, msg, keysOf(arguments));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, arguments);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (logger.isTraceEnabled(marker)) {
+            Marker emitted = admit(marker, Level.TRACE, msg, keysOf(pairs));
+            if (SUPPRESSED != emitted) {
+                logger.trace(emitted, msg, pairs);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Loggable loggable) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, msg, keysOf(loggable));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, loggable);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Loggable first, Loggable second) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, msg, keysOf(first, second));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Loggable... loggables) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, msg, keysOf(loggables));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, loggables);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, Supplier<?> func) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, msg, keysOf(aLabel, bLabel));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, aLabel, aFunc, bLabel, bFunc);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, IntSupplier func) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, LongSupplier func) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public <T, R> void debug(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, label, func, parameter);
+            }
+        }
+    }
+
+    @Override
+    public <F, S, R> void debug(Marker marker, String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, label, func, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Map<String, ?> objects) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, msg, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, objects);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (logger.isDebugEnabled(marker)) {
+            Marker emitted = admit(marker, Level.DEBUG, msg, keysOf(pairs));
+            if (SUPPRESSED != emitted) {
+                logger.debug(emitted, msg, pairs);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Loggable loggable) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, msg, keysOf(loggable));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, loggable);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Loggable first, Loggable second) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, msg, keysOf(first, second));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Loggable... loggables) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, msg, keysOf(loggables));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, loggables);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, Supplier<?> func) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, msg, keysOf(aLabel, bLabel));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, aLabel, aFunc, bLabel, bFunc);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, IntSupplier func) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, LongSupplier func) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public <T, R> void info(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, label, func, parameter);
+            }
+        }
+    }
+
+    @Override
+    public <F, S, R> void info(Marker marker, String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, label, func, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Map<String, ?> objects) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, msg, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, objects);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (logger.isInfoEnabled(marker)) {
+            Marker emitted = admit(marker, Level.INFO, msg, keysOf(pairs));
+            if (SUPPRESSED != emitted) {
+                logger.info(emitted, msg, pairs);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Loggable loggable) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, msg, keysOf(loggable));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, loggable);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Loggable first, Loggable second) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, msg, keysOf(first, second));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Loggable... loggables) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, msg, keysOf(loggables));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, loggables);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, Supplier<?> func) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, msg, keysOf(aLabel, bLabel));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, aLabel, aFunc, bLabel, bFunc);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, IntSupplier func) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, LongSupplier func) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public <T, R> void warn(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, label, func, parameter);
+            }
+        }
+    }
+
+    @Override
+    public <F, S, R> void warn(Marker marker, String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, label, func, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Map<String, ?> objects) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, msg, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, objects);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (logger.isWarnEnabled(marker)) {
+            Marker emitted = admit(marker, Level.WARN, msg, keysOf(pairs));
+            if (SUPPRESSED != emitted) {
+                logger.warn(emitted, msg, pairs);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Loggable loggable) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, msg, keysOf(loggable));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, loggable);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Loggable first, Loggable second) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, msg, keysOf(first, second));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Loggable... loggables) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, msg, keysOf(loggables));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, loggables);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, Supplier<?> func) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String aLabel, Supplier<?> aFunc, String bLabel, Supplier<?> bFunc) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, msg, keysOf(aLabel, bLabel));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, aLabel, aFunc, bLabel, bFunc);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, IntSupplier func) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, LongSupplier func) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, DoubleSupplier func) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, String label, BooleanSupplier func) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, label, func);
+            }
+        }
+    }
+
+    @Override
+    public <T, R> void error(Marker marker, String msg, String label, Function<T, R> func, T parameter) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, label, func, parameter);
+            }
+        }
+    }
+
+    @Override
+    public <F, S, R> void error(Marker marker, String msg, String label, BiFunction<F, S, R> func, F first, S second) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, msg, keysOf(label));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, label, func, first, second);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Map<String, ?> objects) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, msg, keysOf(objects));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, objects);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, KeyValuePair<?>... pairs) {
+        if (logger.isErrorEnabled(marker)) {
+            Marker emitted = admit(marker, Level.ERROR, msg, keysOf(pairs));
+            if (SUPPRESSED != emitted) {
+                logger.error(emitted, msg, pairs);
+            }
+        }
+    }
+
+    @Override
+    public EventBuilder atTrace() {
+        return logger.isTraceEnabled()
+                ? PooledEventBuilder.acquire(logger, Level.TRACE).gatedBy(gate) : NoopEventBuilder.INSTANCE;
+    }
+
+    @Override
+    public EventBuilder atDebug() {
+        return logger.isDebugEnabled()
+                ? PooledEventBuilder.acquire(logger, Level.DEBUG).gatedBy(gate) : NoopEventBuilder.INSTANCE;
+    }
+
+    @Override
+    public EventBuilder atInfo() {
+        return logger.isInfoEnabled()
+                ? PooledEventBuilder.acquire(logger, Level.INFO).gatedBy(gate) : NoopEventBuilder.INSTANCE;
+    }
+
+    @Override
+    public EventBuilder atWarn() {
+        return logger.isWarnEnabled()
+                ? PooledEventBuilder.acquire(logger, Level.WARN).gatedBy(gate) : NoopEventBuilder.INSTANCE;
+    }
+
+    @Override
+    public EventBuilder atError() {
+        return logger.isErrorEnabled()
+                ? PooledEventBuilder.acquire(logger, Level.ERROR).gatedBy(gate) : NoopEventBuilder.INSTANCE;
+    }
+
+    /**
+     * Decide whether to emit an event, counting it if it is a repeat.
+     *
+     * @return the marker to emit the event with, or SUPPRESSED
+     */
+    private Marker admit(Marker marker, Level level, String format, Keys keys) {
+        Object markerKey = keyOf(marker);
+        int hash = 31 * (31 * (31 * level.ordinal() + (null == format ? 0 : format.hashCode()))
+                + (null == markerKey ? 0 : markerKey.hashCode())) + keys.hash;
+        Stripe stripe = stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+        long now = System.nanoTime();
+        int repeats;
+        synchronized (stripe) {
+            repeats = stripe.admit(level, format, markerKey, keys, hash, now, window);
+        }
+        if (repeats < 0) {
+            return SUPPRESSED;
+        }
+        if (0 == repeats) {
+            return marker;
+        }
+        LogstashMarker counted = Markers.append(REPEAT_COUNT, repeats);
+        if (null != marker) {
+            counted.add(marker);
+        }
+        return counted;
+    }
+
+    /**
+     * Decide whether to emit an event built with an <code>at</code> method, before its
+     * fields are evaluated.
+     */
+    private Marker admit(Level level, Marker marker, String format, String[] keys, Object[] values, int size) {
+        Keys fields = keysOf();
+        for (int x = 0; x < size; x++) {
+            fields.add(null == keys[x] && values[x] instanceof Loggable ? keyOf(values[x]) : keys[x]);
+        }
+        return admit(marker, level, format, fields);
+    }
+
+    /**
+     * @return the calling thread's key list, emptied
+     */
+    private static Keys keysOf() {
+        return KEYS.get().clear();
+    }
+
+    private static Keys keysOf(String label) {
+        return keysOf().add(label);
+    }
+
+    private static Keys keysOf(String aLabel, String bLabel) {
+        return keysOf().add(aLabel).add(bLabel);
+    }
+
+    private static Keys keysOf(Object argument) {
+        return keysOf().add(keyOf(argument));
+    }
+
+    private static Keys keysOf(Object first, Object second) {
+        return keysOf().add(keyOf(first)).add(keyOf(second));
+    }
+
+    private static Keys keysOf(Object[] arguments) {
+        Keys keys = keysOf();
+        if (null != arguments) {
+            for (Object argument : arguments) {
+                keys.add(keyOf(argument));
+            }
+        }
+        return keys;
+    }
+
+    private static Keys keysOf(Map<String, ?> arguments) {
+        Keys keys = keysOf();
+        for (String key : arguments.keySet()) {
+            keys.add(key);
+        }
+        return keys;
+    }
+
+    /**
+     * @return the key of a pair or field appending marker, the class of a <code>Loggable</code>
+     * or other structured argument, or null for a plain value, which tells no kinds apart
+     */
+    private static Object keyOf(Object argument) {
+        if (argument instanceof KeyValuePair) {
+            return ((KeyValuePair<?>) argument).key;
+        }
+        if (argument instanceof SingleFieldAppendingMarker) {
+            return ((SingleFieldAppendingMarker) argument).getFieldName();
+        }
+        if (argument instanceof Loggable || argument instanceof StructuredArgument) {
+            return argument.getClass();
+        }
+        return null;
+    }
+
+    private static Object keyOf(Marker marker) {
+        if (null == marker) {
+            return null;
+        }
+        return marker instanceof SingleFieldAppendingMarker
+                ? ((SingleFieldAppendingMarker) marker).getFieldName() : marker.getName();
+    }
+
+    /**
+     * A reusable list of argument keys, so that checking an event allocates nothing.
+     */
+    private static final class Keys {
+        private Object[] keys = new Object[8];
+        private int size;
+        private int hash;
+
+        Keys clear() {
+            Arrays.fill(keys, 0, size, null);
+            size = 0;
+            hash = 1;
+            return this;
+        }
+
+        Keys add(Object key) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            keys[size++] = key;
+            hash = 31 * hash + (null == key ? 0 : key.hashCode());
+            return this;
+        }
+    }
+
+    /**
+     * The level, format, marker and argument keys identifying a kind of event.
+     */
+    private static final class Kind {
+        Level level;
+        String format;
+        Object marker;
+        Object[] keys;
+        int size;
+        int hash;
+
+        Kind() {
+        }
+
+        Kind(Kind other) {
+            this.level = other.level;
+            this.format = other.format;
+            this.marker = other.marker;
+            this.keys = Arrays.copyOf(other.keys, other.size);
+            this.size = other.size;
+            this.hash = other.hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Kind)) {
+                return false;
+            }
+            Kind kind = (Kind) other;
+            if (hash != kind.hash || size != kind.size || level != kind.level
+                    || !Objects.equals(format, kind.format) || !Objects.equals(marker, kind.marker)) {
+                return false;
+            }
+            for (int x = 0; x < size; x++) {
+                if (!Objects.equals(keys[x], kind.keys[x])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * When the current window of a kind began, and how many repeats it has suppressed.
+     */
+    private static final class Window {
+        long start;
+        int suppressed;
+
+        Window(long start) {
+            this.start = start;
+        }
+    }
+
+    /**
+     * One lock's share of the cache, evicting its least recently logged kind when full.
+     * Lookups reuse a probe, so only a kind not already cached allocates.
+     */
+    private static final class Stripe extends LinkedHashMap<Kind, Window> {
+        private final int capacity;
+        private final Kind probe = new Kind();
+
+        Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        /**
+         * @return -1 if the event is a suppressed repeat, otherwise the number of repeats
+         * suppressed since the last one emitted
+         */
+        int admit(Level level, String format, Object marker, Keys keys, int hash, long now, long window) {
+            probe.level = level;
+            probe.format = format;
+            probe.marker = marker;
+            probe.keys = keys.keys;
+            probe.size = keys.size;
+            probe.hash = hash;
+            Window current = get(probe);
+            if (null == current) {
+                put(new Kind(probe), new Window(now));
+                return 0;
+            }
+            if (now - current.start < window) {
+                current.suppressed++;
+                return -1;
+            }
+            int repeats = current.suppressed;
+            current.start = now;
+            current.suppressed = 0;
+            return repeats;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Kind, Window> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package me.stevelle.logging;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Writes values of a type straight to the JSON generator, so they are not serialized by
+ * Jackson reflection.</p>
+ *
+ * <p>Serializers are registered with {@link ValueSerializers#register(ValueSerializer)}, or
+ * listed for <code>java.util.ServiceLoader</code> in
+ * <code>META-INF/services/me.stevelle.logging.ValueSerializer</code>. A serializer applies to
+ * its type and every subtype of it.</p>
+ * <pre>
+ *   ValueSerializers.register(new ValueSerializer&lt;Money&gt;() {
+ *       public Class&lt;Money&gt; type() { return Money.class; }
+ *
+ *       public void write(Money value, JsonGenerator generator) throws IOException {
+ *           generator.writeString(value.toPlainString());
+ *       }
+ *   });
+ * </pre>
+ *
+ * @param <T> type of value written
+ */
+public interface ValueSerializer<T> {
+
+    /**
+     * @return the type of the values written, including its subtypes
+     */
+    Class<T> type();
+
+    /**
+     * Write one value, as a single JSON value.
+     *
+     * @param value the value, never null
+     * @param generator the generator to write it to
+     * @throws IOException if the generator fails
+     */
+    void write(T value, JsonGenerator generator) throws IOException;
+}
@@ -0,0 +1,201 @@
+package me.stevelle.logging;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Registry of {@link ValueSerializer}s, and of how each class of value is structured.</p>
+ *
+ * <p>How to structure a class of value is resolved the first time it is logged and
+ * remembered with a <code>ClassValue</code>, so that each value costs one lookup. Serializers
+ * are consulted in turn, the most recently registered first, then those found with
+ * <code>ServiceLoader</code>, then the built-in ones for <code>UUID</code>,
+ * <code>Instant</code>, <code>Duration</code>, <code>BigDecimal</code>, enums and
+ * <code>CharSequence</code>. Suppliers and {@link Loggable}s are structured as before any
+ * serializer is consulted.</p>
+ */
+public final class ValueSerializers {
+
+    private static final List<ValueSerializer<?>> SERIALIZERS = new CopyOnWriteArrayList<>();
+
+    private static volatile ClassValue<Dispatch> dispatches = newDispatches();
+
+    static {
+        SERIALIZERS.add(new ToStringSerializer<>(UUID.class));
+        SERIALIZERS.add(new ToStringSerializer<>(Instant.class));
+        SERIALIZERS.add(new ToStringSerializer<>(Duration.class));
+        SERIALIZERS.add(new BigDecimalSerializer());
+        SERIALIZERS.add(new EnumSerializer());
+        SERIALIZERS.add(new CharSequenceSerializer());
+        for (ValueSerializer<?> serializer : ServiceLoader.load(ValueSerializer.class)) {
+            SERIALIZERS.add(0, serializer);
+        }
+    }
+
+    private ValueSerializers() {
+    }
+
+    /**
+     * Register a serializer, taking precedence over those already registered for the same
+     * types.
+     *
+     * @param serializer the serializer
+     */
+    public static synchronized void register(ValueSerializer<?> serializer) {
+        SERIALIZERS.add(0, serializer);
+        // classes already resolved may now resolve differently
+        dispatches = newDispatches();
+    }
+
+    /**
+     * @param type the class of a value to be logged
+     * @return how values of the class are structured
+     */
+    static Dispatch dispatch(Class<?> type) {
+        return dispatches.get(type);
+    }
+
+    /**
+     * Write a value with its serializer, or with Jackson if it has none.
+     *
+     * @param value the value
+     * @param generator the generator to write it to
+     * @throws IOException if the generator fails
+     */
+    static void write(Object value, JsonGenerator generator) throws IOException {
+        ValueSerializer<Object> serializer = null == value ? null : dispatch(value.getClass()).serializer;
+        if (null == serializer) {
+            generator.writeObject(value);
+        } else {
+            serializer.write(value, generator);
+        }
+    }
+
+    private static ClassValue<Dispatch> newDispatches() {
+        return new ClassValue<Dispatch>() {
+            @Override
+            protected Dispatch computeValue(Class<?> type) {
+                return resolve(type);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Dispatch resolve(Class<?> type) {
+        if (MemoizedSupplier.class.isAssignableFrom(type)) {
+            return Dispatch.of(Dispatch.MEMOIZED);
+        }
+        if (Supplier.class.isAssignableFrom(type)) {
+            return Dispatch.of(Dispatch.SUPPLIER);
+        }
+        if (Loggable.class.isAssignableFrom(type)) {
+            return Dispatch.of(Dispatch.LOGGABLE);
+        }
+        for (ValueSerializer<?> serializer : SERIALIZERS) {
+            if (serializer.type().isAssignableFrom(type)) {
+                return new Dispatch(Dispatch.SERIALIZED, (ValueSerializer<Object>) serializer);
+            }
+        }
+        if (StreamedArray.accepts(type)) {
+            return Dispatch.of(Dispatch.ARRAY);
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return Dispatch.of(Dispatch.MAP);
+        }
+        return Dispatch.of(Dispatch.OTHER);
+    }
+
+    /**
+     * How a class of value is structured, and its serializer if it has one.
+     */
+    static final class Dispatch {
+        static final byte MEMOIZED = 0;
+        static final byte SUPPLIER = 1;
+        static final byte LOGGABLE = 2;
+        static final byte ARRAY = 3;
+        static final byte MAP = 4;
+        static final byte OTHER = 5;
+        static final byte SERIALIZED = 6;
+
+        private static final Dispatch[] UNSERIALIZED = {
+                new Dispatch(MEMOIZED, null), new Dispatch(SUPPLIER, null), new Dispatch(LOGGABLE, null),
+                new Dispatch(ARRAY, null), new Dispatch(MAP, null), new Dispatch(OTHER, null)};
+
+        final byte kind;
+        final ValueSerializer<Object> serializer;
+
+        private Dispatch(byte kind, ValueSerializer<Object> serializer) {
+            this.kind = kind;
+            this.serializer = serializer;
+        }
+
+        static Dispatch of(byte kind) {
+            return UNSERIALIZED[kind];
+        }
+    }
+
+    private static final class ToStringSerializer<T> implements ValueSerializer<T> {
+        private final Class<T> type;
+
+        ToStringSerializer(Class<T> type) {
+            this.type = type;
+        }
+
+        @Override
+        public Class<T> type() {
+            return type;
+        }
+
+        @Override
+        public void write(T value, JsonGenerator generator) throws IOException {
+            generator.writeString(value.toString());
+        }
+    }
+
+    private static final class BigDecimalSerializer implements ValueSerializer<BigDecimal> {
+        @Override
+        public Class<BigDecimal> type() {
+            return BigDecimal.class;
+        }
+
+        @Override
+        public void write(BigDecimal value, JsonGenerator generator) throws IOException {
+            generator.writeNumber(value);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final class EnumSerializer implements ValueSerializer<Enum> {
+        @Override
+        public Class<Enum> type() {
+            return Enum.class;
+        }
+
+        @Override
+        public void write(Enum value, JsonGenerator generator) throws IOException {
+            generator.writeString(value.name());
+        }
+    }
+
+    private static final class CharSequenceSerializer implements ValueSerializer<CharSequence> {
+        @Override
+        public Class<CharSequence> type() {
+            return CharSequence.class;
+        }
+
+        @Override
+        public void write(CharSequence value, JsonGenerator generator) throws IOException {
+            generator.writeString(EncodingLimits.current().limit(value.toString()));
+        }
+    }
+}
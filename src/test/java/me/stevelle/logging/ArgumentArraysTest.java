@@ -0,0 +1,78 @@
+package me.stevelle.logging;
+
+import net.logstash.logback.argument.StructuredArgument;
+import org.junit.After;
+import org.junit.Test;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ArgumentArraysTest {
+
+    @After
+    public void disableReuse() {
+        ArgumentArrays.setReuse(false);
+    }
+
+    @Test
+    public void testArraysAreNotReusedByDefault() {
+        StructuredArgument[] first = ArgumentArrays.acquire(2);
+        ArgumentArrays.release(first);
+        StructuredArgument[] second = ArgumentArrays.acquire(2);
+
+        assertThat(second, not(sameInstance(first)));
+    }
+
+    @Test
+    public void testReleasedArrayIsClearedAndReused() {
+        ArgumentArrays.setReuse(true);
+        StructuredArgument[] first = ArgumentArrays.acquire(2);
+        first[0] = kv("destination", "Unknown");
+        ArgumentArrays.release(first);
+        StructuredArgument[] second = ArgumentArrays.acquire(2);
+
+        assertThat(second, sameInstance(first));
+        assertThat(second[0], nullValue());
+    }
+
+    @Test
+    public void testArrayInUseIsNotHandedOutAgain() {
+        ArgumentArrays.setReuse(true);
+        StructuredArgument[] outer = ArgumentArrays.acquire(3);
+        StructuredArgument[] nested = ArgumentArrays.acquire(3);
+
+        assertThat(nested, not(sameInstance(outer)));
+        assertThat(nested.length, equalTo(3));
+        ArgumentArrays.release(nested);
+        ArgumentArrays.release(outer);
+        StructuredArgument[] again = ArgumentArrays.acquire(3);
+        ArgumentArrays.release(again);
+        assertThat(again, sameInstance(outer));
+    }
+
+    @Test
+    public void testArrayReleasedWhileReuseIsOffIsFreed() {
+        ArgumentArrays.setReuse(true);
+        StructuredArgument[] first = ArgumentArrays.acquire(4);
+        ArgumentArrays.setReuse(false);
+        ArgumentArrays.release(first);
+        ArgumentArrays.setReuse(true);
+        StructuredArgument[] second = ArgumentArrays.acquire(4);
+        ArgumentArrays.release(second);
+
+        assertThat(second, sameInstance(first));
+    }
+
+    @Test
+    public void testLongArraysAreNotReused() {
+        ArgumentArrays.setReuse(true);
+        StructuredArgument[] first = ArgumentArrays.acquire(9);
+        ArgumentArrays.release(first);
+
+        assertThat(ArgumentArrays.acquire(9), not(sameInstance(first)));
+    }
+}
@@ -0,0 +1,171 @@
+package me.stevelle.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import me.stevelle.logging.testSupport.TestAppender;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+public class AsyncFuncLoggerTest {
+
+    private static TestAppender testAppender;
+    private static ch.qos.logback.classic.Logger innerLogger;
+
+    @BeforeClass
+    public static void setupLogsForTesting() {
+        innerLogger = (ch.qos.logback.classic.Logger) org.slf4j.LoggerFactory.getLogger(ch.qos.logback.classic.Logger.ROOT_LOGGER_NAME);
+        testAppender = (TestAppender) innerLogger.getAppender("TEST");
+    }
+
+    @Before
+    public void resetLogger() {
+        innerLogger.setLevel(Level.TRACE);
+        testAppender.clear();
+    }
+
+    @After
+    public void clearContext() {
+        MDC.clear();
+    }
+
+    @Test
+    public void testSupplierIsEvaluatedOffTheCallingThread() throws InterruptedException {
+        AsyncEvaluator evaluator = new AsyncEvaluator(16, AsyncEvaluator.OverflowPolicy.BLOCK);
+        Logger log = LoggerFactory.getAsyncLogger(AsyncFuncLoggerTest.class, evaluator);
+        AtomicReference<String> evaluatedOn = new AtomicReference<>();
+        AtomicReference<String> requestId = new AtomicReference<>();
+
+        MDC.put("request", "r-42");
+        log.info("Test", "destination", () -> {
+            evaluatedOn.set(Thread.currentThread().getName());
+            requestId.set(MDC.get("request"));
+            return "Unknown";
+        });
+
+        assertThat(evaluator.shutdown(5, TimeUnit.SECONDS), is(true));
+        ILoggingEvent lastEvent = testAppender.getLastEvent();
+        assertThat(lastEvent, is(notNullValue()));
+        assertThat(lastEvent.getArgumentArray()[0].toString(), containsString("destination=Unknown"));
+        assertThat(lastEvent.getMDCPropertyMap().get("request"), equalTo("r-42"));
+        assertThat(evaluatedOn.get(), equalTo("logfuncj-async-evaluator"));
+        assertThat(requestId.get(), equalTo("r-42"));
+    }
+
+    @Test
+    public void testBuiltEventFieldsAreEvaluatedOffTheCallingThread() throws InterruptedException {
+        AsyncEvaluator evaluator = new AsyncEvaluator(16, AsyncEvaluator.OverflowPolicy.BLOCK);
+        Logger log = LoggerFactory.getAsyncLogger(AsyncFuncLoggerTest.class, evaluator);
+        AtomicReference<String> evaluatedOn = new AtomicReference<>();
+
+        log.atInfo().kv("attempt", 1).kf("destination", () -> {
+            evaluatedOn.set(Thread.currentThread().getName());
+            return "Unknown";
+        }).log("Test");
+
+        assertThat(evaluator.shutdown(5, TimeUnit.SECONDS), is(true));
+        ILoggingEvent lastEvent = testAppender.getLastEvent();
+        assertThat(lastEvent, is(notNullValue()));
+        assertThat(lastEvent.getArgumentArray()[1].toString(), equalTo("destination=Unknown"));
+        assertThat(evaluatedOn.get(), equalTo("logfuncj-async-evaluator"));
+    }
+
+    @Test
+    public void testDisabledLevelIsNotSubmitted() throws InterruptedException {
+        AsyncEvaluator evaluator = new AsyncEvaluator(16, AsyncEvaluator.OverflowPolicy.BLOCK);
+        Logger log = LoggerFactory.getAsyncLogger(AsyncFuncLoggerTest.class, evaluator);
+        AtomicInteger evaluations = new AtomicInteger();
+        innerLogger.setLevel(Level.WARN);
+
+        log.debug("Test", "destination", () -> evaluations.incrementAndGet());
+
+        assertThat(evaluator.shutdown(5, TimeUnit.SECONDS), is(true));
+        assertThat(evaluations.get(), equalTo(0));
+        assertThat(testAppender.getLastEvent(), is(nullValue()));
+    }
+
+    @Test
+    public void testFullQueueDropsEvents() throws InterruptedException {
+        AsyncEvaluator evaluator = new AsyncEvaluator(1, AsyncEvaluator.OverflowPolicy.DROP);
+        Logger log = LoggerFactory.getAsyncLogger(AsyncFuncLoggerTest.class, evaluator);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        log.info("Blocking", "destination", () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "Unknown";
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+        log.info("Queued", "destination", () -> "Unknown");
+        log.info("Dropped", "destination", () -> "Unknown");
+        release.countDown();
+
+        assertThat(evaluator.shutdown(5, TimeUnit.SECONDS), is(true));
+        assertThat(evaluator.getDroppedCount(), equalTo(1L));
+        assertThat(testAppender.getLastEvent().getMessage(), equalTo("Queued"));
+        assertThat(testAppender.getLastEvent().getMessage(), equalTo("Blocking"));
+    }
+
+    @Test
+    public void testFullQueueRunsOnCallerWhenConfigured() throws InterruptedException {
+        AsyncEvaluator evaluator = new AsyncEvaluator(1, AsyncEvaluator.OverflowPolicy.CALLER_RUNS);
+        Logger log = LoggerFactory.getAsyncLogger(AsyncFuncLoggerTest.class, evaluator);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> evaluatedOn = new AtomicReference<>();
+
+        log.info("Blocking", "destination", () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "Unknown";
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+        log.info("Queued", "destination", () -> "Unknown");
+        log.info("Overflow", "destination", () -> {
+            evaluatedOn.set(Thread.currentThread().getName());
+            return "Unknown";
+        });
+        release.countDown();
+
+        assertThat(evaluator.shutdown(5, TimeUnit.SECONDS), is(true));
+        assertThat(evaluator.getDelayedCount(), equalTo(1L));
+        assertThat(evaluator.getDroppedCount(), equalTo(0L));
+        assertThat(evaluatedOn.get(), equalTo(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void testFunctionsAreQueuedOnce() throws InterruptedException {
+        AsyncEvaluator evaluator = new AsyncEvaluator(1, AsyncEvaluator.OverflowPolicy.BLOCK);
+        Logger log = LoggerFactory.getAsyncLogger(AsyncFuncLoggerTest.class, evaluator);
+
+        log.info("Function", "length", String::length, "Unknown");
+        log.info("BiFunction", "sum", Integer::sum, 2, 3);
+
+        assertThat(evaluator.shutdown(5, TimeUnit.SECONDS), is(true));
+        assertThat(evaluator.getDroppedCount(), equalTo(0L));
+        ILoggingEvent biFunction = testAppender.getLastEvent();
+        ILoggingEvent function = testAppender.getLastEvent();
+        assertThat(biFunction.getArgumentArray()[0].toString(), equalTo("sum=5"));
+        assertThat(function.getArgumentArray()[0].toString(), equalTo("length=7"));
+        assertThat(testAppender.getLastEvent(), is(nullValue()));
+    }
+}
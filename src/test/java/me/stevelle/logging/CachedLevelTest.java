@@ -0,0 +1,100 @@
+package me.stevelle.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.jmx.JMXConfigurator;
+import ch.qos.logback.classic.jmx.JMXConfiguratorMBean;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Marker;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class CachedLevelTest {
+
+    private static final String PARENT_NAME = "me.stevelle.logging.levels";
+    private static final String LOGGER_NAME = PARENT_NAME + ".cached";
+
+    private LoggerContext context;
+    private MBeanServer server;
+    private ObjectName name;
+    private JMXConfigurator configurator;
+    private JMXConfiguratorMBean jmx;
+
+    @Before
+    public void registerConfigurator() throws Exception {
+        context = (LoggerContext) org.slf4j.LoggerFactory.getILoggerFactory();
+        server = ManagementFactory.getPlatformMBeanServer();
+        name = new ObjectName("me.stevelle.logging:Name=CachedLevelTest");
+        configurator = new JMXConfigurator(context, server, name);
+        server.registerMBean(configurator, name);
+        jmx = JMX.newMBeanProxy(server, name, JMXConfiguratorMBean.class);
+    }
+
+    @After
+    public void resetLevels() throws Exception {
+        server.unregisterMBean(name);
+        context.removeListener(configurator);
+        context.getLogger(PARENT_NAME).setLevel(null);
+        context.getLogger(LOGGER_NAME).setLevel(null);
+        context.resetTurboFilterList();
+        LoggerFactory.refreshLevels();
+    }
+
+    @Test
+    public void testLevelChangeThroughJmxTakesEffectImmediately() {
+        Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+        AtomicInteger evaluations = new AtomicInteger();
+
+        jmx.setLoggerLevel(LOGGER_NAME, "DEBUG");
+        assertThat(log.isDebugEnabled(), is(true));
+        log.debug("Test", "count", evaluations::incrementAndGet);
+
+        jmx.setLoggerLevel(LOGGER_NAME, "WARN");
+        assertThat(log.isDebugEnabled(), is(false));
+        assertThat(log.isWarnEnabled(), is(true));
+        log.debug("Test", "count", evaluations::incrementAndGet);
+
+        assertThat(evaluations.get(), equalTo(1));
+    }
+
+    @Test
+    public void testParentLevelChangeReachesCachedChild() {
+        Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+
+        context.getLogger(PARENT_NAME).setLevel(Level.TRACE);
+        assertThat(log.isTraceEnabled(), is(true));
+
+        context.getLogger(PARENT_NAME).setLevel(Level.OFF);
+        assertThat(log.isErrorEnabled(), is(false));
+    }
+
+    @Test
+    public void testTurboFiltersAreConsulted() {
+        Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+        context.getLogger(LOGGER_NAME).setLevel(Level.WARN);
+        assertThat(log.isDebugEnabled(), is(false));
+
+        context.addTurboFilter(new TurboFilter() {
+            @Override
+            public FilterReply decide(Marker marker, ch.qos.logback.classic.Logger logger, Level level,
+                                      String format, Object[] params, Throwable t) {
+                return FilterReply.ACCEPT;
+            }
+        });
+        LoggerFactory.refreshLevels();
+
+        assertThat(log.isDebugEnabled(), is(true));
+    }
+}
@@ -0,0 +1,105 @@
+package me.stevelle.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import me.stevelle.logging.testSupport.TestAppender;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+public class EncodingLimitsTest {
+
+    private static TestAppender testAppender;
+    private static ch.qos.logback.classic.Logger innerLogger;
+
+    @BeforeClass
+    public static void setupLogsForTesting() {
+        innerLogger = (ch.qos.logback.classic.Logger) org.slf4j.LoggerFactory.getLogger(ch.qos.logback.classic.Logger.ROOT_LOGGER_NAME);
+        testAppender = (TestAppender) innerLogger.getAppender("TEST");
+    }
+
+    @Before
+    public void resetLogger() {
+        innerLogger.setLevel(Level.TRACE);
+        testAppender.clear();
+    }
+
+    @After
+    public void resetLimits() {
+        EncodingLimits.set(EncodingLimits.defaults());
+    }
+
+    @Test
+    public void testValuesWithinLimitsAreNotCopied() {
+        String[] tags = {"a", "b"};
+        Map<String, Object> map = Collections.singletonMap("tags", tags);
+
+        assertThat(EncodingLimits.defaults().limit(tags), is(sameInstance((Object) tags)));
+        assertThat(EncodingLimits.defaults().limit(map), is(sameInstance((Object) map)));
+        assertThat(EncodingLimits.defaults().limit("short"), is(sameInstance((Object) "short")));
+    }
+
+    @Test
+    public void testOversizedValuesAreTruncatedWithAMarker() {
+        EncodingLimits limits = EncodingLimits.unlimited()
+                .withMaxStringLength(5)
+                .withMaxElements(2)
+                .withMaxEntries(1);
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("first", "abcdefgh");
+        map.put("second", 2);
+        map.put("third", 3);
+
+        assertThat(limits.limit("abcdefgh"), equalTo("abcde...(3 more)"));
+        assertThat((Object[]) limits.limit(new Integer[]{1, 2, 3, 4}), equalTo(new Object[]{1, 2, "...(2 more)"}));
+        assertThat(limits.limit(Arrays.asList(1, 2, 3)), equalTo(Arrays.asList(1, 2, "...(1 more)")));
+        assertThat(limits.limit(map).toString(), equalTo("{first=abcde...(3 more), _truncated=2}"));
+    }
+
+    @Test
+    public void testDeeplyNestedValuesAreReplaced() {
+        EncodingLimits limits = EncodingLimits.unlimited().withMaxDepth(2);
+        List<Object> nested = Arrays.asList("one", Arrays.asList("two", Arrays.asList("three")));
+
+        assertThat(limits.limit(nested).toString(), equalTo("[one, [two, ...(too deep)]]"));
+    }
+
+    @Test
+    public void testLoggedMapIsCappedBeforeStructuring() {
+        EncodingLimits.set(EncodingLimits.defaults().withMaxEntries(2));
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        map.put("d", 4);
+
+        LoggerFactory.getLogger(EncodingLimitsTest.class).info("Test", map);
+
+        ILoggingEvent lastEvent = testAppender.getLastEvent();
+        Object[] args = lastEvent.getArgumentArray();
+        assertThat(args.length, equalTo(3));
+        assertThat(args[2].toString(), equalTo(EncodingLimits.TRUNCATED_KEY + "=2"));
+    }
+
+    @Test
+    public void testLoggablePropertiesAreCapped() throws IOException {
+        EncodingLimits.set(EncodingLimits.defaults().withMaxElements(1).withMaxStringLength(3));
+        Loggable.Builder builder = new Loggable.Builder()
+                .with("ids", Arrays.asList(1, 2, 3))
+                .with("name", "abcdef");
+
+        assertThat(LoggableTest.json(builder.build()),
+                equalTo("{\"ids\":[1,\"...(2 more)\"],\"name\":\"abc...(3 more)\"}"));
+    }
+}
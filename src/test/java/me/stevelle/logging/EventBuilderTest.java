@@ -0,0 +1,124 @@
+package me.stevelle.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import me.stevelle.logging.testSupport.Book;
+import me.stevelle.logging.testSupport.TestAppender;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+public class EventBuilderTest {
+
+    private static TestAppender testAppender;
+    private static ch.qos.logback.classic.Logger innerLogger;
+    private Logger log;
+
+    @BeforeClass
+    public static void setupLogsForTesting() {
+        innerLogger = (ch.qos.logback.classic.Logger) org.slf4j.LoggerFactory.getLogger(ch.qos.logback.classic.Logger.ROOT_LOGGER_NAME);
+        testAppender = (TestAppender) innerLogger.getAppender("TEST");
+    }
+
+    @Before
+    public void resetLogger() {
+        innerLogger.setLevel(Level.TRACE);
+        testAppender.clear();
+        log = LoggerFactory.getLogger(EventBuilderTest.class);
+    }
+
+    @Test
+    public void testFieldsBecomeArgumentsInOrder() {
+        List<String> list = Arrays.asList("one", "two");
+        Book book = new Book("Logging", null, 2018);
+
+        log.atInfo()
+                .kv("user", "alice")
+                .kf("size", list::size)
+                .loggable(book)
+                .log("Done {}");
+
+        ILoggingEvent lastEvent = testAppender.getLastEvent();
+        assertThat(lastEvent, is(notNullValue()));
+        assertThat(lastEvent.getLevel(), is(Level.INFO));
+        assertThat(lastEvent.getFormattedMessage(), equalTo("Done user=alice"));
+        Object[] args = lastEvent.getArgumentArray();
+        assertThat(args.length, equalTo(3));
+        assertThat(args[1].toString(), equalTo("size=2"));
+        assertThat(args[2].toString(), containsString("title=Logging"));
+    }
+
+    @Test
+    public void testDisabledLevelReturnsNoopBuilder() {
+        innerLogger.setLevel(Level.WARN);
+        AtomicInteger evaluations = new AtomicInteger();
+
+        EventBuilder builder = log.atDebug();
+        builder.kf("count", evaluations::incrementAndGet).log("Test");
+
+        assertThat(builder, is(sameInstance(log.atInfo())));
+        assertThat(evaluations.get(), equalTo(0));
+        assertThat(testAppender.getLastEvent(), is(nullValue()));
+    }
+
+    @Test
+    public void testMarkerAndCauseAreAttached() {
+        Marker audit = MarkerFactory.getMarker("AUDIT");
+        IllegalStateException cause = new IllegalStateException("broken");
+
+        log.atError().marker(audit).cause(cause).kv("attempt", 3).log("Failed");
+
+        ILoggingEvent lastEvent = testAppender.getLastEvent();
+        assertThat(lastEvent.getMarker(), is(audit));
+        assertThat(lastEvent.getThrowableProxy().getMessage(), equalTo("broken"));
+        assertThat(lastEvent.getArgumentArray()[0].toString(), equalTo("attempt=3"));
+    }
+
+    @Test
+    public void testEventLoggedWhileEmittingGetsItsOwnBuilder() {
+        log.atWarn()
+                .kv("outer", 1)
+                .kf("inner", () -> {
+                    log.atInfo().kv("nested", true).log("Nested");
+                    return "evaluated";
+                })
+                .log("Outer");
+
+        ILoggingEvent outer = testAppender.getLastEvent();
+        ILoggingEvent nested = testAppender.getLastEvent();
+        assertThat(outer.getMessage(), equalTo("Outer"));
+        assertThat(outer.getArgumentArray()[1].toString(), equalTo("inner=evaluated"));
+        assertThat(nested.getMessage(), equalTo("Nested"));
+        assertThat(nested.getArgumentArray()[0].toString(), equalTo("nested=true"));
+    }
+
+    @Test
+    public void testEventLoggedByArgumentExpressionGetsItsOwnBuilder() {
+        log.atWarn()
+                .kv("outer", 1)
+                .kv("result", call())
+                .log("Outer");
+
+        ILoggingEvent outer = testAppender.getLastEvent();
+        ILoggingEvent nested = testAppender.getLastEvent();
+        assertThat(outer, is(notNullValue()));
+        assertThat(outer.getMessage(), equalTo("Outer"));
+        assertThat(outer.getArgumentArray().length, equalTo(2));
+        assertThat(outer.getArgumentArray()[1].toString(), equalTo("result=called"));
+        assertThat(nested.getMessage(), equalTo("Called"));
+    }
+
+    private String call() {
+        log.atInfo().kv("nested", true).log("Called");
+        return "called";
+    }
+}
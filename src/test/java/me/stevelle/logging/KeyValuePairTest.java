@@ -0,0 +1,71 @@
+package me.stevelle.logging;
+
+import net.logstash.logback.argument.StructuredArgument;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static me.stevelle.logging.KeyValuePair.kfp;
+import static me.stevelle.logging.KeyValuePair.kvp;
+import static me.stevelle.logging.KeyValuePair.rendered;
+import static me.stevelle.logging.LoggableTest.json;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class KeyValuePairTest {
+
+    @Test
+    public void testPrimitivePairsWriteUnboxedValues() throws IOException {
+        assertThat(json(structured(kvp("status", 503))), equalTo("{\"status\":503}"));
+        assertThat(json(structured(kvp("bytes", 4294967296L))), equalTo("{\"bytes\":4294967296}"));
+        assertThat(json(structured(kvp("ratio", 1.1f))), equalTo("{\"ratio\":1.1}"));
+        assertThat(json(structured(kvp("latency", 0.25))), equalTo("{\"latency\":0.25}"));
+        assertThat(json(structured(kvp("cached", true))), equalTo("{\"cached\":true}"));
+    }
+
+    @Test
+    public void testPrimitivePairsFormatAsKeyValue() {
+        assertThat(kvp("status", 503).toString(), equalTo("status=503"));
+        assertThat(kvp("latency", 0.25).toString(), equalTo("latency=0.25"));
+        assertThat(kvp("cached", false).toString(), equalTo("cached=false"));
+    }
+
+    @Test
+    public void testPrimitivePairsBoxTheirValueOnlyWhenAsked() {
+        assertThat(kvp("status", 503).value, is(nullValue()));
+        assertThat(kvp("status", 503).getValue(), equalTo(503));
+        assertThat(kvp("bytes", 4294967296L).getValue(), equalTo(4294967296L));
+        assertThat(kvp("ratio", 1.1f).getValue(), equalTo(1.1f));
+        assertThat(kvp("latency", 0.25).getValue(), equalTo(0.25));
+        assertThat(kvp("cached", true).getValue(), equalTo(true));
+        assertThat(kvp("grade", 'A').getValue(), equalTo('A'));
+    }
+
+    @Test
+    public void testCharAndBoxedValuesKeepObjectPairs() {
+        KeyValuePair<Character> grade = kvp("grade", 'A');
+        KeyValuePair<Integer> boxed = kvp("status", Integer.valueOf(503));
+
+        assertThat(grade, is(not(instanceOf(StructuredArgument.class))));
+        assertThat(grade.value, equalTo('A'));
+        assertThat(boxed.value, equalTo(503));
+    }
+
+    @Test
+    public void testRenderedPairsWriteTheGroupVerbatim() throws IOException {
+        KeyValuePair<Void> service = rendered(kvp("service", "orders"), kvp("region", "us-west-2"),
+                kvp("build", 42), kfp("version", () -> "1.4.0"));
+
+        assertThat(json(structured(service)),
+                equalTo("{\"service\":\"orders\",\"region\":\"us-west-2\",\"build\":42,\"version\":\"1.4.0\"}"));
+        assertThat(service.toString(), equalTo("service=orders, region=us-west-2, build=42, version=1.4.0"));
+    }
+
+    private static StructuredArgument structured(KeyValuePair<?> pair) {
+        return (StructuredArgument) pair;
+    }
+}
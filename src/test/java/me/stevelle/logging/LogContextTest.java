@@ -0,0 +1,105 @@
+package me.stevelle.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import me.stevelle.logging.testSupport.TestAppender;
+import net.logstash.logback.argument.StructuredArgument;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static me.stevelle.logging.KeyValuePair.kfp;
+import static me.stevelle.logging.KeyValuePair.kvp;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+public class LogContextTest {
+
+    private static TestAppender testAppender;
+    private static ch.qos.logback.classic.Logger innerLogger;
+    private Logger log;
+
+    @BeforeClass
+    public static void setupLogsForTesting() {
+        innerLogger = (ch.qos.logback.classic.Logger) org.slf4j.LoggerFactory.getLogger(ch.qos.logback.classic.Logger.ROOT_LOGGER_NAME);
+        testAppender = (TestAppender) innerLogger.getAppender("TEST");
+    }
+
+    @Before
+    public void resetLogger() {
+        innerLogger.setLevel(Level.TRACE);
+        testAppender.clear();
+        log = LoggerFactory.getLogger(LogContextTest.class);
+    }
+
+    @Test
+    public void testContextIsAddedAsLastArgument() throws IOException {
+        try (LogContext.Scope scope = LogContext.with(kvp("request", "r-1"), kvp("attempt", 2))) {
+            log.info("Handling {}", kvp("status", 200));
+        }
+
+        ILoggingEvent lastEvent = testAppender.getLastEvent();
+        Object[] args = lastEvent.getArgumentArray();
+        assertThat(lastEvent.getFormattedMessage(), equalTo("Handling status=200"));
+        assertThat(args.length, equalTo(2));
+        assertThat(args[1].toString(), equalTo("request=r-1, attempt=2"));
+        assertThat(LoggableTest.json((StructuredArgument) args[1]), equalTo("{\"request\":\"r-1\",\"attempt\":2}"));
+    }
+
+    @Test
+    public void testNestedScopesAreWrittenOuterFirstAndClosedInTurn() {
+        try (LogContext.Scope outer = LogContext.with(kvp("request", "r-1"))) {
+            try (LogContext.Scope inner = LogContext.with(kvp("step", "parse"))) {
+                log.info("Inner");
+            }
+            log.info("Outer");
+        }
+        log.info("None");
+
+        assertThat(testAppender.getLastEvent().getArgumentArray(), is(nullValue()));
+        assertThat(testAppender.getLastEvent().getArgumentArray()[0].toString(), equalTo("request=r-1"));
+        assertThat(testAppender.getLastEvent().getArgumentArray()[0].toString(), equalTo("request=r-1, step=parse"));
+    }
+
+    @Test
+    public void testClosingOuterScopeClosesInnerScopes() {
+        LogContext.Scope outer = LogContext.with(kvp("request", "r-1"));
+        LogContext.Scope inner = LogContext.with(kvp("step", "parse"));
+
+        outer.close();
+        inner.close();
+        log.info("None");
+
+        assertThat(testAppender.getLastEvent().getArgumentArray(), is(nullValue()));
+    }
+
+    @Test
+    public void testFunctionalPairsAreEvaluatedForEachEnabledEvent() {
+        AtomicInteger evaluations = new AtomicInteger();
+        try (LogContext.Scope scope = LogContext.with(kfp("count", evaluations::incrementAndGet))) {
+            log.info("First");
+            log.info("Second");
+            innerLogger.setLevel(Level.INFO);
+            log.debug("Disabled");
+        }
+
+        assertThat(evaluations.get(), equalTo(2));
+        assertThat(testAppender.getLastEvent().getArgumentArray()[0].toString(), equalTo("count=2"));
+        assertThat(testAppender.getLastEvent().getArgumentArray()[0].toString(), equalTo("count=1"));
+    }
+
+    @Test
+    public void testExceptionRemainsLastArgument() {
+        IllegalStateException cause = new IllegalStateException("broken");
+        try (LogContext.Scope scope = LogContext.with(kvp("request", "r-1"))) {
+            log.error("Failed", cause);
+        }
+
+        ILoggingEvent lastEvent = testAppender.getLastEvent();
+        assertThat(lastEvent.getThrowableProxy().getMessage(), equalTo("broken"));
+        assertThat(lastEvent.getArgumentArray()[0].toString(), equalTo("request=r-1"));
+    }
+}
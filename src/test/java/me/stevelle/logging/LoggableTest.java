@@ -0,0 +1,121 @@
+package me.stevelle.logging;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.stevelle.logging.testSupport.Coordinate;
+import net.logstash.logback.argument.StructuredArgument;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.logstash.logback.argument.StructuredArguments.fields;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class LoggableTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void testDefaultRepresentationMatchesJacksonFields() throws IOException {
+        Coordinate point = new Coordinate(1.0, 2.2, "home");
+
+        assertThat(tree(point.log()), equalTo(tree(fields(point))));
+        assertThat(tree(point.log()), equalTo(MAPPER.readTree(
+                "{\"x\":1.0,\"y\":2.2,\"label\":\"home\",\"origin\":false,\"url\":\"geo:1.0,2.2\"}")));
+    }
+
+    @Test
+    public void testDefaultRepresentationToString() {
+        Coordinate point = new Coordinate(0.0, 0.0, "origin");
+
+        assertThat(point.log().toString(), equalTo("Coordinate{origin}"));
+    }
+
+    @Test
+    public void testBuilderPreservesInsertionOrder() throws IOException {
+        StructuredArgument built = new Loggable.Builder()
+                .with("title", "one")
+                .with("year", 1999)
+                .with("author", "Alice")
+                .build();
+
+        assertThat(json(built), equalTo("{\"title\":\"one\",\"year\":1999,\"author\":\"Alice\"}"));
+        assertThat(built.toString(), equalTo("{title=one, year=1999, author=Alice}"));
+    }
+
+    @Test
+    public void testBuilderDuplicateKeyReplacesValueInPlace() throws IOException {
+        StructuredArgument built = new Loggable.Builder(2)
+                .with("title", "one")
+                .with("year", 1999)
+                .with("title", "two")
+                .build();
+
+        assertThat(json(built), equalTo("{\"title\":\"two\",\"year\":1999}"));
+    }
+
+    @Test
+    public void testBuilderReusedAfterBuildDoesNotChangeEarlierRepresentation() throws IOException {
+        Loggable.Builder builder = new Loggable.Builder().with("title", "one");
+        StructuredArgument first = builder.build();
+        StructuredArgument second = builder.with("title", "two").with("year", 2000).build();
+
+        assertThat(json(first), equalTo("{\"title\":\"one\"}"));
+        assertThat(json(second), equalTo("{\"title\":\"two\",\"year\":2000}"));
+    }
+
+    @Test
+    public void testCachedLoggableIsRenderedOnce() throws IOException {
+        AtomicInteger builds = new AtomicInteger();
+        CachedLoggable tenant = new CachedLoggable() {
+            @Override
+            public Builder logFormat() {
+                builds.incrementAndGet();
+                return new Loggable.Builder().with("tenant", "acme").with("region", "us-west-2");
+            }
+        };
+
+        assertThat(json(tenant.log()), equalTo("{\"tenant\":\"acme\",\"region\":\"us-west-2\"}"));
+        assertThat(json(tenant.log()), equalTo(json(tenant.logUncached())));
+        assertThat(tenant.log().toString(), equalTo("{tenant=acme, region=us-west-2}"));
+        assertThat(builds.get(), equalTo(2));
+    }
+
+    @Test
+    public void testRenderedFragmentKeepsSurroundingFieldsSeparated() throws IOException {
+        StructuredArgument fragment = JsonFragment.of(new Loggable.Builder()
+                .with("title", "one")
+                .with("tags", new String[] {"a", "b"})
+                .build());
+
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = MAPPER.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("before", "x");
+            fragment.writeTo(generator);
+            generator.writeStringField("after", "y");
+            generator.writeEndObject();
+        }
+
+        assertThat(out.toString(),
+                equalTo("{\"before\":\"x\",\"title\":\"one\",\"tags\":[\"a\",\"b\"],\"after\":\"y\"}"));
+    }
+
+    static JsonNode tree(StructuredArgument argument) throws IOException {
+        return MAPPER.readTree(json(argument));
+    }
+
+    static String json(StructuredArgument argument) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = MAPPER.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            argument.writeTo(generator);
+            generator.writeEndObject();
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,37 @@
+package me.stevelle.logging;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class LoggerFactoryTest {
+
+    @Test
+    public void testRepeatedLookupByNameReturnsSameLogger() {
+        Logger first = LoggerFactory.getLogger("me.stevelle.logging.repeated");
+        Logger second = LoggerFactory.getLogger("me.stevelle.logging.repeated");
+
+        assertThat(second, sameInstance(first));
+    }
+
+    @Test
+    public void testLookupByClassMatchesLookupByName() {
+        Logger byClass = LoggerFactory.getLogger(LoggerFactoryTest.class);
+        Logger byName = LoggerFactory.getLogger(LoggerFactoryTest.class.getName());
+
+        assertThat(byName, sameInstance(byClass));
+        assertThat(byClass.getName(), equalTo(LoggerFactoryTest.class.getName()));
+    }
+
+    @Test
+    public void testDistinctNamesReturnDistinctLoggers() {
+        Logger one = LoggerFactory.getLogger("me.stevelle.logging.one");
+        Logger two = LoggerFactory.getLogger("me.stevelle.logging.two");
+
+        assertThat(one, not(sameInstance(two)));
+        assertThat(two.getName(), equalTo("me.stevelle.logging.two"));
+    }
+}
@@ -9,9 +9,15 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static me.stevelle.logging.KeyValuePair.*;
 import static me.stevelle.logging.KeyValuePair.kvp;
@@ -113,7 +119,7 @@ public class LoggerTest {
         ILoggingEvent lastEvent = testAppender.getLastEvent();
         assertThat(lastEvent, is(notNullValue()));
         assertThat("Test: {}", equalTo(lastEvent.getMessage()));
-        assertThat("Test: {year=1999, title=one}", equalTo(lastEvent.getFormattedMessage()));
+        assertThat("Test: {title=one, year=1999}", equalTo(lastEvent.getFormattedMessage()));
         assertThat(lastEvent.getArgumentArray().length, equalTo(1));
         assertThat(firstArgOf(lastEvent).toString(),
                 allOf(containsString("year=1999"), containsString("title=one"),
@@ -248,7 +254,7 @@ public class LoggerTest {
         assertThat(lastEvent.getFormattedMessage(), equalTo("Test"));
         assertThat(1, equalTo(lastEvent.getArgumentArray().length));
         assertThat(firstArgOf(lastEvent).toString(),
-                containsString("baz=[[Foo Bar]]"));
+                containsString("baz=[Foo Bar]"));
     }
 
     @Test
@@ -347,6 +353,21 @@ public class LoggerTest {
                         not(containsString("author"))));
     }
 
+    @Test
+    public void testErrorWithPrimitivePairs() {
+        log.error("Response {}", kvp("status", 503), kvp("bytes", 1024L),
+                kvp("latency", 0.25), kvp("retried", true));
+
+        ILoggingEvent lastEvent = testAppender.getLastEvent();
+        assertThat(lastEvent, is(notNullValue()));
+        assertThat(lastEvent.getFormattedMessage(), equalTo("Response status=503"));
+        Object[] args = lastEvent.getArgumentArray();
+        assertThat(args.length, equalTo(4));
+        assertThat(args[1].toString(), equalTo("bytes=1024"));
+        assertThat(args[2].toString(), equalTo("latency=0.25"));
+        assertThat(args[3].toString(), equalTo("retried=true"));
+    }
+
     @Test
     public void testWarnWithKeyFuncPair() {
         log.warn("Test", "destination", () -> "Unknown");
@@ -416,7 +437,7 @@ public class LoggerTest {
         ILoggingEvent lastEvent = testAppender.getLastEvent();
         assertThat(lastEvent, is(notNullValue()));
         assertThat("Test: {}", equalTo(lastEvent.getMessage()));
-        assertThat("Test: {year=1999, title=one}", equalTo(lastEvent.getFormattedMessage()));
+        assertThat("Test: {title=one, year=1999}", equalTo(lastEvent.getFormattedMessage()));
         assertThat(lastEvent.getArgumentArray().length, equalTo(1));
         assertThat(firstArgOf(lastEvent).toString(),
                 allOf(containsString("year=1999"), containsString("title=one"),
@@ -551,7 +572,7 @@ public class LoggerTest {
         assertThat(lastEvent.getFormattedMessage(), equalTo("Test"));
         assertThat(1, equalTo(lastEvent.getArgumentArray().length));
         assertThat(firstArgOf(lastEvent).toString(),
-                containsString("baz=[[Foo Bar]]"));
+                containsString("baz=[Foo Bar]"));
     }
 
     @Test
@@ -719,7 +740,7 @@ public class LoggerTest {
         ILoggingEvent lastEvent = testAppender.getLastEvent();
         assertThat(lastEvent, is(notNullValue()));
         assertThat("Test: {}", equalTo(lastEvent.getMessage()));
-        assertThat("Test: {year=1999, title=one}", equalTo(lastEvent.getFormattedMessage()));
+        assertThat("Test: {title=one, year=1999}", equalTo(lastEvent.getFormattedMessage()));
         assertThat(lastEvent.getArgumentArray().length, equalTo(1));
         assertThat(firstArgOf(lastEvent).toString(),
                 allOf(containsString("year=1999"), containsString("title=one"),
@@ -854,7 +875,7 @@ public class LoggerTest {
         assertThat(lastEvent.getFormattedMessage(), equalTo("Test"));
         assertThat(1, equalTo(lastEvent.getArgumentArray().length));
         assertThat(firstArgOf(lastEvent).toString(),
-                containsString("baz=[[Foo Bar]]"));
+                containsString("baz=[Foo Bar]"));
     }
 
     @Test
@@ -953,6 +974,35 @@ public class LoggerTest {
                         not(containsString("author"))));
     }
 
+    @Test
+    public void testInfoWithPrimitiveSuppliers() {
+        List<String> list = Arrays.asList("one", "two");
+        log.info("Updated List {}", "size", list::size);
+        assertThat(firstArgOf(testAppender.getLastEvent()).toString(), equalTo("size=2"));
+
+        log.info("Flushed {}", "bytes", () -> 4294967296L);
+        assertThat(firstArgOf(testAppender.getLastEvent()).toString(), equalTo("bytes=4294967296"));
+
+        log.info("Sampled {}", "load", () -> 0.75);
+        assertThat(firstArgOf(testAppender.getLastEvent()).toString(), equalTo("load=0.75"));
+
+        log.info("Checked {}", "empty", list::isEmpty);
+        ILoggingEvent lastEvent = testAppender.getLastEvent();
+        assertThat(lastEvent.getFormattedMessage(), equalTo("Checked empty=false"));
+        assertThat(lastEvent.getArgumentArray().length, equalTo(1));
+    }
+
+    @Test
+    public void testDisabledPrimitiveSupplierIsNotEvaluated() {
+        innerLogger.setLevel(Level.WARN);
+        AtomicInteger calls = new AtomicInteger();
+
+        log.info("Counted {}", "calls", calls::incrementAndGet);
+
+        assertThat(calls.get(), equalTo(0));
+        assertThat(testAppender.getLastEvent(), is(nullValue()));
+    }
+
     @Test
     public void testDebugWithKeyFuncPair() {
         log.debug("Test", "destination", () -> "Unknown");
@@ -1022,7 +1072,7 @@ public class LoggerTest {
         ILoggingEvent lastEvent = testAppender.getLastEvent();
         assertThat(lastEvent, is(notNullValue()));
         assertThat("Test: {}", equalTo(lastEvent.getMessage()));
-        assertThat("Test: {year=1999, title=one}", equalTo(lastEvent.getFormattedMessage()));
+        assertThat("Test: {title=one, year=1999}", equalTo(lastEvent.getFormattedMessage()));
         assertThat(lastEvent.getArgumentArray().length, equalTo(1));
         assertThat(firstArgOf(lastEvent).toString(),
                 allOf(containsString("year=1999"), containsString("title=one"),
@@ -1157,7 +1207,7 @@ public class LoggerTest {
         assertThat(lastEvent.getFormattedMessage(), equalTo("Test"));
         assertThat(1, equalTo(lastEvent.getArgumentArray().length));
         assertThat(firstArgOf(lastEvent).toString(),
-                containsString("baz=[[Foo Bar]]"));
+                containsString("baz=[Foo Bar]"));
     }
 
     @Test
@@ -1325,7 +1375,7 @@ public class LoggerTest {
         ILoggingEvent lastEvent = testAppender.getLastEvent();
         assertThat(lastEvent, is(notNullValue()));
         assertThat("Test: {}", equalTo(lastEvent.getMessage()));
-        assertThat("Test: {year=1999, title=one}", equalTo(lastEvent.getFormattedMessage()));
+        assertThat("Test: {title=one, year=1999}", equalTo(lastEvent.getFormattedMessage()));
         assertThat(lastEvent.getArgumentArray().length, equalTo(1));
         assertThat(firstArgOf(lastEvent).toString(),
                 allOf(containsString("year=1999"), containsString("title=one"),
@@ -1460,7 +1510,7 @@ public class LoggerTest {
         assertThat(lastEvent.getFormattedMessage(), equalTo("Test"));
         assertThat(1, equalTo(lastEvent.getArgumentArray().length));
         assertThat(firstArgOf(lastEvent).toString(),
-                containsString("baz=[[Foo Bar]]"));
+                containsString("baz=[Foo Bar]"));
     }
 
     @Test
@@ -1559,6 +1609,55 @@ public class LoggerTest {
                         not(containsString("author"))));
     }
     
+    @Test
+    public void testWarnWithMarkerAndKeyFuncPair() {
+        Marker audit = MarkerFactory.getMarker("AUDIT");
+        log.warn(audit, "Test", "destination", () -> "Unknown");
+
+        ILoggingEvent lastEvent = testAppender.getLastEvent();
+        assertThat(lastEvent, is(notNullValue()));
+        assertThat(lastEvent.getMarker(), is(audit));
+        assertThat(lastEvent.getMessage(), equalTo("Test"));
+        assertThat(1, equalTo(lastEvent.getArgumentArray().length));
+        assertThat(firstArgOf(lastEvent).toString(),
+                containsString("destination=Unknown"));
+    }
+
+    @Test
+    public void testDisabledMarkerCallDoesNotEvaluate() {
+        innerLogger.setLevel(Level.WARN);
+        AtomicInteger evaluations = new AtomicInteger();
+
+        log.info(MarkerFactory.getMarker("AUDIT"), "Test", "count", evaluations::incrementAndGet);
+        log.debug(MarkerFactory.getMarker("AUDIT"), "Test",
+                new KeyValuePair<?>[]{kfp("count", evaluations::incrementAndGet)});
+
+        assertThat(evaluations.get(), equalTo(0));
+        assertThat(testAppender.getLastEvent(), is(nullValue()));
+    }
+
+    @Test
+    public void testMemoizedPairIsEvaluatedOnceAcrossEvents() {
+        innerLogger.setLevel(Level.INFO);
+        AtomicInteger evaluations = new AtomicInteger();
+        KeyValuePair<Supplier<String>> summary = kmp("summary",
+                () -> "summary-" + evaluations.incrementAndGet());
+
+        log.debug("Received", new KeyValuePair<?>[]{summary});
+        assertThat(evaluations.get(), equalTo(0));
+
+        log.info("Routed", new KeyValuePair<?>[]{summary});
+        log.warn("Completed", summary, kvp("status", 200), kvp("attempt", 1));
+        log.error("Failed", "summary", summary.value);
+
+        assertThat(evaluations.get(), equalTo(1));
+        for (int x = 0; x < 3; x++) {
+            ILoggingEvent event = testAppender.getLastEvent();
+            assertThat(firstArgOf(event).toString(), equalTo("summary=summary-1"));
+        }
+        assertThat(testAppender.getLastEvent(), is(nullValue()));
+    }
+
     private Object firstArgOf(ILoggingEvent event) {
         return event.getArgumentArray()[0];
     }
@@ -0,0 +1,57 @@
+package me.stevelle.logging;
+
+import org.junit.Test;
+import org.slf4j.helpers.MessageFormatter;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class MessageTemplateTest {
+
+    private static final String[] PATTERNS = {
+            "", "Completed Request", "{}", "Completed Request {}", "Moved {} to {}", "{}{}{}",
+            "Literal \\{}", "Literal \\{} then {}", "Slot {} then literal \\{}",
+            "Backslash \\\\{} then slot", "Unclosed {", "Reversed }{"
+    };
+
+    private static final Object[][] ARGUMENTS = {
+            {"one"}, {"one", 2}, {"one", 2, null}, {"one", 2, null, 4.0}
+    };
+
+    @Test
+    public void testRenderingMatchesMessageFormatter() {
+        for (String pattern : PATTERNS) {
+            MessageTemplate template = MessageTemplate.compile(pattern);
+            for (Object[] arguments : ARGUMENTS) {
+                if (!template.canRender(arguments)) {
+                    continue;
+                }
+                StringBuilder rendered = new StringBuilder();
+                template.appendTo(rendered, arguments);
+
+                assertThat(pattern, rendered.toString(),
+                        equalTo(MessageFormatter.arrayFormat(pattern, arguments).getMessage()));
+            }
+        }
+    }
+
+    @Test
+    public void testTooFewOrArrayArgumentsAreNotRendered() {
+        MessageTemplate template = MessageTemplate.compile("Moved {} to {}");
+
+        assertThat(template.slots(), equalTo(2));
+        assertThat(template.canRender(new Object[]{"one"}), is(false));
+        assertThat(template.canRender(new Object[]{"one", new int[]{2}}), is(false));
+        assertThat(template.canRender(new Object[]{"one", 2}), is(true));
+    }
+
+    @Test
+    public void testCacheReturnsCompiledTemplateForSameFormat() {
+        MessageTemplate.Cache cache = new MessageTemplate.Cache(4);
+        String format = "Completed Request {}";
+
+        assertThat(cache.get(format), sameInstance(cache.get(format)));
+    }
+}
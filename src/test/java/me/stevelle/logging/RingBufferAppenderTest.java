@@ -0,0 +1,156 @@
+package me.stevelle.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import me.stevelle.logging.testSupport.TestAppender;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static me.stevelle.logging.KeyValuePair.kvp;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class RingBufferAppenderTest {
+
+    private static final int THREADS = 4;
+    private static final int EVENTS_PER_THREAD = 2000;
+
+    private ch.qos.logback.classic.Logger innerLogger;
+    private TestAppender sink;
+    private RingBufferAppender ring;
+
+    @Before
+    public void attachRing() {
+        LoggerContext context = (LoggerContext) org.slf4j.LoggerFactory.getILoggerFactory();
+        sink = new TestAppender();
+        sink.setContext(context);
+        sink.setName("SINK");
+        sink.start();
+
+        ring = new RingBufferAppender();
+        ring.setContext(context);
+        ring.setName("RING");
+        ring.setBufferSize(100);
+        ring.setBatchSize(16);
+        ring.setWaitStrategy(RingBufferAppender.WaitStrategy.YIELD);
+        ring.addAppender(sink);
+
+        innerLogger = context.getLogger("me.stevelle.logging.ring");
+        innerLogger.setAdditive(false);
+        innerLogger.setLevel(Level.INFO);
+        innerLogger.addAppender(ring);
+    }
+
+    @After
+    public void detachRing() {
+        innerLogger.detachAndStopAllAppenders();
+        innerLogger.setAdditive(true);
+    }
+
+    @Test
+    public void testRingStartsWithAttachedAppender() {
+        ring.start();
+
+        assertThat(ring.isStarted(), is(true));
+        assertThat(ring.getQueueSize(), equalTo(0));
+    }
+
+    @Test
+    public void testRingWithoutAppenderDoesNotStart() {
+        RingBufferAppender empty = new RingBufferAppender();
+        empty.setContext(innerLogger.getLoggerContext());
+        empty.start();
+
+        assertThat(empty.isStarted(), is(false));
+    }
+
+    @Test
+    public void testRingIsNotRestartedWhileTheLastWorkerIsDraining() throws InterruptedException {
+        CountDownLatch appending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TestAppender blocked = new TestAppender() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                appending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.append(event);
+            }
+        };
+        blocked.setContext(innerLogger.getLoggerContext());
+        blocked.start();
+        innerLogger.detachAndStopAllAppenders();
+        ring = new RingBufferAppender();
+        ring.setContext(innerLogger.getLoggerContext());
+        ring.setMaxFlushTime(10);
+        ring.addAppender(blocked);
+        innerLogger.addAppender(ring);
+        ring.start();
+
+        LoggerFactory.getLogger("me.stevelle.logging.ring").info("Test");
+        appending.await(5, TimeUnit.SECONDS);
+        ring.stop();
+        ring.start();
+        assertThat(ring.isStarted(), is(false));
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!ring.isStarted() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            ring.start();
+        }
+        assertThat(ring.isStarted(), is(true));
+        assertThat(blocked.getLastEvent().getMessage(), equalTo("Test"));
+    }
+
+    @Test
+    public void testEventsFromManyThreadsAreAllAppendedInOrderPerThread() throws InterruptedException {
+        ring.start();
+        Logger log = LoggerFactory.getLogger("me.stevelle.logging.ring");
+        CountDownLatch ready = new CountDownLatch(1);
+        Thread[] producers = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            String producer = "producer-" + t;
+            producers[t] = new Thread(() -> {
+                try {
+                    ready.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int x = 0; x < EVENTS_PER_THREAD; x++) {
+                    log.info("Event {}", kvp("sequence", x));
+                }
+            }, producer);
+            producers[t].start();
+        }
+        ready.countDown();
+        for (Thread producer : producers) {
+            producer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        ring.stop();
+
+        // the sink is a stack, so each thread's events come back newest first
+        Map<String, Integer> expected = new HashMap<>();
+        int total = 0;
+        for (ILoggingEvent event = sink.getLastEvent(); null != event; event = sink.getLastEvent()) {
+            int next = expected.getOrDefault(event.getThreadName(), EVENTS_PER_THREAD - 1);
+            assertThat(event.getArgumentArray()[0].toString(), equalTo("sequence=" + next));
+            expected.put(event.getThreadName(), next - 1);
+            total++;
+        }
+        assertThat(total, equalTo(THREADS * EVENTS_PER_THREAD));
+        assertThat(ring.getDiscardedCount(), equalTo(0L));
+    }
+}
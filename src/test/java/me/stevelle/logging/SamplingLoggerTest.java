@@ -0,0 +1,72 @@
+package me.stevelle.logging;
+
+import ch.qos.logback.classic.Level;
+import me.stevelle.logging.testSupport.TestAppender;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static me.stevelle.logging.KeyValuePair.kfp;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class SamplingLoggerTest {
+
+    private static TestAppender testAppender;
+    private static ch.qos.logback.classic.Logger innerLogger;
+
+    @BeforeClass
+    public static void setupLogsForTesting() {
+        innerLogger = (ch.qos.logback.classic.Logger) org.slf4j.LoggerFactory.getLogger(ch.qos.logback.classic.Logger.ROOT_LOGGER_NAME);
+        testAppender = (TestAppender) innerLogger.getAppender("TEST");
+    }
+
+    @Before
+    public void resetLogger() {
+        innerLogger.setLevel(Level.TRACE);
+        testAppender.clear();
+    }
+
+    @Test
+    public void testOneInNEvaluatesOnlySampledCalls() {
+        Logger log = new SamplingLogger(LoggerFactory.getLogger(SamplingLoggerTest.class), Sampler.oneIn(3));
+        AtomicInteger evaluations = new AtomicInteger();
+
+        for (int x = 0; x < 9; x++) {
+            log.debug("Test", "count", evaluations::incrementAndGet);
+        }
+
+        assertThat(evaluations.get(), equalTo(3));
+        assertThat(testAppender.drainCount(), equalTo(3));
+    }
+
+    @Test
+    public void testLevelsAboveHighestAreNotSampled() {
+        Logger log = new SamplingLogger(LoggerFactory.getLogger(SamplingLoggerTest.class),
+                org.slf4j.event.Level.DEBUG, Sampler.withProbability(0.0));
+
+        for (int x = 0; x < 5; x++) {
+            log.debug("Test", kfp("count", () -> 1));
+            log.info("Test {}", x);
+        }
+
+        assertThat(testAppender.drainCount(), equalTo(5));
+    }
+
+    @Test
+    public void testDisabledCallsDoNotSpendPermits() {
+        Logger log = new SamplingLogger(LoggerFactory.getLogger(SamplingLoggerTest.class), Sampler.perSecond(2));
+        innerLogger.setLevel(Level.INFO);
+
+        for (int x = 0; x < 10; x++) {
+            log.debug("Test", "count", () -> 1);
+        }
+        for (int x = 0; x < 10; x++) {
+            log.info("Test", "count", () -> 1);
+        }
+
+        assertThat(testAppender.drainCount(), equalTo(2));
+    }
+}
@@ -0,0 +1,108 @@
+package me.stevelle.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import me.stevelle.logging.testSupport.Book;
+import me.stevelle.logging.testSupport.TestAppender;
+import net.logstash.logback.argument.StructuredArgument;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+public class StreamedArrayTest {
+
+    private static TestAppender testAppender;
+    private static ch.qos.logback.classic.Logger innerLogger;
+    private Logger log;
+
+    @BeforeClass
+    public static void setupLogsForTesting() {
+        innerLogger = (ch.qos.logback.classic.Logger) org.slf4j.LoggerFactory.getLogger(ch.qos.logback.classic.Logger.ROOT_LOGGER_NAME);
+        testAppender = (TestAppender) innerLogger.getAppender("TEST");
+    }
+
+    @Before
+    public void resetLogger() {
+        innerLogger.setLevel(Level.TRACE);
+        testAppender.clear();
+        log = LoggerFactory.getLogger(StreamedArrayTest.class);
+    }
+
+    @Test
+    public void testPrimitiveArraysAreWrittenAsJsonArrays() throws IOException {
+        EncodingLimits limits = EncodingLimits.defaults();
+
+        assertThat(LoggableTest.json(StreamedArray.of("ids", new int[]{1, 2, 3}, limits)),
+                equalTo("{\"ids\":[1,2,3]}"));
+        assertThat(LoggableTest.json(StreamedArray.of("ids", new long[]{4L}, limits)),
+                equalTo("{\"ids\":[4]}"));
+        assertThat(LoggableTest.json(StreamedArray.of("ratios", new double[]{0.5}, limits)),
+                equalTo("{\"ratios\":[0.5]}"));
+    }
+
+    @Test
+    public void testLoggableElementsUseTheirRepresentation() throws IOException {
+        StructuredArgument books = StreamedArray.of("books",
+                Collections.singletonList(new Book("Logging", null, 2018)), EncodingLimits.defaults());
+
+        assertThat(LoggableTest.json(books), equalTo("{\"books\":[{\"title\":\"Logging\",\"year\":2018}]}"));
+    }
+
+    @Test
+    public void testElementsBeyondTheCapAreCounted() throws IOException {
+        EncodingLimits limits = EncodingLimits.defaults().withMaxElements(2);
+
+        assertThat(LoggableTest.json(StreamedArray.of("ids", new int[]{1, 2, 3, 4}, limits)),
+                equalTo("{\"ids\":[1,2,\"...(2 more)\"]}"));
+        assertThat(StreamedArray.of("ids", Arrays.asList("a", "b", "c"), limits).toString(),
+                equalTo("ids=[a, b, ...(1 more)]"));
+    }
+
+    @Test
+    public void testStreamIsConsumedOnlyUpToTheCap() throws IOException {
+        AtomicInteger consumed = new AtomicInteger();
+        EncodingLimits limits = EncodingLimits.defaults().withMaxElements(3);
+
+        StructuredArgument ids = StreamedArray.of("ids",
+                IntStream.iterate(0, x -> x + 1).peek(x -> consumed.incrementAndGet()), limits);
+
+        assertThat(consumed.get(), equalTo(4));
+        assertThat(LoggableTest.json(ids), equalTo("{\"ids\":[0,1,2,\"...(more)\"]}"));
+        assertThat(LoggableTest.json(ids), equalTo("{\"ids\":[0,1,2,\"...(more)\"]}"));
+    }
+
+    @Test
+    public void testLoggedStreamIsStructuredAsArray() throws IOException {
+        log.info("Test", "names", () -> Stream.of("Foo", "Bar"));
+
+        ILoggingEvent lastEvent = testAppender.getLastEvent();
+        Object[] args = lastEvent.getArgumentArray();
+        assertThat(args.length, equalTo(1));
+        assertThat(args[0].toString(), equalTo("names=[Foo, Bar]"));
+        assertThat(LoggableTest.json((StructuredArgument) args[0]), equalTo("{\"names\":[\"Foo\",\"Bar\"]}"));
+    }
+
+    @Test
+    public void testOtherIterablesAreLoggedAsValues() throws IOException {
+        Path path = Paths.get("/var/log/app.log");
+
+        log.info("Test", "path", () -> path);
+
+        StructuredArgument arg = (StructuredArgument) testAppender.getLastEvent().getArgumentArray()[0];
+        assertThat(StreamedArray.accepts(path), is(false));
+        assertThat(arg.toString(), equalTo("path=" + path));
+        assertThat(LoggableTest.tree(arg).get("path").isTextual(), is(true));
+    }
+}
@@ -0,0 +1,132 @@
+package me.stevelle.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.stevelle.logging.testSupport.Book;
+import me.stevelle.logging.testSupport.TestAppender;
+import net.logstash.logback.argument.StructuredArgument;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static me.stevelle.logging.KeyValuePair.kfp;
+import static me.stevelle.logging.KeyValuePair.kvp;
+import static net.logstash.logback.argument.StructuredArguments.kv;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+public class StreamingJsonEncoderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static TestAppender testAppender;
+    private static ch.qos.logback.classic.Logger innerLogger;
+    private Logger log;
+    private StreamingJsonEncoder encoder;
+
+    @BeforeClass
+    public static void setupLogsForTesting() {
+        innerLogger = (ch.qos.logback.classic.Logger) org.slf4j.LoggerFactory.getLogger(ch.qos.logback.classic.Logger.ROOT_LOGGER_NAME);
+        testAppender = (TestAppender) innerLogger.getAppender("TEST");
+    }
+
+    @Before
+    public void resetLogger() {
+        innerLogger.setLevel(Level.TRACE);
+        testAppender.clear();
+        log = LoggerFactory.getRecordingLogger(StreamingJsonEncoderTest.class);
+        encoder = new StreamingJsonEncoder();
+        encoder.setTimeZone("UTC");
+        encoder.start();
+    }
+
+    @Test
+    public void testPairsAreRecordedAsOneArgument() throws IOException {
+        log.info("Request {}", kvp("region", "us-west-2"), kvp("status", 200), kvp("latency", 0.5),
+                kfp("cached", () -> false));
+
+        ILoggingEvent lastEvent = testAppender.getLastEvent();
+        assertThat(lastEvent.getArgumentArray().length, equalTo(1));
+        assertThat(lastEvent.getFormattedMessage(),
+                equalTo("Request region=us-west-2, status=200, latency=0.5, cached=false"));
+        assertThat(LoggableTest.tree((StructuredArgument) lastEvent.getArgumentArray()[0]), equalTo(MAPPER.readTree(
+                "{\"region\":\"us-west-2\",\"status\":200,\"latency\":0.5,\"cached\":false}")));
+    }
+
+    @Test
+    public void testBuiltEventFieldsAreRecordedAsOneArgument() throws IOException {
+        log.atInfo().kv("region", "us-west-2").kv("status", 200).kf("cached", () -> false)
+                .log("Request {}");
+
+        ILoggingEvent lastEvent = testAppender.getLastEvent();
+        assertThat(lastEvent.getArgumentArray().length, equalTo(1));
+        assertThat(lastEvent.getFormattedMessage(), equalTo("Request region=us-west-2, status=200, cached=false"));
+        assertThat(LoggableTest.tree((StructuredArgument) lastEvent.getArgumentArray()[0]), equalTo(MAPPER.readTree(
+                "{\"region\":\"us-west-2\",\"status\":200,\"cached\":false}")));
+    }
+
+    @Test
+    public void testRecordedMapMatchesStructuredEntries() throws IOException {
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        arguments.put("shelf", "A");
+        arguments.put("book", new Book("one", new String[][]{{"First", "Author"}}, 1999));
+        arguments.put("tags", new String[]{"a", "b"});
+
+        log.warn("Test", arguments);
+
+        ILoggingEvent lastEvent = testAppender.getLastEvent();
+        JsonNode recorded = LoggableTest.tree((StructuredArgument) lastEvent.getArgumentArray()[0]);
+        assertThat(recorded.get("shelf").asText(), equalTo("A"));
+        assertThat(recorded.get("title").asText(), equalTo("one"));
+        assertThat(recorded.get("tags").size(), equalTo(2));
+        assertThat(recorded.get("year").asInt(), equalTo(1999));
+    }
+
+    @Test
+    public void testEncodedEventHasStandardAndArgumentFields() throws IOException {
+        log.error("Failed {}", kvp("attempts", 3), kvp("host", "db-1"));
+        org.slf4j.LoggerFactory.getLogger(StreamingJsonEncoderTest.class)
+                .error("Plain {}", kv("attempts", 4));
+
+        JsonNode plain = MAPPER.readTree(encoder.encode(testAppender.getLastEvent()));
+        JsonNode recorded = MAPPER.readTree(encoder.encode(testAppender.getLastEvent()));
+
+        assertThat(recorded.get("message").asText(), equalTo("Failed attempts=3, host=db-1"));
+        assertThat(recorded.get("logger_name").asText(), equalTo(StreamingJsonEncoderTest.class.getName()));
+        assertThat(recorded.get("level").asText(), equalTo("ERROR"));
+        assertThat(recorded.get("level_value").asInt(), equalTo(40000));
+        assertThat(recorded.get("@timestamp").asText(), endsWith("Z"));
+        assertThat(recorded.get("attempts").asInt(), equalTo(3));
+        assertThat(recorded.get("host").asText(), equalTo("db-1"));
+        assertThat(plain.get("attempts").asInt(), equalTo(4));
+    }
+
+    @Test
+    public void testMessageCanBeLeftOut() throws IOException {
+        encoder.setIncludeMessage(false);
+        log.info("Request {}", kvp("status", 200), kvp("cached", true));
+
+        JsonNode recorded = MAPPER.readTree(encoder.encode(testAppender.getLastEvent()));
+
+        assertThat(recorded.has("message"), is(false));
+        assertThat(recorded.get("status").asInt(), equalTo(200));
+    }
+
+    @Test
+    public void testArgumentsBeyondMaxEventBytesAreLeftOut() throws IOException {
+        encoder.setMaxEventBytes(1);
+        log.info("Request {}", kvp("status", 200), kvp("cached", true));
+
+        JsonNode recorded = MAPPER.readTree(encoder.encode(testAppender.getLastEvent()));
+
+        assertThat(recorded.get("message").asText(), equalTo("Request status=200, cached=true"));
+        assertThat(recorded.has("status"), is(false));
+        assertThat(recorded.get(EncodingLimits.TRUNCATED_KEY).asBoolean(), is(true));
+    }
+}
@@ -0,0 +1,153 @@
+package me.stevelle.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import me.stevelle.logging.testSupport.Book;
+import me.stevelle.logging.testSupport.TestAppender;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.MarkerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static me.stevelle.logging.KeyValuePair.kvp;
+import static net.logstash.logback.argument.StructuredArguments.kv;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+public class SuppressingLoggerTest {
+
+    private static TestAppender testAppender;
+    private static ch.qos.logback.classic.Logger innerLogger;
+
+    @BeforeClass
+    public static void setupLogsForTesting() {
+        innerLogger = (ch.qos.logback.classic.Logger) org.slf4j.LoggerFactory.getLogger(ch.qos.logback.classic.Logger.ROOT_LOGGER_NAME);
+        testAppender = (TestAppender) innerLogger.getAppender("TEST");
+    }
+
+    @Before
+    public void resetLogger() {
+        innerLogger.setLevel(Level.TRACE);
+        testAppender.clear();
+    }
+
+    @Test
+    public void testRepeatsAreCountedOnTheNextEventAfterTheWindow() throws InterruptedException {
+        Logger log = new SuppressingLogger(LoggerFactory.getLogger(SuppressingLoggerTest.class),
+                50, TimeUnit.MILLISECONDS, 16);
+        AtomicInteger evaluations = new AtomicInteger();
+
+        for (int x = 0; x < 5; x++) {
+            log.error("Call failed", "attempt", evaluations::incrementAndGet);
+        }
+        assertThat(evaluations.get(), equalTo(1));
+        assertThat(testAppender.drainCount(), equalTo(1));
+
+        Thread.sleep(60);
+        log.error("Call failed", "attempt", evaluations::incrementAndGet);
+
+        ILoggingEvent lastEvent = testAppender.getLastEvent();
+        assertThat(lastEvent, is(notNullValue()));
+        assertThat(lastEvent.getMarker().toString(), containsString(SuppressingLogger.REPEAT_COUNT + "=4"));
+        assertThat(lastEvent.getArgumentArray()[0].toString(), containsString("attempt=2"));
+    }
+
+    @Test
+    public void testBuiltEventsAreSuppressedBeforeTheirFieldsAreEvaluated() {
+        Logger log = new SuppressingLogger(LoggerFactory.getLogger(SuppressingLoggerTest.class),
+                1, TimeUnit.MINUTES, 16);
+        AtomicInteger evaluations = new AtomicInteger();
+
+        for (int x = 0; x < 3; x++) {
+            log.atWarn().kf("attempt", evaluations::incrementAndGet).log("Call failed");
+        }
+        log.atWarn().kv("endpoint", "/orders").log("Call failed");
+
+        assertThat(evaluations.get(), equalTo(1));
+        assertThat(testAppender.drainCount(), equalTo(2));
+    }
+
+    @Test
+    public void testOnlySameLevelAndKeysAreRepeats() {
+        Logger log = new SuppressingLogger(LoggerFactory.getLogger(SuppressingLoggerTest.class),
+                1, TimeUnit.MINUTES, 16);
+
+        log.warn("Call failed", kvp("endpoint", "/orders"));
+        log.warn("Call failed", kvp("endpoint", "/refunds"));
+        log.warn("Call failed", kvp("host", "orders-1"));
+        log.error("Call failed", kvp("host", "orders-1"));
+
+        assertThat(testAppender.drainCount(), equalTo(3));
+    }
+
+    @Test
+    public void testStructuredArgumentKeysTellKindsApart() {
+        Logger log = new SuppressingLogger(LoggerFactory.getLogger(SuppressingLoggerTest.class),
+                1, TimeUnit.MINUTES, 16);
+
+        log.warn("Call failed", kv("endpoint", "/orders"), kv("status", 500));
+        log.warn("Call failed", kv("endpoint", "/refunds"), kv("status", 503));
+        log.warn("Call failed", kv("host", "orders-1"), kv("status", 500));
+
+        assertThat(testAppender.drainCount(), equalTo(2));
+    }
+
+    @Test
+    public void testCollidingKeysAndMarkersTellKindsApart() {
+        Logger log = new SuppressingLogger(LoggerFactory.getLogger(SuppressingLoggerTest.class),
+                1, TimeUnit.MINUTES, 16);
+
+        // "Aa" and "BB" have the same hash code
+        log.warn("Call failed", "Aa", () -> "orders");
+        log.warn("Call failed", "BB", () -> "orders");
+        log.warn("Call failed");
+        log.warn(MarkerFactory.getMarker("AUDIT"), "Call failed");
+        log.warn(MarkerFactory.getMarker("AUDIT"), "Call failed");
+
+        assertThat(testAppender.drainCount(), equalTo(4));
+    }
+
+    @Test
+    public void testSameKeysAreRepeatsWhicheverMethodLogsThem() {
+        Logger log = new SuppressingLogger(LoggerFactory.getLogger(SuppressingLoggerTest.class),
+                1, TimeUnit.MINUTES, 16);
+        Book book = new Book("Logging", null, 2018);
+
+        log.info("Routed", "route", () -> "primary");
+        log.info("Routed", new KeyValuePair<?>[]{kvp("route", "primary")});
+        log.atInfo().kf("route", () -> "primary").log("Routed");
+        log.info("Loaded", book);
+        log.info("Loaded", (Object) book);
+
+        assertThat(testAppender.drainCount(), equalTo(2));
+    }
+
+    @Test
+    public void testKindsWithinCapacityAreRemembered() {
+        Logger log = new SuppressingLogger(LoggerFactory.getLogger(SuppressingLoggerTest.class),
+                1, TimeUnit.MINUTES, 16);
+
+        for (int round = 0; round < 2; round++) {
+            for (int kind = 0; kind < 12; kind++) {
+                log.info("Kind " + kind);
+            }
+        }
+
+        assertThat(testAppender.drainCount(), equalTo(12));
+    }
+
+    @Test
+    public void testEvictedKindsAreEmittedAgain() {
+        Logger log = new SuppressingLogger(LoggerFactory.getLogger(SuppressingLoggerTest.class),
+                1, TimeUnit.MINUTES, 1);
+
+        log.info("First {}", 1);
+        log.info("Second {}", 2);
+        log.info("First {}", 3);
+
+        assertThat(testAppender.drainCount(), equalTo(3));
+    }
+}
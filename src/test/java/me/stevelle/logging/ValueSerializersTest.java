@@ -0,0 +1,69 @@
+package me.stevelle.logging;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import me.stevelle.logging.testSupport.Temperature;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+public class ValueSerializersTest {
+
+    @Test
+    public void testCommonTypesAreWrittenDirectly() throws IOException {
+        assertThat(json("id", new UUID(0, 1)), equalTo("{\"id\":\"00000000-0000-0000-0000-000000000001\"}"));
+        assertThat(json("at", Instant.ofEpochSecond(0)), equalTo("{\"at\":\"1970-01-01T00:00:00Z\"}"));
+        assertThat(json("took", Duration.ofSeconds(90)), equalTo("{\"took\":\"PT1M30S\"}"));
+        assertThat(json("price", new BigDecimal("1.50")), equalTo("{\"price\":1.50}"));
+        assertThat(json("unit", TimeUnit.SECONDS), equalTo("{\"unit\":\"SECONDS\"}"));
+        assertThat(json("name", new StringBuilder("Foo")), equalTo("{\"name\":\"Foo\"}"));
+    }
+
+    @Test
+    public void testSerializersAreResolvedOncePerClass() {
+        ValueSerializers.Dispatch dispatch = ValueSerializers.dispatch(UUID.class);
+
+        assertThat(dispatch.kind, equalTo(ValueSerializers.Dispatch.SERIALIZED));
+        assertThat(ValueSerializers.dispatch(UUID.class), is(sameInstance(dispatch)));
+        assertThat(ValueSerializers.dispatch(Object.class).kind, equalTo(ValueSerializers.Dispatch.OTHER));
+    }
+
+    @Test
+    public void testServiceLoaderSerializerIsUsed() throws IOException {
+        assertThat(json("outside", new Temperature(21.5)), equalTo("{\"outside\":\"21.5C\"}"));
+    }
+
+    @Test
+    public void testRegisteredSerializerTakesPrecedence() throws IOException {
+        ValueSerializers.register(new ValueSerializer<Version>() {
+            @Override
+            public Class<Version> type() {
+                return Version.class;
+            }
+
+            @Override
+            public void write(Version value, JsonGenerator generator) throws IOException {
+                generator.writeNumber(value.ordinal() + 1);
+            }
+        });
+
+        assertThat(json("version", Version.SECOND), equalTo("{\"version\":2}"));
+        assertThat(json("unit", TimeUnit.SECONDS), equalTo("{\"unit\":\"SECONDS\"}"));
+        assertThat(FuncLogger.Common.structure("version", Version.SECOND).toString(), equalTo("version=SECOND"));
+    }
+
+    private static String json(String label, Object value) throws IOException {
+        return LoggableTest.json(FuncLogger.Common.structure(label, value));
+    }
+
+    private enum Version {
+        FIRST, SECOND
+    }
+}
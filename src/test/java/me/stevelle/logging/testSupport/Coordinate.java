@@ -0,0 +1,38 @@
+package me.stevelle.logging.testSupport;
+
+import me.stevelle.logging.Loggable;
+
+/**
+ * Just a testing object which implements Loggable with the default representation.
+ */
+public class Coordinate implements Loggable {
+
+    public final Double x;
+    public final Double y;
+    private final String label;
+    private final boolean origin;
+
+    public Coordinate(Double x, Double y, String label) {
+        this.x = x;
+        this.y = y;
+        this.label = label;
+        this.origin = x == 0.0 && y == 0.0;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public boolean isOrigin() {
+        return origin;
+    }
+
+    public String getURL() {
+        return "geo:" + x + "," + y;
+    }
+
+    @Override
+    public String toString() {
+        return "Coordinate{" + label + '}';
+    }
+}
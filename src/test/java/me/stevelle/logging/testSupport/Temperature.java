@@ -0,0 +1,35 @@
+package me.stevelle.logging.testSupport;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import me.stevelle.logging.ValueSerializer;
+
+import java.io.IOException;
+
+/**
+ * Just a testing value with a serializer registered through ServiceLoader.
+ */
+public class Temperature {
+
+    public final double celsius;
+
+    public Temperature(double celsius) {
+        this.celsius = celsius;
+    }
+
+    @Override
+    public String toString() {
+        return celsius + "C";
+    }
+
+    public static class Serializer implements ValueSerializer<Temperature> {
+        @Override
+        public Class<Temperature> type() {
+            return Temperature.class;
+        }
+
+        @Override
+        public void write(Temperature value, JsonGenerator generator) throws IOException {
+            generator.writeString(value.toString());
+        }
+    }
+}
@@ -18,6 +18,12 @@ public class TestAppender extends AppenderBase<ILoggingEvent> {
         events.clear();
     }
 
+    public int drainCount() {
+        int count = events.size();
+        events.clear();
+        return count;
+    }
+
     public ILoggingEvent getLastEvent() {
         if (events.empty()) {
             return null;